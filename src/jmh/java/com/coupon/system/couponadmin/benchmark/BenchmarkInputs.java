@@ -0,0 +1,57 @@
+package com.coupon.system.couponadmin.benchmark;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크 입력 생성기
+ * 시드를 고정해 실행할 때마다 같은 파일(같은 바이트)이 만들어진다 (결과를 서로 비교할 수 있도록)
+ */
+final class BenchmarkInputs {
+
+    static final long SEED = 20240501L;
+
+    private BenchmarkInputs() {
+    }
+
+    /* 실제 업로드와 비슷하게 8~12자리 숫자 customer_id, 약 1%는 형식 오류 행 */
+    static String[] customerIds(int rows) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        String[] ids = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            ids[i] = random.nextInt(100) == 0
+                    ? "invalid-" + i
+                    : Long.toString(random.nextLong(10_000_000L, 1_000_000_000_000L));
+        }
+        return ids;
+    }
+
+    static byte[] csv(String[] customerIds) {
+        StringBuilder csv = new StringBuilder(customerIds.length * 13 + 16).append("customer_id\n");
+        for (String id : customerIds) {
+            csv.append(id).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] xlsx(String[] customerIds) throws IOException {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet();
+            sheet.createRow(0).createCell(0).setCellValue("customer_id");
+            for (int i = 0; i < customerIds.length; i++) {
+                Row row = sheet.createRow(i + 1);
+                row.createCell(0).setCellValue(customerIds[i]);
+            }
+            workbook.write(out);
+            workbook.dispose();
+            return out.toByteArray();
+        }
+    }
+}
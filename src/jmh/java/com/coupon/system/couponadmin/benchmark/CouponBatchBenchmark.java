@@ -0,0 +1,64 @@
+package com.coupon.system.couponadmin.benchmark;
+
+import com.coupon.system.couponadmin.domain.coupon.Coupon;
+import com.coupon.system.couponadmin.util.GenericBatchProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 발급 루프에서 DB 쓰기를 뺀 나머지 비용 (행 1개당 시간)
+ * - couponConstruction : Coupon 엔티티 생성
+ * - batchProcessor : Coupon 생성 + GenericBatchProcessor에 쌓고 batchSize마다 넘기기
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CouponBatchBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    @Param({"500", "1000", "5000"})
+    int batchSize;
+
+    private String[] customerIds;
+    private String[] couponCodes;
+    private final LocalDateTime expiresAt = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Setup
+    public void setUp() {
+        customerIds = BenchmarkInputs.customerIds(ROWS);
+        couponCodes = new String[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            couponCodes[i] = String.format("%010d", i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void couponConstruction(Blackhole blackhole) {
+        for (int i = 0; i < ROWS; i++) {
+            blackhole.consume(new Coupon(couponCodes[i], customerIds[i], 1L, "CAMPAIGN", expiresAt));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void batchProcessor(Blackhole blackhole) {
+        GenericBatchProcessor<Coupon> processor = new GenericBatchProcessor<>(batchSize, blackhole::consume);
+        for (int i = 0; i < ROWS; i++) {
+            processor.add(new Coupon(couponCodes[i], customerIds[i], 1L, "CAMPAIGN", expiresAt));
+        }
+        processor.flush();
+    }
+}
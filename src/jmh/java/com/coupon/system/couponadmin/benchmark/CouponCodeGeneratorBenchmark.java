@@ -0,0 +1,60 @@
+package com.coupon.system.couponadmin.benchmark;
+
+import com.coupon.system.couponadmin.service.coupon.code.CouponCodeBlockAllocator;
+import com.coupon.system.couponadmin.service.coupon.code.SequenceCouponCodeGenerator;
+import com.coupon.system.couponadmin.service.coupon.code.UuidCouponCodeGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쿠폰 코드 1개 생성 처리량 (발급 스레드 4개가 동시에 생성)
+ * DB INSERT(유니크 인덱스 삽입) 비용은 CouponCodeInsertBenchmark에서 따로 잰다
+ * 시퀀스 블록 예약은 DB 대신 메모리 카운터로 대신한다 (블록 안에서 코드를 만드는 비용만 측정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class CouponCodeGeneratorBenchmark {
+
+    private final SequenceCouponCodeGenerator sequenceGenerator =
+            new SequenceCouponCodeGenerator(new InMemoryBlockAllocator(), 10_000, "benchmark-secret-benchmark-secret-0123");
+    private final UuidCouponCodeGenerator uuidGenerator = new UuidCouponCodeGenerator();
+
+    @Benchmark
+    public String sequence() {
+        return sequenceGenerator.nextCode();
+    }
+
+    @Benchmark
+    public String uuid() {
+        return uuidGenerator.nextCode();
+    }
+
+    static final class InMemoryBlockAllocator extends CouponCodeBlockAllocator {
+
+        private final AtomicLong next = new AtomicLong();
+
+        InMemoryBlockAllocator() {
+            super(null, null);
+        }
+
+        @Override
+        public synchronized long reserve(int blockSize, long alignment) {
+            long start = next.get();
+            if (alignment > 0 && start % alignment != 0) {
+                start = (start / alignment + 1) * alignment;
+            }
+            next.set(start + blockSize);
+            return start;
+        }
+    }
+}
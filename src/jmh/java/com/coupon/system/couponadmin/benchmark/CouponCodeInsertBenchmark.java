@@ -0,0 +1,102 @@
+package com.coupon.system.couponadmin.benchmark;
+
+import com.coupon.system.couponadmin.domain.coupon.Coupon;
+import com.coupon.system.couponadmin.domain.coupon.CouponJdbcRepository;
+import com.coupon.system.couponadmin.service.coupon.code.CouponCodeGenerator;
+import com.coupon.system.couponadmin.service.coupon.code.CouponCodeGeneratorType;
+import com.coupon.system.couponadmin.service.coupon.code.SequenceCouponCodeGenerator;
+import com.coupon.system.couponadmin.service.coupon.code.UuidCouponCodeGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 코드 생성기별 쿠폰 INSERT 비용 (행 1개당 시간, 유니크 coupon_code 인덱스 삽입 포함)
+ * - 이미 existingRows행이 있는 coupon 테이블(임베디드 H2, MySQL 모드)에 CouponJdbcRepository로 BATCH행씩 저장한다
+ * - 생성 비용만 재는 CouponCodeGeneratorBenchmark와 달리, 키 길이(17자/36자)와 삽입 위치 분포가 인덱스에 주는 영향을 본다
+ * - H2의 B-tree는 InnoDB 클러스터드 인덱스와 페이지 구조가 달라 절대값보다는 생성기 간 비교로 본다 (MySQL 수치는 부하 테스트로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CouponCodeInsertBenchmark {
+
+    private static final int BATCH = 1000;
+    private static final String SECRET = "benchmark-secret-benchmark-secret-0123";
+
+    @Param({"SEQUENCE", "UUID"})
+    CouponCodeGeneratorType generator;
+
+    @Param({"300000"})
+    int existingRows;
+
+    private SingleConnectionDataSource dataSource;
+    private CouponJdbcRepository couponJdbcRepository;
+    private CouponCodeGenerator codeGenerator;
+    private final LocalDateTime expiresAt = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private long customerSequence = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:coupon-insert-" + generator + ";MODE=MYSQL;DB_CLOSE_DELAY=-1", "sa", "", true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        //Coupon 엔티티와 같은 컬럼, 같은 인덱스
+        jdbcTemplate.execute("create table coupon (" +
+                "id bigint auto_increment primary key, " +
+                "coupon_code varchar(50) not null, " +
+                "customer_id varchar(100) not null, " +
+                "coupon_status varchar(20) not null, " +
+                "job_id bigint not null, " +
+                "campaign_code varchar(50), " +
+                "issued_at timestamp(6) not null, " +
+                "expires_at timestamp(6) not null, " +
+                "constraint uk_coupon_coupon_code unique (coupon_code))");
+        jdbcTemplate.execute("create index idx_coupon_campaign_customer on coupon (campaign_code, customer_id)");
+        jdbcTemplate.execute("create index idx_coupon_job_id on coupon (job_id)");
+
+        couponJdbcRepository = new CouponJdbcRepository(jdbcTemplate, 200);
+        codeGenerator = (generator == CouponCodeGeneratorType.UUID)
+                ? new UuidCouponCodeGenerator()
+                : new SequenceCouponCodeGenerator(new CouponCodeGeneratorBenchmark.InMemoryBlockAllocator(), 10_000, SECRET);
+
+        for (int i = 0; i < existingRows; i += BATCH) {
+            couponJdbcRepository.bulkInsert(nextBatch());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        new JdbcTemplate(dataSource).execute("SHUTDOWN");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void insert() {
+        couponJdbcRepository.bulkInsert(nextBatch());
+    }
+
+    private List<Coupon> nextBatch() {
+        List<Coupon> coupons = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            coupons.add(new Coupon(codeGenerator.nextCode(), "customer-" + customerSequence++, 1L, "CAMPAIGN", expiresAt));
+        }
+        return coupons;
+    }
+}
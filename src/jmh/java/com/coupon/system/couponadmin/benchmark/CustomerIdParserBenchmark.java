@@ -0,0 +1,90 @@
+package com.coupon.system.couponadmin.benchmark;
+
+import com.coupon.system.couponadmin.service.coupon.parser.CsvCustomerIdParser;
+import com.coupon.system.couponadmin.service.coupon.parser.CustomerIdRangeHandler;
+import com.coupon.system.couponadmin.service.coupon.parser.MappedCsvCustomerIdParser;
+import com.coupon.system.couponadmin.service.coupon.parser.XlsxCustomerIdParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 파일 한 개를 끝까지 파싱하는 시간 (행 수는 rows)
+ * - csvStream : 스트림 파서 (S3 업로드, 압축 파일이 타는 경로)
+ * - csvMapped : 메모리 매핑 병렬 파서 (로컬 저장소의 큰 CSV)
+ * - xlsxStreaming : excel-streaming-reader 행 순회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CustomerIdParserBenchmark {
+
+    @Param({"100000", "1000000"})
+    int rows;
+
+    private byte[] csv;
+    private byte[] xlsx;
+    private Path csvFile;
+    private CsvCustomerIdParser csvParser;
+    private MappedCsvCustomerIdParser mappedParser;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String[] customerIds = BenchmarkInputs.customerIds(rows);
+        csv = BenchmarkInputs.csv(customerIds);
+        xlsx = BenchmarkInputs.xlsx(customerIds);
+        csvFile = Files.createTempFile("customer-ids-", ".csv");
+        Files.write(csvFile, csv);
+
+        csvParser = new CsvCustomerIdParser(StandardCharsets.UTF_8);
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        mappedParser = new MappedCsvCustomerIdParser(csvParser, pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pool.shutdownNow();
+        Files.deleteIfExists(csvFile);
+    }
+
+    @Benchmark
+    public void csvStream(Blackhole blackhole) throws IOException {
+        csvParser.parse(new ByteArrayInputStream(csv), (rowNum, customerId) -> blackhole.consume(customerId));
+    }
+
+    @Benchmark
+    public void csvMapped(Blackhole blackhole) throws IOException {
+        mappedParser.parse(csvFile, start -> new CustomerIdRangeHandler() {
+            @Override
+            public void onCustomerId(long rowNum, String customerId) {
+                blackhole.consume(customerId);
+            }
+
+            @Override
+            public void onRangeEnd() {
+            }
+        }, blackhole::consume);
+    }
+
+    @Benchmark
+    public void xlsxStreaming(Blackhole blackhole) throws IOException {
+        new XlsxCustomerIdParser().parse(new ByteArrayInputStream(xlsx), (rowNum, customerId) -> blackhole.consume(customerId));
+    }
+}
@@ -0,0 +1,169 @@
+package com.coupon.system.couponadmin.loadtest;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트용 합성 대상자 파일 생성기
+ * - 같은 설정(행 수, 비율, 시드)이면 항상 같은 파일이 만들어지므로, 이미 있으면 다시 만들지 않는다
+ * - 행을 하나씩 바로 파일에 쓰므로 5천만 행이어도 메모리에 모으지 않는다 (xlsx는 SXSSF 창 100행)
+ * - 중복 행은 앞에서 나온 고객 ID 중 하나를 다시 쓰고, 빈 행은 customer_id 칸을 비운다
+ */
+final class AudienceFileGenerator {
+
+    static final long XLSX_MAX_DATA_ROWS = 1_048_575; // 시트 최대 행 수 - 헤더
+    private static final long CUSTOMER_ID_BASE = 10_000_000L;
+
+    private AudienceFileGenerator() {
+    }
+
+    enum Format {
+        CSV(".csv"), XLSX(".xlsx");
+
+        final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+    }
+
+    /**
+     * @param rows 헤더를 뺀 데이터 행 수 (빈 행 포함)
+     * @param duplicateRatio 앞에서 나온 고객 ID를 다시 쓰는 행의 비율
+     * @param blankRatio customer_id가 빈 행의 비율
+     */
+    record Spec(Format format, long rows, double duplicateRatio, double blankRatio, long seed) {
+
+        Spec {
+            if (format == Format.XLSX && rows > XLSX_MAX_DATA_ROWS) {
+                throw new IllegalArgumentException("xlsx는 시트 한 장에 " + XLSX_MAX_DATA_ROWS + "행까지만 담을 수 있습니다: " + rows);
+            }
+            if (duplicateRatio < 0 || blankRatio < 0 || duplicateRatio + blankRatio > 1) {
+                throw new IllegalArgumentException("비율은 0 이상이고 합이 1 이하여야 합니다.");
+            }
+        }
+
+        String fileName() {
+            return "audience-" + rows + "-d" + duplicateRatio + "-b" + blankRatio + "-s" + seed + format.extension;
+        }
+    }
+
+    /* 생성한 파일과 행 구성 (기대 결과 확인용) */
+    record GeneratedFile(Path path, long customerRows, long duplicateRows, long blankRows) {
+    }
+
+    static GeneratedFile generate(Path directory, Spec spec) throws IOException {
+        Files.createDirectories(directory);
+        Path path = directory.resolve(spec.fileName());
+        RowSource rows = new RowSource(spec);
+        if (Files.exists(path)) {
+            rows.skipAll(); // 같은 시드면 같은 행 구성이므로 건수만 다시 센다
+            return rows.result(path);
+        }
+
+        Path tmp = Files.createTempFile(directory, "audience-", ".tmp");
+        try {
+            if (spec.format() == Format.CSV) {
+                writeCsv(tmp, rows);
+            } else {
+                writeXlsx(tmp, rows);
+            }
+            Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return rows.result(path);
+    }
+
+    private static void writeCsv(Path path, RowSource rows) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("customer_id\n");
+            while (rows.hasNext()) {
+                String customerId = rows.next();
+                if (customerId != null) {
+                    writer.write(customerId);
+                }
+                writer.write('\n');
+            }
+        }
+    }
+
+    private static void writeXlsx(Path path, RowSource rows) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+        try (OutputStream out = Files.newOutputStream(path)) {
+            Sheet sheet = workbook.createSheet();
+            sheet.createRow(0).createCell(0).setCellValue("customer_id");
+            int rowNum = 1;
+            while (rows.hasNext()) {
+                String customerId = rows.next();
+                Row row = sheet.createRow(rowNum++);
+                if (customerId != null) {
+                    row.createCell(0).setCellValue(customerId);
+                }
+            }
+            workbook.write(out);
+        } finally {
+            workbook.dispose(); // SXSSF 임시 파일 삭제
+            workbook.close();
+        }
+    }
+
+    /**
+     * 시드로 정해지는 행 순서 : 빈 행(null) / 앞에서 나온 ID 재사용 / 새 ID
+     * 새 ID는 CUSTOMER_ID_BASE부터 1씩 늘어나므로, 재사용할 ID는 번호만 뽑으면 된다 (지난 ID를 저장하지 않음)
+     */
+    private static final class RowSource {
+
+        private final Spec spec;
+        private final SplittableRandom random;
+        private long emitted = 0;
+        private long customerRows = 0;
+        private long uniqueIds = 0;
+        private long duplicateRows = 0;
+        private long blankRows = 0;
+
+        RowSource(Spec spec) {
+            this.spec = spec;
+            this.random = new SplittableRandom(spec.seed());
+        }
+
+        boolean hasNext() {
+            return emitted < spec.rows();
+        }
+
+        String next() {
+            emitted++;
+            double roll = random.nextDouble();
+            if (roll < spec.blankRatio()) {
+                blankRows++;
+                return null;
+            }
+            customerRows++;
+            if (roll < spec.blankRatio() + spec.duplicateRatio() && uniqueIds > 0) {
+                duplicateRows++;
+                return Long.toString(CUSTOMER_ID_BASE + random.nextLong(uniqueIds));
+            }
+            return Long.toString(CUSTOMER_ID_BASE + uniqueIds++);
+        }
+
+        void skipAll() {
+            while (hasNext()) {
+                next();
+            }
+        }
+
+        GeneratedFile result(Path path) {
+            return new GeneratedFile(path, customerRows, duplicateRows, blankRows);
+        }
+    }
+}
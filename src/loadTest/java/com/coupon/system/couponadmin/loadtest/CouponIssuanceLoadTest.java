@@ -0,0 +1,193 @@
+package com.coupon.system.couponadmin.loadtest;
+
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJob;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobStatus;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceOptions;
+import com.coupon.system.couponadmin.loadtest.AudienceFileGenerator.Format;
+import com.coupon.system.couponadmin.loadtest.AudienceFileGenerator.GeneratedFile;
+import com.coupon.system.couponadmin.loadtest.AudienceFileGenerator.Spec;
+import com.coupon.system.couponadmin.security.AdminPrincipal;
+import com.coupon.system.couponadmin.service.coupon.CouponIssuanceService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 발급 파이프라인 부하 테스트 (./gradlew loadTest, 설정은 build.gradle 참고)
+ * 합성 파일을 로컬 저장소에 만들고 createCouponIssuanceJob으로 작업을 만든 뒤,
+ * 발급 실행기(IssuanceJobScheduler)가 issueCoupons를 끝낼 때까지 기다리며 다음을 잰다
+ * - 처리량 : 파일의 customer_id 행 수 / 작업 생성부터 완료까지 걸린 시간
+ * - 최대 힙 : 힙 메모리 풀별 최대 사용량의 합 (풀마다 최대 시점이 다를 수 있어 상한값)
+ * - GC : 실행 중 GC 횟수와 누적 시간
+ * - 커밋 지연 : coupon.issuance.chunk.commit 타이머의 p50/p95/p99
+ * 결과는 표준 출력과 loadtest.report-dir/results.csv(실행마다 한 줄)에 남긴다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "file.storage=local",
+        "file.upload-dir=${loadtest.file-dir:build/loadtest}",
+        "jwt.secret-key=${JWT_SECRET_KEY:load-test-secret-key-load-test-secret-key}",
+        "coupon.issuance.code.secret=${COUPON_CODE_SECRET:load-test-coupon-code-secret-0123456789}",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.h2.console.enabled=false",
+        // 타이머 백분위는 기본 2분 창으로 계산되므로, 실행 전체 구간으로 늘린다
+        "management.metrics.distribution.expiry[coupon.issuance.chunk.commit]=7d",
+        "management.metrics.distribution.buffer-length[coupon.issuance.chunk.commit]=1"
+})
+class CouponIssuanceLoadTest {
+
+    private static final long ADMIN_ID = 1L;
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(200);
+
+    @Autowired
+    private CouponIssuanceService couponIssuanceService;
+    @Autowired
+    private CouponIssuanceJobRepository couponIssuanceJobRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private Environment environment;
+
+    @Test
+    void 합성_대상자_파일로_발급_파이프라인_처리량을_측정한다() throws Exception {
+        Spec spec = new Spec(
+                Format.valueOf(property("loadtest.format", "csv").toUpperCase(Locale.ROOT)),
+                Long.parseLong(property("loadtest.rows", "100000")),
+                Double.parseDouble(property("loadtest.duplicate-ratio", "0.0")),
+                Double.parseDouble(property("loadtest.blank-ratio", "0.0")),
+                Long.parseLong(property("loadtest.seed", "42")));
+        boolean deduplicate = Boolean.parseBoolean(property("loadtest.dedupe", "false"));
+        Duration timeout = Duration.ofMinutes(Long.parseLong(property("loadtest.timeout-minutes", "120")));
+
+        //1. 대상자 파일 준비 (같은 설정이면 이전에 만든 파일 재사용)
+        GeneratedFile file = AudienceFileGenerator.generate(Path.of(property("loadtest.file-dir", "build/loadtest")), spec);
+        System.out.printf("[loadtest] 파일 %s (%,d bytes, customer_id %,d행, 중복 %,d행, 빈 행 %,d행)%n",
+                file.path().getFileName(), Files.size(file.path()), file.customerRows(), file.duplicateRows(), file.blankRows());
+
+        //2. 측정 시작점 : 힙 최대치 초기화, GC 누적값 기록
+        System.gc();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+        long gcCountBefore = gcCount();
+        long gcMillisBefore = gcMillis();
+        long startedAt = System.nanoTime();
+
+        //3. 실제 API와 같은 경로로 작업 생성 -> 커밋 후 발급 실행기가 issueCoupons 실행
+        CouponIssuanceJob created = couponIssuanceService.createCouponIssuanceJob(
+                file.path().getFileName().toString(),
+                file.path().toAbsolutePath().toString(),
+                new AdminPrincipal(ADMIN_ID, "loadtest"),
+                new CouponIssuanceOptions(deduplicate, null, false));
+        CouponIssuanceJob job = awaitTerminal(created.getId(), timeout);
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        //4. 결과 집계
+        double elapsedSeconds = elapsedNanos / 1e9;
+        Timer commitTimer = meterRegistry.get("coupon.issuance.chunk.commit").timer();
+        HistogramSnapshot commits = commitTimer.takeSnapshot();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("timestamp", LocalDateTime.now());
+        result.put("profile", String.join("+", environment.getActiveProfiles()));
+        result.put("format", spec.format());
+        result.put("rows", spec.rows());
+        result.put("duplicate_ratio", spec.duplicateRatio());
+        result.put("blank_ratio", spec.blankRatio());
+        result.put("dedupe", deduplicate);
+        result.put("file_bytes", Files.size(file.path()));
+        result.put("status", job.getJobStatus());
+        result.put("total", job.getTotalCount());
+        result.put("success", job.getSuccessCount());
+        result.put("fail", job.getFailCount());
+        result.put("elapsed_s", format(elapsedSeconds));
+        result.put("rows_per_s", format(file.customerRows() / elapsedSeconds));
+        result.put("peak_heap_mb", peakHeapBytes() / (1024 * 1024));
+        result.put("gc_count", gcCount() - gcCountBefore);
+        result.put("gc_ms", gcMillis() - gcMillisBefore);
+        result.put("chunks", commits.count());
+        result.put("commit_mean_ms", format(commits.mean(TimeUnit.MILLISECONDS)));
+        for (ValueAtPercentile percentile : commits.percentileValues()) {
+            result.put("commit_p" + Math.round(percentile.percentile() * 100) + "_ms",
+                    format(percentile.value(TimeUnit.MILLISECONDS)));
+        }
+        result.put("commit_max_ms", format(commits.max(TimeUnit.MILLISECONDS)));
+
+        System.out.println("[loadtest] 결과");
+        result.forEach((key, value) -> System.out.printf("  %-16s %s%n", key, value));
+        appendReport(result);
+
+        assertThat(job.getJobStatus()).isEqualTo(CouponIssuanceJobStatus.COMPLETED);
+        assertThat(job.getTotalCount()).isEqualTo(file.customerRows());
+        assertThat(job.getSuccessCount()).isEqualTo(deduplicate ? file.customerRows() - file.duplicateRows() : file.customerRows());
+    }
+
+    private CouponIssuanceJob awaitTerminal(Long jobId, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            CouponIssuanceJob job = couponIssuanceJobRepository.findById(jobId).orElseThrow();
+            if (job.getJobStatus() == CouponIssuanceJobStatus.COMPLETED || job.getJobStatus() == CouponIssuanceJobStatus.FAILED) {
+                return job;
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        throw new IllegalStateException("작업 " + jobId + "이 " + timeout + " 안에 끝나지 않았습니다.");
+    }
+
+    private void appendReport(Map<String, Object> result) throws IOException {
+        Path report = Path.of(property("loadtest.report-dir", "build/reports/loadtest")).resolve("results.csv");
+        Files.createDirectories(report.getParent());
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(report)) {
+            lines.append(String.join(",", result.keySet())).append('\n');
+        }
+        lines.append(result.values().stream().map(String::valueOf).collect(Collectors.joining(","))).append('\n');
+        Files.writeString(report, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private String property(String key, String defaultValue) {
+        return environment.getProperty(key, defaultValue);
+    }
+
+    private static long peakHeapBytes() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+}
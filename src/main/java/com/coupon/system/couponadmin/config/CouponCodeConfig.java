@@ -0,0 +1,34 @@
+package com.coupon.system.couponadmin.config;
+
+import com.coupon.system.couponadmin.service.coupon.code.CouponCodeBlockAllocator;
+import com.coupon.system.couponadmin.service.coupon.code.CouponCodeGenerator;
+import com.coupon.system.couponadmin.service.coupon.code.CouponCodeGeneratorType;
+import com.coupon.system.couponadmin.service.coupon.code.SequenceCouponCodeGenerator;
+import com.coupon.system.couponadmin.service.coupon.code.UuidCouponCodeGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CouponCodeConfig {
+
+    @Value("${coupon.issuance.code.generator:SEQUENCE}")
+    private CouponCodeGeneratorType generatorType;
+
+    @Value("${coupon.issuance.code.block-size:10000}")
+    private int blockSize;
+
+    @Value("${coupon.issuance.code.secret:}")
+    private String secret;
+
+    /**
+     * SEQUENCE인데 비밀키가 없거나 짧으면 SequenceCouponCodeGenerator 생성에서 실패해 애플리케이션이 시작되지 않는다
+     */
+    @Bean
+    public CouponCodeGenerator couponCodeGenerator(CouponCodeBlockAllocator couponCodeBlockAllocator) {
+        if (generatorType == CouponCodeGeneratorType.UUID) {
+            return new UuidCouponCodeGenerator();
+        }
+        return new SequenceCouponCodeGenerator(couponCodeBlockAllocator, blockSize, secret);
+    }
+}
@@ -58,6 +58,10 @@ public class SecurityConfig {
                         .requestMatchers("/coupons/**").hasAnyRole("ADMIN", "SUPER_ADMIN")
                         .requestMatchers("/main.html").permitAll()
 
+                        // 운영 지표 (health는 로드밸런서 확인용으로 공개)
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAnyRole("ADMIN", "SUPER_ADMIN")
+
                         /* 추가 예정 기능 : 아직 개발 안함
                         // 관리자 계정 조회
                         .requestMatchers(HttpMethod.GET, "/admins", "/admins/**").hasAnyRole("ADMIN", "SUPER_ADMIN")
@@ -1,55 +1,65 @@
 package com.coupon.system.couponadmin.controller.coupon;
 
 import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJob;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobStatus;
 import com.coupon.system.couponadmin.dto.couponissurancejob.request.CreateCouponIssuanceJobRequest;
 import com.coupon.system.couponadmin.dto.couponissurancejob.response.CreateCouponIssuanceJobResponse;
 import com.coupon.system.couponadmin.dto.couponissurancejob.response.GetPresignedUrlResponse;
-import com.coupon.system.couponadmin.dto.couponissurancejob.response.GetAllCouponIssuanceJobsResponse;
+import com.coupon.system.couponadmin.dto.couponissurancejob.response.GetCouponIssuanceJobsPageResponse;
 import com.coupon.system.couponadmin.dto.file.DownloadCouponIssuanceFileResponse;
 import com.coupon.system.couponadmin.exception.coupon.InvalidFileException;
+import com.coupon.system.couponadmin.security.AdminPrincipal;
+import com.coupon.system.couponadmin.service.coupon.CouponExportService;
 import com.coupon.system.couponadmin.service.coupon.CouponIssuanceService;
 import com.coupon.system.couponadmin.service.file.FileService;
+import com.coupon.system.couponadmin.util.LocalFileResponder;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/coupons/jobs")
 public class CouponIssuanceController {
 
     private final CouponIssuanceService couponIssuanceService;
+    private final CouponExportService couponExportService;
 
-    public CouponIssuanceController(CouponIssuanceService couponIssuanceService) {
+    public CouponIssuanceController(CouponIssuanceService couponIssuanceService,
+                                    CouponExportService couponExportService) {
         this.couponIssuanceService = couponIssuanceService;
+        this.couponExportService = couponExportService;
     }
 
 
     /**
      * API 1: S3 업로드 완료 보고 및 쿠폰 발행 작업 생성 요청
      * @param request (S3 파일 경로와 원본 파일명이 담긴 DTO)
-     * @param authentication (현재 로그인한 사용자 정보)
+     * @param admin (현재 로그인한 관리자, 액세스 토큰에서 꺼냄)
      * @return 생성된 Job 객체 (JSON)
      */
     @PostMapping
     public ResponseEntity<CreateCouponIssuanceJobResponse> createCouponIssuanceJob(
             @Valid @RequestBody CreateCouponIssuanceJobRequest request,
-            Authentication authentication) throws IOException {
-
-        String adminName = authentication.getName();
+            @AuthenticationPrincipal AdminPrincipal admin) throws IOException {
 
         CouponIssuanceJob savedJob = couponIssuanceService.createCouponIssuanceJob(
                 request.originalFileName(),
                 request.savedFilePath(),
-                adminName
+                admin,
+                request.toOptions()
         );
 
         CreateCouponIssuanceJobResponse response = CreateCouponIssuanceJobResponse.from(savedJob);
@@ -58,38 +68,98 @@ public class CouponIssuanceController {
     }
 
     /**
-     * API 2: 작업 목록 조회
-     * @return Job 리스트 (JSON)
+     * API 2: 작업 목록 조회 (최신순, 키셋 페이지네이션)
+     * @param after 이전 응답의 nextCursor (첫 페이지면 생략)
+     * @param limit 페이지 크기 (기본 50, 최대 200)
+     * @param status 작업 상태 필터
+     * @param from 요청일 시작 (yyyy-MM-dd, 포함)
+     * @param to 요청일 끝 (yyyy-MM-dd, 포함)
+     * @return Job 목록과 다음 페이지 커서 (JSON)
      */
     @GetMapping
-    public ResponseEntity<List<GetAllCouponIssuanceJobsResponse>> getAllCouponIssuanceJobs() {
-
-        List<CouponIssuanceJob> jobs = couponIssuanceService.getAllCouponIssuanceJobs();
+    public ResponseEntity<GetCouponIssuanceJobsPageResponse> getCouponIssuanceJobs(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) CouponIssuanceJobStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
 
-        List<GetAllCouponIssuanceJobsResponse> response = jobs.stream()
-                .map(GetAllCouponIssuanceJobsResponse::from)
-                .collect(Collectors.toList());
+        GetCouponIssuanceJobsPageResponse response =
+                couponIssuanceService.getCouponIssuanceJobs(after, limit, status, from, to);
 
         return ResponseEntity.ok(response);
     }
 
     /**
      * API 3: 업로드했던 원본 파일 다운로드
+     * - S3 : 짧은 유효기간의 Presigned GET URL로 리다이렉트 (파일이 앱 서버를 거치지 않음)
+     * - 로컬 : Range/ETag를 지원하며 sendfile(zero-copy)로 전송
      * @param jobId 다운로드할 Job ID
-     * @return 파일 Resource
      */
     @GetMapping("/{jobId}/file")
-    public ResponseEntity<Resource> downloadUploadedFile(@PathVariable Long jobId)
-            throws MalformedURLException {
+    public void downloadUploadedFile(@PathVariable Long jobId,
+                                     HttpServletRequest request, HttpServletResponse response) throws IOException {
 
         CouponIssuanceService.FileDownloadInfo uploadedFile = couponIssuanceService.downloadCouponIssuanceFile(jobId);
+        sendFile(uploadedFile, request, response);
+    }
+
+    /**
+     * API 4: 작업 진행 상황 실시간 구독 (Server-Sent Events)
+     * 처리 건수, 초당 처리 행 수, 남은 예상 시간을 주기적으로 보내고 작업이 끝나면 연결을 닫는다
+     * @param jobId 구독할 Job ID
+     * @return SSE 스트림
+     */
+    @GetMapping(value = "/{jobId}/progress", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProgress(@PathVariable Long jobId) {
+        return couponIssuanceService.subscribeProgress(jobId);
+    }
 
-        Resource resource = uploadedFile.resource();
-        String originalFileName = uploadedFile.originalFileName(); // 원본 파일명으로 다운로드되도록 헤더 설정
+    /**
+     * API 5: 작업이 발급한 쿠폰 목록 내보내기 (CSV, 선택적으로 gzip)
+     * DB 커서에서 읽는 대로 응답에 쓰므로 건수가 많아도 서버 메모리에 목록을 모으지 않는다
+     * @param jobId 완료된 Job ID (완료 전이면 409)
+     * @param gzip true면 .csv.gz로 압축해서 보냄
+     */
+    @GetMapping("/{jobId}/coupons/export")
+    public void exportIssuedCoupons(@PathVariable Long jobId,
+                                    @RequestParam(defaultValue = "false") boolean gzip,
+                                    HttpServletResponse response) throws IOException {
+
+        String fileName = couponExportService.prepareExport(jobId, gzip);
+
+        response.setContentType(gzip ? "application/gzip" : "text/csv; charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build().toString());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        couponExportService.export(jobId, response.getOutputStream(), gzip);
+    }
+
+    /**
+     * API 6: 거절된 행 보고서 다운로드 (CSV : row_position, customer_id, reason)
+     * 파일 형식 오류, 파일 안 중복, 저장 실패로 골라낸 행이 담기며 원본 파일 다운로드와 같은 방식으로 내려준다
+     * row_position은 Excel이면 행 번호, CSV면 레코드가 시작하는 바이트 오프셋
+     * @param jobId 다운로드할 Job ID (거절된 행이 없으면 404)
+     */
+    @GetMapping("/{jobId}/rejected-rows")
+    public void downloadRejectedRows(@PathVariable Long jobId,
+                                     HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        CouponIssuanceService.FileDownloadInfo report = couponIssuanceService.downloadRejectedRowsFile(jobId);
+        sendFile(report, request, response);
+    }
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + originalFileName + "\"")
-                .body(resource);
+    /* 저장소가 직접 내려줄 수 있으면 리다이렉트, 아니면 로컬 파일을 보낸다 */
+    private void sendFile(CouponIssuanceService.FileDownloadInfo file,
+                          HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (file.redirectUrl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store"); // URL이 곧 만료되므로 리다이렉트를 캐시하지 않음
+            response.setHeader(HttpHeaders.LOCATION, file.redirectUrl().toString());
+            response.setStatus(HttpStatus.FOUND.value());
+            return;
+        }
+        // 원본 파일명(보고서는 작업별 이름)으로 다운로드되도록 헤더 설정
+        LocalFileResponder.send(file.localPath(), file.downloadFileName(), request, response);
     }
 
 }
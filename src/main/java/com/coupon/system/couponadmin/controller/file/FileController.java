@@ -1,19 +1,20 @@
 package com.coupon.system.couponadmin.controller.file;
 
+import com.coupon.system.couponadmin.dto.couponissurancejob.request.GetPresignedUrlRequest;
 import com.coupon.system.couponadmin.dto.couponissurancejob.response.GetPresignedUrlResponse;
-import com.coupon.system.couponadmin.dto.file.DownloadCouponIssuanceFileResponse;
 import com.coupon.system.couponadmin.exception.coupon.InvalidFileException;
+import com.coupon.system.couponadmin.service.coupon.parser.CustomerIdParserFactory;
 import com.coupon.system.couponadmin.service.file.FileService;
 import com.coupon.system.couponadmin.service.file.PresignedUrlInfo;
-import jakarta.validation.constraints.NotBlank;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
+import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestParam;
-
-import java.util.List;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
 
+@RestController
+@RequestMapping("/coupons/jobs")
 public class FileController {
     private final FileService fileService;
 
@@ -22,31 +23,22 @@ public class FileController {
     }
 
     /**
-     * API 1: S3 업로드를 위한 Presigned URL 가져오는 요청
-     * @return Presigned URL, S3 파일 경로
+     * API 1: S3 업로드를 위한 Presigned URL 가져오는 요청 (main.html 업로드 1단계)
+     * @param request 업로드할 파일명 (fileType을 생략하면 파일명의 확장자로 Content-Type을 정함)
+     * @return Presigned URL, S3 파일 경로, 업로드 시 보낼 Content-Type
      */
-    @GetMapping("/presigned-url")
-    public ResponseEntity<GetPresignedUrlResponse> getPresignedUrl(
-            @RequestParam @NotBlank(message = "파일명은 필수입니다.") String fileName,
-            @RequestParam @NotBlank(message = "파일 타입은 필수입니다.") String fileType
-    ) {
-        validateFileExtension(fileName);
+    @PostMapping("/presigned-url")
+    public ResponseEntity<GetPresignedUrlResponse> getPresignedUrl(@Valid @RequestBody GetPresignedUrlRequest request) {
+        validateFileExtension(request.fileName());
 
-        PresignedUrlInfo info = fileService.generatePresignedUrl(fileName, fileType);
+        PresignedUrlInfo info = fileService.generatePresignedUrl(request.fileName(), request.fileTypeOrExtension());
         return ResponseEntity.ok(GetPresignedUrlResponse.from(info));
     }
 
     private void validateFileExtension(String fileName) {
-        // 1. 확장자 추출
-        String ext = org.springframework.util.StringUtils.getFilenameExtension(fileName);
-
-        // 2. 검증
-        if (ext == null || !isValidExtension(ext)) {
-            throw new InvalidFileException("지원하지 않는 파일 형식입니다. (csv, xls, xlsx만 가능)");
+        // 발급 시 파서를 고르는 규칙과 같은 확장자 목록으로 검증 (.csv.gz처럼 확장자가 두 단계인 경우 포함)
+        if (!CustomerIdParserFactory.isSupported(fileName)) {
+            throw new InvalidFileException("지원하지 않는 파일 형식입니다. (csv, csv.gz, zip, xls, xlsx만 가능)");
         }
     }
-
-    private boolean isValidExtension(String ext) {
-        return List.of("csv", "xls", "xlsx").contains(ext.toLowerCase());
-    }
 }
@@ -1,18 +1,24 @@
 package com.coupon.system.couponadmin.domain.coupon;
 
 import jakarta.persistence.*;
+import lombok.Getter;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Getter
+@Table(indexes = {
+        @Index(name = "idx_coupon_campaign_customer", columnList = "campaignCode, customerId"), // 캠페인별 기발급 고객 조회
+        @Index(name = "idx_coupon_job_id", columnList = "jobId") // 작업별 쿠폰 내보내기 (InnoDB 보조 인덱스에 id가 붙어 id 순서로 읽힘)
+})
 public class Coupon {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @Column(nullable = false, length = 50, unique = true)
-    private String couponCode; //실제 쿠폰 코드 (UUID 등)
+    private String couponCode; //실제 쿠폰 코드 (CouponCodeGenerator가 생성)
 
     @Column(nullable = false, length = 100)
     private String customerId; //쿠폰을 발급받은 고객 id
@@ -24,6 +30,9 @@ public class Coupon {
     @Column(nullable = false)
     private Long jobId; //이 쿠폰을 생성한 발급 작업 ID
 
+    @Column(length = 50)
+    private String campaignCode; //쿠폰이 속한 캠페인 (작업 생성 시 지정, 없으면 null)
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime issuedAt;
@@ -34,9 +43,14 @@ public class Coupon {
     protected Coupon() {}
 
     public Coupon(String couponCode, String customerId, Long jobId, LocalDateTime expiresAt) {
+        this(couponCode, customerId, jobId, null, expiresAt);
+    }
+
+    public Coupon(String couponCode, String customerId, Long jobId, String campaignCode, LocalDateTime expiresAt) {
         this.couponCode = couponCode;
         this.customerId = customerId;
         this.jobId = jobId;
+        this.campaignCode = campaignCode;
         this.expiresAt = expiresAt;
     }
 }
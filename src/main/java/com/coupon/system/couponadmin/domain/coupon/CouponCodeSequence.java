@@ -0,0 +1,36 @@
+package com.coupon.system.couponadmin.domain.coupon;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/* 쿠폰 코드 생성용 시퀀스 (행 1개), 블록 단위로 값을 예약해서 사용한다 */
+@Entity
+@Getter
+public class CouponCodeSequence {
+    public static final Long DEFAULT_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private long nextValue = 0; //아직 예약되지 않은 첫 번째 값
+
+    protected CouponCodeSequence() {}
+
+    public CouponCodeSequence(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * [nextValue, nextValue + size) 구간을 예약하고 시작값을 반환한다
+     * @param alignment 0보다 크면 시작값을 이 크기의 배수로 올림
+     */
+    public long reserve(int size, long alignment) {
+        long start = nextValue;
+        if (alignment > 0 && start % alignment != 0) {
+            start = (start / alignment + 1) * alignment;
+        }
+        this.nextValue = start + size;
+        return start;
+    }
+}
@@ -0,0 +1,22 @@
+package com.coupon.system.couponadmin.domain.coupon;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface CouponCodeSequenceRepository extends JpaRepository<CouponCodeSequence, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE) // 여러 스레드/서버가 같은 구간을 예약하지 않도록 행 잠금
+    @Query("select s from CouponCodeSequence s where s.id = :id")
+    Optional<CouponCodeSequence> findByIdForUpdate(@Param("id") Long id);
+
+    /* 시퀀스 행 생성 (이미 있으면 키 중복 예외, save()는 merge로 기존 행의 값을 덮어쓸 수 있어 쓰지 않음) */
+    @Modifying
+    @Query(value = "insert into coupon_code_sequence (id, next_value) values (:id, 0)", nativeQuery = true)
+    int insertSequence(@Param("id") Long id);
+}
@@ -0,0 +1,153 @@
+package com.coupon.system.couponadmin.domain.coupon;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * 쿠폰 대량 INSERT / 청크 단위 조회 전용 리포지토리
+ * Coupon.id가 IDENTITY 전략이라 Hibernate는 INSERT를 배치로 묶지 못하므로,
+ * 영속성 컨텍스트를 거치지 않고 다중 행 INSERT 문을 JDBC 배치로 직접 실행한다.
+ * 호출한 쪽의 트랜잭션(JpaTransactionManager)에 그대로 참여한다.
+ */
+@Repository
+public class CouponJdbcRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO coupon (coupon_code, customer_id, coupon_status, job_id, campaign_code, issued_at, expires_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final String ISSUED_CUSTOMER_PREFIX =
+            "SELECT customer_id FROM coupon WHERE campaign_code = ? AND customer_id IN (";
+    static final int MAX_IN_LIST_SIZE = 1000;
+    private static final String JOB_COUPONS_SQL =
+            "SELECT coupon_code, customer_id FROM coupon WHERE job_id = ? ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int rowsPerStatement;
+    private final String fullStatementSql; // rowsPerStatement 행짜리 INSERT 문 (재사용)
+
+    public CouponJdbcRepository(JdbcTemplate jdbcTemplate,
+                                @Value("${coupon.issuance.jdbc.rows-per-statement:200}") int rowsPerStatement) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.rowsPerStatement = Math.max(1, rowsPerStatement);
+        this.fullStatementSql = buildInsertSql(this.rowsPerStatement);
+    }
+
+    /**
+     * 쿠폰 목록을 다중 행 INSERT로 저장한다
+     * 1. rowsPerStatement 단위로 꽉 찬 INSERT 문들은 하나의 JDBC 배치로 전송
+     * 2. 남은 행은 그 크기에 맞는 INSERT 문 하나로 전송
+     * @param coupons 저장할 쿠폰 목록 (id, issuedAt은 DB/현재 시각으로 채워짐)
+     */
+    public void bulkInsert(List<Coupon> coupons) {
+        if (coupons.isEmpty()) {
+            return;
+        }
+        Timestamp issuedAt = Timestamp.valueOf(LocalDateTime.now());
+
+        int fullStatements = coupons.size() / rowsPerStatement;
+        if (fullStatements > 0) {
+            jdbcTemplate.batchUpdate(fullStatementSql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    bindRows(ps, coupons, i * rowsPerStatement, rowsPerStatement, issuedAt);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return fullStatements;
+                }
+            });
+        }
+
+        int remainder = coupons.size() % rowsPerStatement;
+        if (remainder > 0) {
+            int offset = fullStatements * rowsPerStatement;
+            jdbcTemplate.update(buildInsertSql(remainder),
+                    ps -> bindRows(ps, coupons, offset, remainder, issuedAt));
+        }
+    }
+
+    /**
+     * 작업이 발급한 쿠폰을 id 순서로 한 건씩 넘긴다 (결과를 리스트로 모으지 않음)
+     * 전진 전용 커서에서 fetchSize 행씩 받아오며, MySQL은 URL에 useCursorFetch=true가 있어야 서버 커서로 나눠 받는다
+     * @param consumer (쿠폰 코드, 고객 ID)를 받는 콜백
+     */
+    public void forEachCouponOfJob(Long jobId, int fetchSize, BiConsumer<String, String> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(JOB_COUPONS_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, jobId);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(rs.getString(1), rs.getString(2)));
+    }
+
+    /**
+     * 주어진 고객 중 이 캠페인의 쿠폰을 이미 가진 고객을 찾는다
+     * (campaign_code, customer_id) 인덱스로 IN 목록 조회 한 번에 처리한다 (MAX_IN_LIST_SIZE명 단위)
+     * 잠금 없는 일반 조회이므로 조회 시점에 커밋된 쿠폰만 보인다 (아직 커밋되지 않은 다른 트랜잭션의 쿠폰은 보이지 않음)
+     * @return 이미 발급받은 고객 ID 집합
+     */
+    public Set<String> findIssuedCustomerIds(String campaignCode, Collection<String> customerIds) {
+        Set<String> issued = new HashSet<>();
+        List<String> ids = List.copyOf(new LinkedHashSet<>(customerIds));
+        for (int from = 0; from < ids.size(); from += MAX_IN_LIST_SIZE) {
+            List<String> part = ids.subList(from, Math.min(from + MAX_IN_LIST_SIZE, ids.size()));
+
+            StringBuilder sql = new StringBuilder(ISSUED_CUSTOMER_PREFIX.length() + part.size() * 3);
+            sql.append(ISSUED_CUSTOMER_PREFIX);
+            for (int i = 0; i < part.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+            }
+            sql.append(')');
+
+            Object[] args = new Object[part.size() + 1];
+            args[0] = campaignCode;
+            for (int i = 0; i < part.size(); i++) {
+                args[i + 1] = part.get(i);
+            }
+            issued.addAll(jdbcTemplate.queryForList(sql.toString(), String.class, args));
+        }
+        return issued;
+    }
+
+    private void bindRows(PreparedStatement ps, List<Coupon> coupons, int offset, int rowCount, Timestamp issuedAt)
+            throws SQLException {
+        int index = 1;
+        for (int i = offset; i < offset + rowCount; i++) {
+            Coupon coupon = coupons.get(i);
+            ps.setString(index++, coupon.getCouponCode());
+            ps.setString(index++, coupon.getCustomerId());
+            ps.setString(index++, coupon.getCouponStatus().name());
+            ps.setLong(index++, coupon.getJobId());
+            ps.setString(index++, coupon.getCampaignCode());
+            ps.setTimestamp(index++, issuedAt);
+            ps.setTimestamp(index++, Timestamp.valueOf(coupon.getExpiresAt()));
+        }
+    }
+
+    private static String buildInsertSql(int rowCount) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rowCount * (ROW_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(ROW_PLACEHOLDER);
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,51 @@
+package com.coupon.system.couponadmin.domain.couponissurancejob;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * 발급 작업의 커밋된 청크 1건 (체크포인트)
+ * 청크의 쿠폰과 같은 트랜잭션으로 저장되므로, 이 행이 있으면 해당 행 범위의 쿠폰은 모두 커밋된 것이다
+ * 작업이 중단되면 이 범위들을 건너뛰고 나머지 행만 다시 처리한다
+ */
+@Entity
+@Getter
+@Table(indexes = @Index(name = "idx_coupon_issuance_chunk_job_id", columnList = "jobId"))
+public class CouponIssuanceChunk {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long jobId;
+
+    @Column(nullable = false)
+    private long startRow; //청크가 다루는 첫 행 위치 (파서 기준 행 위치)
+
+    @Column(nullable = false)
+    private long endRow; //청크가 다루는 마지막 행 위치 (포함)
+
+    @Column(nullable = false)
+    private int rowCount; //범위 안에서 처리된 데이터 행 수 (거절된 행 포함)
+
+    @Column(nullable = false)
+    private int rejectedCount; //범위 안에서 거절된 행 수
+
+    @Column(nullable = false)
+    private int skippedCount; //범위 안에서 이미 같은 캠페인 쿠폰을 가진 고객이라 건너뛴 행 수
+
+    protected CouponIssuanceChunk() {}
+
+    public CouponIssuanceChunk(Long jobId, long startRow, long endRow, int rowCount, int rejectedCount) {
+        this(jobId, startRow, endRow, rowCount, rejectedCount, 0);
+    }
+
+    public CouponIssuanceChunk(Long jobId, long startRow, long endRow, int rowCount, int rejectedCount, int skippedCount) {
+        this.jobId = jobId;
+        this.startRow = startRow;
+        this.endRow = endRow;
+        this.rowCount = rowCount;
+        this.rejectedCount = rejectedCount;
+        this.skippedCount = skippedCount;
+    }
+}
@@ -0,0 +1,20 @@
+package com.coupon.system.couponadmin.domain.couponissurancejob;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface CouponIssuanceChunkRepository extends JpaRepository<CouponIssuanceChunk, Long> {
+
+    List<CouponIssuanceChunk> findAllByJobIdOrderByStartRow(Long jobId);
+
+    /* 작업이 완료되면 더 이상 필요 없는 체크포인트를 한 번에 삭제 */
+    @Transactional
+    @Modifying
+    @Query("delete from CouponIssuanceChunk c where c.jobId = :jobId")
+    int deleteAllByJobId(@Param("jobId") Long jobId);
+}
@@ -9,6 +9,10 @@ import java.time.LocalDateTime;
 /* 업로드된 파일 1건에 대한 '작업' 정보를 저장함 */
 @Entity
 @Getter
+@Table(indexes = {
+        @Index(name = "idx_coupon_issuance_job_status_id", columnList = "jobStatus, id"), // 상태 필터 + id 커서
+        @Index(name = "idx_coupon_issuance_job_created_at", columnList = "createdAt") // 요청일 필터
+})
 public class CouponIssuanceJob {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -35,7 +39,20 @@ public class CouponIssuanceJob {
 
     private int totalCount = 0; //파일 내 총 customer_id 수
     private int successCount = 0; //발급 성공 건수
-    private int failCount = 0; //발급 실패 건수
+    private int failCount = 0; //발급 실패 건수 (거절, 중복 포함)
+    private int skippedCount = 0; //같은 캠페인 쿠폰을 이미 가진 고객이라 건너뛴 건수
+
+    @Column(nullable = false)
+    private boolean deduplicateCustomerIds = false; //파일 안에서 중복된 customer_id는 한 번만 발급할지
+
+    @Column(length = 50)
+    private String campaignCode; //발급할 쿠폰의 캠페인 (없으면 null)
+
+    @Column(nullable = false)
+    private boolean skipAlreadyIssued = false; //campaignCode 쿠폰을 이미 가진 고객은 건너뛸지
+
+    @Column(length = 255)
+    private String rejectedFilePath; //거절된 행과 사유를 담은 보고서의 저장 경로 (거절된 행이 없으면 null)
 
     protected CouponIssuanceJob() {}
 
@@ -45,6 +62,13 @@ public class CouponIssuanceJob {
         this.adminId = adminId;
     }
 
+    public CouponIssuanceJob(String originalFileName, String savedFilePath, Long adminId, CouponIssuanceOptions options) {
+        this(originalFileName, savedFilePath, adminId);
+        this.deduplicateCustomerIds = options.deduplicateCustomerIds();
+        this.campaignCode = options.campaignCode();
+        this.skipAlreadyIssued = options.skipAlreadyIssued();
+    }
+
     public void updateJobStatus(CouponIssuanceJobStatus jobStatus){
         this.jobStatus = jobStatus;
     }
@@ -58,8 +82,15 @@ public class CouponIssuanceJob {
     public void updateFailCount(int failCount){
         this.failCount = failCount;
     }
+    public void updateSkippedCount(int skippedCount){
+        this.skippedCount = skippedCount;
+    }
 
     public void updateCompletedAt(LocalDateTime completedAt){
         this.completedAt = completedAt;
     }
+
+    public void updateRejectedFilePath(String rejectedFilePath){
+        this.rejectedFilePath = rejectedFilePath;
+    }
 }
@@ -0,0 +1,12 @@
+package com.coupon.system.couponadmin.domain.couponissurancejob;
+
+import java.util.List;
+
+/* 조건에 따라 WHERE 절이 달라지는 조회용 커스텀 리포지토리 */
+public interface CouponIssuanceJobQueryRepository {
+
+    /**
+     * 조건에 맞는 작업을 id 내림차순(최신순)으로 limit건까지 조회한다
+     */
+    List<CouponIssuanceJobSummary> findSummaries(CouponIssuanceJobSearchCondition condition);
+}
@@ -0,0 +1,61 @@
+package com.coupon.system.couponadmin.domain.couponissurancejob;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CouponIssuanceJobQueryRepository 구현 (Spring Data가 Impl 접미사로 찾아 CouponIssuanceJobRepository에 합쳐줌)
+ * - OFFSET 대신 id 커서(id < after)로 이어서 읽으므로 뒤쪽 페이지도 인덱스 범위 스캔 한 번으로 끝난다
+ * - 주어진 조건만 WHERE에 넣어 (상태, id) / (요청일) 인덱스를 그대로 탈 수 있게 한다
+ */
+public class CouponIssuanceJobQueryRepositoryImpl implements CouponIssuanceJobQueryRepository {
+
+    private final EntityManager entityManager;
+
+    public CouponIssuanceJobQueryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<CouponIssuanceJobSummary> findSummaries(CouponIssuanceJobSearchCondition condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CouponIssuanceJobSummary> query = cb.createQuery(CouponIssuanceJobSummary.class);
+        Root<CouponIssuanceJob> job = query.from(CouponIssuanceJob.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (condition.after() != null) {
+            predicates.add(cb.lessThan(job.get("id"), condition.after()));
+        }
+        if (condition.status() != null) {
+            predicates.add(cb.equal(job.get("jobStatus"), condition.status()));
+        }
+        if (condition.createdFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(job.get("createdAt"), condition.createdFrom()));
+        }
+        if (condition.createdTo() != null) {
+            predicates.add(cb.lessThan(job.get("createdAt"), condition.createdTo()));
+        }
+
+        query.select(cb.construct(CouponIssuanceJobSummary.class,
+                        job.get("id"),
+                        job.get("originalFileName"),
+                        job.get("jobStatus"),
+                        job.get("totalCount"),
+                        job.get("successCount"),
+                        job.get("failCount"),
+                        job.get("skippedCount"),
+                        job.get("createdAt")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(job.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(condition.limit())
+                .getResultList();
+    }
+}
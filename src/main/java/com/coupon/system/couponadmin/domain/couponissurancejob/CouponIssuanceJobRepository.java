@@ -1,6 +1,46 @@
 package com.coupon.system.couponadmin.domain.couponissurancejob;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface CouponIssuanceJobRepository extends JpaRepository<CouponIssuanceJob, Long> {
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface CouponIssuanceJobRepository extends JpaRepository<CouponIssuanceJob, Long>, CouponIssuanceJobQueryRepository {
+
+    List<CouponIssuanceJob> findAllByJobStatusIn(Collection<CouponIssuanceJobStatus> jobStatuses);
+
+    @Query("select new com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobSummary(" +
+            "j.id, j.originalFileName, j.jobStatus, j.totalCount, j.successCount, j.failCount, j.skippedCount, j.createdAt) " +
+            "from CouponIssuanceJob j where j.id = :id")
+    Optional<CouponIssuanceJobSummary> findSummaryById(@Param("id") Long id);
+
+    List<CouponIssuanceJob> findFirst20ByJobStatusOrderByIdAsc(CouponIssuanceJobStatus jobStatus);
+
+    /* 현재 상태가 from일 때만 to로 변경 (여러 스레드가 같은 작업을 가져가지 않도록) */
+    @Transactional
+    @Modifying
+    @Query("update CouponIssuanceJob j set j.jobStatus = :to where j.id = :id and j.jobStatus = :from")
+    int updateJobStatus(@Param("id") Long id,
+                        @Param("from") CouponIssuanceJobStatus from,
+                        @Param("to") CouponIssuanceJobStatus to);
+
+    /*
+     * 실행 중(PENDING)인 작업의 건수만 갱신 (엔티티를 읽지 않고 UPDATE 1번)
+     * 주기적 반영이 작업 종료 저장보다 늦게 실행되어도 최종 건수를 이전 값으로 덮어쓰지 않도록 상태를 조건에 넣는다
+     */
+    @Transactional
+    @Modifying
+    @Query("update CouponIssuanceJob j set j.totalCount = :totalCount, j.successCount = :successCount, " +
+            "j.failCount = :failCount, j.skippedCount = :skippedCount where j.id = :id " +
+            "and j.jobStatus = com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobStatus.PENDING")
+    int updateProgress(@Param("id") Long id,
+                       @Param("totalCount") int totalCount,
+                       @Param("successCount") int successCount,
+                       @Param("failCount") int failCount,
+                       @Param("skippedCount") int skippedCount);
 }
@@ -0,0 +1,20 @@
+package com.coupon.system.couponadmin.domain.couponissurancejob;
+
+import java.time.LocalDateTime;
+
+/**
+ * 작업 목록 조회 조건 (null인 조건은 적용하지 않음)
+ * @param after 이 id보다 작은(이전) 작업만 조회 (키셋 커서)
+ * @param status 작업 상태
+ * @param createdFrom 요청일 하한 (포함)
+ * @param createdTo 요청일 상한 (미포함)
+ * @param limit 최대 조회 건수
+ */
+public record CouponIssuanceJobSearchCondition(
+        Long after,
+        CouponIssuanceJobStatus status,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo,
+        int limit
+) {
+}
@@ -2,6 +2,7 @@ package com.coupon.system.couponadmin.domain.couponissurancejob;
 
 public enum CouponIssuanceJobStatus {
     UPLOADED, //파일 업로드 완료 및 Job 생성
+    QUEUED, //실행 대기열이 가득 차 자리가 나기를 기다리는 중
     PENDING, //처리 대기 중 및 큐 등록 완료
     COMPLETED,
     FAILED
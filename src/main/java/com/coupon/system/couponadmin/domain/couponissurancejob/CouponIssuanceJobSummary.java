@@ -0,0 +1,19 @@
+package com.coupon.system.couponadmin.domain.couponissurancejob;
+
+import java.time.LocalDateTime;
+
+/**
+ * 작업 목록 화면에 필요한 컬럼만 읽는 프로젝션
+ * (엔티티를 영속성 컨텍스트에 올리지 않고 생성자 표현식으로 바로 만든다)
+ */
+public record CouponIssuanceJobSummary(
+        Long id,
+        String originalFileName,
+        CouponIssuanceJobStatus jobStatus,
+        int totalCount,
+        int successCount,
+        int failCount,
+        int skippedCount,
+        LocalDateTime createdAt
+) {
+}
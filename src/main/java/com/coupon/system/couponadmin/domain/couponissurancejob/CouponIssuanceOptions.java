@@ -0,0 +1,14 @@
+package com.coupon.system.couponadmin.domain.couponissurancejob;
+
+/**
+ * 작업 생성 시 선택하는 발급 옵션
+ * @param deduplicateCustomerIds 파일 안에서 중복된 customer_id는 첫 행만 발급
+ * @param campaignCode 발급할 쿠폰의 캠페인 (없으면 null)
+ * @param skipAlreadyIssued campaignCode 쿠폰을 이미 가진 고객은 발급하지 않고 건너뜀 (campaignCode 필수)
+ */
+public record CouponIssuanceOptions(
+        boolean deduplicateCustomerIds,
+        String campaignCode,
+        boolean skipAlreadyIssued
+) {
+}
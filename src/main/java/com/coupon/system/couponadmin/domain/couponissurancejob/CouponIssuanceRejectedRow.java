@@ -0,0 +1,47 @@
+package com.coupon.system.couponadmin.domain.couponissurancejob;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * 발급 작업에서 거절된 행 1건과 사유
+ * 그 행이 속한 청크의 체크포인트(CouponIssuanceChunk)와 같은 트랜잭션으로 저장되므로, 재개한 작업도 커밋된 범위의 거절 행을 잃지 않는다
+ * 작업이 끝나면 이 행들로 거절 행 보고서를 만들고, 작업이 완료되면 체크포인트와 함께 삭제한다
+ */
+@Entity
+@Getter
+@Table(indexes = @Index(name = "idx_coupon_issuance_rejected_row_job_row", columnList = "jobId, rowPosition"))
+public class CouponIssuanceRejectedRow {
+
+    public static final int MAX_CUSTOMER_ID_LENGTH = 255;
+    public static final int MAX_REASON_LENGTH = 300;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long jobId;
+
+    @Column(nullable = false)
+    private long rowPosition; //파서 기준 행 위치 (Excel은 행 번호, CSV는 레코드가 시작하는 바이트 오프셋)
+
+    @Column(length = MAX_CUSTOMER_ID_LENGTH)
+    private String customerId; //거절된 원본 값 (길이 초과로 거절된 값도 있으므로 앞 255자만 남김)
+
+    @Column(nullable = false, length = MAX_REASON_LENGTH)
+    private String reason;
+
+    protected CouponIssuanceRejectedRow() {}
+
+    public CouponIssuanceRejectedRow(Long jobId, long rowPosition, String customerId, String reason) {
+        this.jobId = jobId;
+        this.rowPosition = rowPosition;
+        this.customerId = truncate(customerId, MAX_CUSTOMER_ID_LENGTH);
+        this.reason = truncate(reason == null ? "" : reason, MAX_REASON_LENGTH);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return (value != null && value.length() > maxLength) ? value.substring(0, maxLength) : value;
+    }
+}
@@ -0,0 +1,60 @@
+package com.coupon.system.couponadmin.domain.couponissurancejob;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 거절 행 대량 INSERT / 작업 단위 조회 전용 리포지토리
+ * CouponJdbcRepository와 같이 영속성 컨텍스트를 거치지 않는다 (IDENTITY id가 엔티티에 채워지지 않으므로, 롤백된 청크를 그대로 다시 저장할 수 있음)
+ * 호출한 쪽의 트랜잭션(JpaTransactionManager)에 그대로 참여한다.
+ */
+@Repository
+public class CouponIssuanceRejectedRowJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO coupon_issuance_rejected_row (job_id, row_position, customer_id, reason) VALUES (?, ?, ?, ?)";
+    private static final String JOB_ROWS_SQL =
+            "SELECT job_id, row_position, customer_id, reason FROM coupon_issuance_rejected_row WHERE job_id = ? ORDER BY row_position";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CouponIssuanceRejectedRowJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 거절 행 목록을 JDBC 배치 한 번으로 저장한다 (청크당 거절 행은 많지 않으므로 다중 행 INSERT로 묶지 않음)
+     */
+    public void bulkInsert(List<CouponIssuanceRejectedRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.getJobId());
+            ps.setLong(2, row.getRowPosition());
+            ps.setString(3, row.getCustomerId());
+            ps.setString(4, row.getReason());
+        });
+    }
+
+    /**
+     * 작업의 거절 행을 행 위치 순서로 한 건씩 넘긴다 (결과를 리스트로 모으지 않음)
+     * 전진 전용 커서에서 fetchSize 행씩 받아오며, MySQL은 URL에 useCursorFetch=true가 있어야 서버 커서로 나눠 받는다
+     */
+    public void forEachRejectedRowOfJob(Long jobId, int fetchSize, Consumer<CouponIssuanceRejectedRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(JOB_ROWS_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, jobId);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new CouponIssuanceRejectedRow(
+                rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getString(4))));
+    }
+}
@@ -0,0 +1,16 @@
+package com.coupon.system.couponadmin.domain.couponissurancejob;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface CouponIssuanceRejectedRowRepository extends JpaRepository<CouponIssuanceRejectedRow, Long> {
+
+    /* 작업이 완료되어 보고서로 옮긴 거절 행을 한 번에 삭제 */
+    @Transactional
+    @Modifying
+    @Query("delete from CouponIssuanceRejectedRow r where r.jobId = :jobId")
+    int deleteAllByJobId(@Param("jobId") Long jobId);
+}
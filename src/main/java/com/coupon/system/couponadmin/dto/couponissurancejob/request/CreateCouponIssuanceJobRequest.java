@@ -1,7 +1,26 @@
 package com.coupon.system.couponadmin.dto.couponissurancejob.request;
 
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceOptions;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+
 public record CreateCouponIssuanceJobRequest(
         String originalFileName,
-        String savedFilePath // S3 Object Key
+        String savedFilePath, // S3 Object Key
+        Boolean deduplicateCustomerIds, // true면 파일 안의 중복 customer_id는 첫 행만 발급 (생략 시 false)
+        @Size(max = 50) String campaignCode, // 캠페인 코드 (생략 가능)
+        Boolean skipAlreadyIssued // true면 작업 시작 전에 campaignCode 쿠폰을 받은 고객은 건너뜀 (생략 시 false, 같은 캠페인 작업을 동시에 실행하면 보장 안 됨)
 ) {
+    @AssertTrue(message = "이미 발급된 고객을 건너뛰려면 캠페인 코드가 필요합니다.")
+    public boolean isCampaignCodePresentWhenSkipping() {
+        return !Boolean.TRUE.equals(skipAlreadyIssued) || (campaignCode != null && !campaignCode.isBlank());
+    }
+
+    public CouponIssuanceOptions toOptions() {
+        return new CouponIssuanceOptions(
+                Boolean.TRUE.equals(deduplicateCustomerIds),
+                (campaignCode == null || campaignCode.isBlank()) ? null : campaignCode.trim(),
+                Boolean.TRUE.equals(skipAlreadyIssued)
+        );
+    }
 }
@@ -0,0 +1,12 @@
+package com.coupon.system.couponadmin.dto.couponissurancejob.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record GetPresignedUrlRequest(
+        @NotBlank(message = "파일명은 필수입니다.") String fileName,
+        String fileType // 업로드할 파일의 확장자 (생략 시 fileName의 확장자)
+) {
+    public String fileTypeOrExtension() {
+        return (fileType == null || fileType.isBlank()) ? fileName : fileType;
+    }
+}
@@ -1,6 +1,7 @@
 package com.coupon.system.couponadmin.dto.couponissurancejob.response;
 
 import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJob;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobSummary;
 
 import java.time.LocalDateTime;
 
@@ -14,6 +15,7 @@ public record GetAllCouponIssuanceJobsResponse(
         int totalCount,
         int successCount,
         int failCount,
+        int skippedCount,
         LocalDateTime createdAt
 ) {
     public static GetAllCouponIssuanceJobsResponse from(CouponIssuanceJob entity) {
@@ -24,7 +26,21 @@ public record GetAllCouponIssuanceJobsResponse(
                 entity.getTotalCount(),
                 entity.getSuccessCount(),
                 entity.getFailCount(),
+                entity.getSkippedCount(),
                 entity.getCreatedAt()
         );
     }
+
+    public static GetAllCouponIssuanceJobsResponse from(CouponIssuanceJobSummary summary) {
+        return new GetAllCouponIssuanceJobsResponse(
+                summary.id(),
+                summary.originalFileName(),
+                summary.jobStatus().name(),
+                summary.totalCount(),
+                summary.successCount(),
+                summary.failCount(),
+                summary.skippedCount(),
+                summary.createdAt()
+        );
+    }
 }
@@ -0,0 +1,81 @@
+package com.coupon.system.couponadmin.dto.couponissurancejob.response;
+
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJob;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobStatus;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobSummary;
+import com.coupon.system.couponadmin.service.coupon.IssuanceProgress;
+
+/**
+ * 진행 상황 SSE 이벤트 1건
+ * 실행 중인 작업은 메모리의 실시간 값으로, 그 외 작업은 DB에 저장된 값으로 만든다
+ */
+public record GetCouponIssuanceJobProgressResponse(
+        Long jobId,
+        String jobStatus,
+        int totalCount,
+        int successCount,
+        int failCount,
+        int skippedCount,
+        long bytesRead,
+        long fileSize, // 알 수 없으면 -1
+        double rowsPerSecond,
+        Long etaSeconds // 알 수 없으면 null
+) {
+    public static GetCouponIssuanceJobProgressResponse from(IssuanceProgress progress) {
+        return new GetCouponIssuanceJobProgressResponse(
+                progress.getJobId(),
+                CouponIssuanceJobStatus.PENDING.name(),
+                progress.getTotalCount(),
+                progress.getSuccessCount(),
+                progress.getFailCount(),
+                progress.getSkippedCount(),
+                progress.getBytesRead(),
+                progress.getFileSize(),
+                progress.getRowsPerSecond(),
+                progress.getEtaSeconds()
+        );
+    }
+
+    public static GetCouponIssuanceJobProgressResponse from(CouponIssuanceJob entity) {
+        return new GetCouponIssuanceJobProgressResponse(
+                entity.getId(),
+                entity.getJobStatus().name(),
+                entity.getTotalCount(),
+                entity.getSuccessCount(),
+                entity.getFailCount(),
+                entity.getSkippedCount(),
+                0,
+                -1,
+                0,
+                null
+        );
+    }
+
+    public static GetCouponIssuanceJobProgressResponse from(CouponIssuanceJobSummary summary) {
+        return new GetCouponIssuanceJobProgressResponse(
+                summary.id(),
+                summary.jobStatus().name(),
+                summary.totalCount(),
+                summary.successCount(),
+                summary.failCount(),
+                summary.skippedCount(),
+                0,
+                -1,
+                0,
+                null
+        );
+    }
+
+    public boolean isTerminal() {
+        return CouponIssuanceJobStatus.COMPLETED.name().equals(jobStatus)
+                || CouponIssuanceJobStatus.FAILED.name().equals(jobStatus);
+    }
+
+    public boolean hasSameCounts(GetCouponIssuanceJobProgressResponse other) {
+        return other != null
+                && totalCount == other.totalCount
+                && successCount == other.successCount
+                && failCount == other.failCount
+                && skippedCount == other.skippedCount;
+    }
+}
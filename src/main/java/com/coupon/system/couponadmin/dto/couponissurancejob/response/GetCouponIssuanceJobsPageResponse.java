@@ -0,0 +1,14 @@
+package com.coupon.system.couponadmin.dto.couponissurancejob.response;
+
+import java.util.List;
+
+/**
+ * 작업 목록 한 페이지
+ * @param jobs 최신순 작업 목록
+ * @param nextCursor 다음 페이지 요청 시 after로 넘길 값 (마지막 페이지면 null)
+ */
+public record GetCouponIssuanceJobsPageResponse(
+        List<GetAllCouponIssuanceJobsResponse> jobs,
+        Long nextCursor
+) {
+}
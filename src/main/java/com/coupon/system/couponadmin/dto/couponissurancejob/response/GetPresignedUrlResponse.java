@@ -4,9 +4,10 @@ import com.coupon.system.couponadmin.service.file.PresignedUrlInfo;
 
 public record GetPresignedUrlResponse(
         String presignedUrl,
-        String savedFilePath // S3 Object Key
+        String savedFilePath, // S3 Object Key
+        String contentType // 업로드(PUT) 요청에 그대로 보낼 Content-Type
 ){
     public static GetPresignedUrlResponse from(PresignedUrlInfo info) {
-        return new GetPresignedUrlResponse(info.url(), info.savedFilePath());
+        return new GetPresignedUrlResponse(info.url(), info.savedFilePath(), info.contentType());
     }
 }
\ No newline at end of file
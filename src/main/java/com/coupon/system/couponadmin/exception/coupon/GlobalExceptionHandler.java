@@ -6,6 +6,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.io.IOException;
 import java.util.Map;
@@ -35,6 +36,13 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
+    // 3-1. 아직 끝나지 않은 작업의 결과를 요청했을 때 (409 Conflict)
+    @ExceptionHandler(JobNotCompletedException.class)
+    public ResponseEntity<?> handleJobNotCompleted(JobNotCompletedException e) {
+        Map<String, String> response = Map.of("message", e.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
     // 4. 파일 저장/읽기(IO) 실패 시 (500 Internal Server Error)
     @ExceptionHandler(IOException.class)
     public ResponseEntity<?> handleIOException(IOException e) {
@@ -42,7 +50,14 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
-    // 5. 그 외 모든 런타임 예외 (500 Internal Server Error)
+    // 5. 요청 파라미터 형식 오류 (예: 없는 작업 상태, 잘못된 날짜) (400 Bad Request)
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<?> handleTypeMismatch(MethodArgumentTypeMismatchException e) {
+        Map<String, String> response = Map.of("message", "요청 파라미터 '" + e.getName() + "'의 값이 올바르지 않습니다.");
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
+    // 6. 그 외 모든 런타임 예외 (500 Internal Server Error)
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<?> handleRuntimeException(RuntimeException e) {
         Map<String, String> response = Map.of("message", "서버 내부 오류: " + e.getMessage());
@@ -0,0 +1,7 @@
+package com.coupon.system.couponadmin.exception.coupon;
+
+public class JobNotCompletedException extends RuntimeException {
+    public JobNotCompletedException(String message) {
+        super(message);
+    }
+}
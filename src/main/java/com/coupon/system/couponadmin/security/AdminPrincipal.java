@@ -0,0 +1,18 @@
+package com.coupon.system.couponadmin.security;
+
+import java.security.Principal;
+
+/**
+ * 액세스 토큰에서 꺼낸 관리자 정보 (Authentication.getPrincipal())
+ * @param adminId 토큰의 adminId 클레임 (클레임이 없던 이전 토큰이면 null)
+ */
+public record AdminPrincipal(
+        Long adminId,
+        String adminName
+) implements Principal {
+
+    @Override
+    public String getName() {
+        return adminName;
+    }
+}
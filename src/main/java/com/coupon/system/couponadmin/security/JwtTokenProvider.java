@@ -2,6 +2,8 @@ package com.coupon.system.couponadmin.security;
 
 import com.coupon.system.couponadmin.dto.auth.response.LoginResponse;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,14 +14,19 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final String ADMIN_ID_CLAIM = "adminId";
+
     private final SecretKey key;
+    private final JwtParser parser; // 불변이라 스레드 간 공유 가능 (요청마다 만들지 않음)
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
 
@@ -29,17 +36,19 @@ public class JwtTokenProvider {
             @Value("${jwt.refresh-token-validity}") long refreshTokenValidity) {
 
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
         this.accessTokenValidityInMilliseconds = accessTokenValidity;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidity;
     }
 
-    public GeneratedToken generateTokens(String adminName, String role) {
+    public GeneratedToken generateTokens(Long adminId, String adminName, String role) {
         long now = (new Date()).getTime();
         Date accessTokenExpiresIn = new Date(now + accessTokenValidityInMilliseconds);
         Date refreshTokenExpiresIn = new Date(now + refreshTokenValidityInMilliseconds);
 
         String accessToken = Jwts.builder()
                 .setSubject(adminName)
+                .claim(ADMIN_ID_CLAIM, adminId) // 요청마다 이름으로 관리자를 조회하지 않도록
                 .claim("role", role)
                 .setIssuedAt(new Date(now))
                 .setExpiration(accessTokenExpiresIn)
@@ -54,27 +63,31 @@ public class JwtTokenProvider {
         return new GeneratedToken(accessToken, refreshToken, accessTokenValidityInMilliseconds);
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * 서명과 만료를 한 번만 검증하고 같은 파싱 결과로 인증 정보를 만든다
+     * @return 검증에 실패하면 빈 값 (만료, 서명 오류, 형식 오류 등)
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (claims.getSubject() == null || claims.get("role", String.class) == null) {
+            return Optional.empty(); // 리프레시 토큰 등 인증 정보가 없는 토큰
+        }
+        Instant expiresAt = claims.getExpiration() != null ? claims.getExpiration().toInstant() : Instant.MAX;
+        return Optional.of(new VerifiedToken(toAuthentication(claims), expiresAt));
+    }
 
-        String adminName = claims.getSubject();
+    private Authentication toAuthentication(Claims claims) {
+        Number adminId = claims.get(ADMIN_ID_CLAIM, Number.class); // JSON 숫자라 Integer로 읽힐 수 있음
+        AdminPrincipal principal = new AdminPrincipal(
+                adminId != null ? adminId.longValue() : null, claims.getSubject());
         String role = claims.get("role", String.class);
         List<SimpleGrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(role));
 
-        return new UsernamePasswordAuthenticationToken(adminName, null, authorities);
-    }
-
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            // (로그 처리... e.g., 토큰 만료, 서명 오류 등)
-            return false;
-        }
+        return new UsernamePasswordAuthenticationToken(principal, null, authorities);
     }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.coupon.system.couponadmin.security;
+
+import org.springframework.security.core.Authentication;
+
+import java.time.Instant;
+
+/**
+ * 서명과 만료 검증을 통과한 액세스 토큰의 인증 정보
+ * @param expiresAt 토큰의 exp (캐시 만료 시각으로 사용)
+ */
+public record VerifiedToken(
+        Authentication authentication,
+        Instant expiresAt
+) {}
@@ -0,0 +1,94 @@
+package com.coupon.system.couponadmin.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 검증을 통과한 액세스 토큰의 인증 정보 캐시
+ * - SPA가 같은 토큰으로 계속 폴링하므로, 토큰마다 HS256 서명 검증과 파싱은 처음 한 번만 한다
+ * - 키는 토큰의 SHA-256 다이제스트 (원문 토큰을 힙에 오래 들고 있지 않음)
+ * - 항목은 토큰의 exp 시각(최대 max-ttl)에 만료되고, 크기는 maximum-size로 제한한다
+ * - 검증에 실패한 토큰은 캐시하지 않는다 (잘못된 토큰을 대량으로 보내 캐시를 밀어내지 못하도록)
+ * - 적중/미스 지표는 /actuator/metrics/cache.gets?tag=cache:jwtVerifiedTokens
+ */
+@Component
+public class VerifiedTokenCache {
+
+    public static final String CACHE_NAME = "jwtVerifiedTokens";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.verified-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${jwt.verified-cache.max-ttl-seconds:300}") long maxTtlSeconds) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        long maxTtlNanos = Duration.ofSeconds(maxTtlSeconds).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(maxTtlNanos))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * @return 유효한 토큰이면 인증 정보, 아니면 빈 값
+     */
+    public Optional<Authentication> authenticate(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = cache.getIfPresent(digest);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return Optional.of(cached.authentication());
+        }
+
+        Optional<VerifiedToken> verified = jwtTokenProvider.verify(token);
+        verified.ifPresent(v -> cache.put(digest, v));
+        return verified.map(VerifiedToken::authentication);
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e); // 모든 JRE가 지원해야 하는 알고리즘
+        }
+    }
+
+    /* 넣은 시점부터 토큰 만료까지 (max-ttl을 넘지 않음), 읽거나 덮어써도 만료 시각은 그대로 */
+    private record TokenExpiry(long maxTtlNanos) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = Duration.between(Instant.now(), value.expiresAt()).toMillis();
+            if (remainingMillis <= 0) return 0;
+            return Math.min(maxTtlNanos, Duration.ofMillis(remainingMillis).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
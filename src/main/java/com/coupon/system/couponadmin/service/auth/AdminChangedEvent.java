@@ -0,0 +1,10 @@
+package com.coupon.system.couponadmin.service.auth;
+
+/**
+ * 관리자 계정(생성, 이름/권한 변경, 삭제)이 바뀌었음을 알리는 이벤트
+ * 커밋 후 AdminQueryService가 받아 해당 관리자 캐시를 비운다
+ * 지금은 관리자 계정을 이 애플리케이션 밖(DB)에서 관리하므로 발행하는 곳이 없고, 그런 변경은 캐시 만료 시간이 지나야 반영된다
+ * 관리자 계정을 바꾸는 기능을 추가하면 그 트랜잭션 안에서 발행한다 (AdminQueryServiceTest 참고)
+ */
+public record AdminChangedEvent(String adminName) {
+}
@@ -0,0 +1,41 @@
+package com.coupon.system.couponadmin.service.auth;
+
+import com.coupon.system.couponadmin.domain.auth.Admin;
+import com.coupon.system.couponadmin.domain.auth.AdminRepository;
+import com.coupon.system.couponadmin.exception.auth.AdminNotFoundException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 관리자 이름 -> ID 조회 캐시
+ * - 액세스 토큰에 adminId 클레임이 있으면 이 캐시도 거치지 않는다 (클레임이 없는 이전 토큰만 사용)
+ * - 관리자 수가 적어 캐시가 작고, spring.cache.caffeine.spec의 만료 시간이 지나면 다시 읽는다
+ * - 관리자 계정이 바뀌어 커밋되면(AdminChangedEvent) 해당 관리자 캐시를 비운다
+ */
+@Service
+public class AdminQueryService {
+
+    public static final String ADMIN_IDS_CACHE = "adminIds";
+
+    private final AdminRepository adminRepository;
+
+    public AdminQueryService(AdminRepository adminRepository) {
+        this.adminRepository = adminRepository;
+    }
+
+    @Cacheable(cacheNames = ADMIN_IDS_CACHE, key = "#adminName")
+    @Transactional(readOnly = true)
+    public Long getAdminId(String adminName) {
+        return adminRepository.findByAdminName(adminName)
+                .map(Admin::getId)
+                .orElseThrow(AdminNotFoundException::new);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = ADMIN_IDS_CACHE, key = "#event.adminName()")
+    public void onAdminChanged(AdminChangedEvent event) {
+    }
+}
@@ -41,6 +41,6 @@ public class AuthService {
         //Spring Security는 기본적으로 "ROLE_" 접두사를 사용하여 토큰을 생성하기 때문에 ex. ROLE_ADMIN
         String role = "ROLE_" + admin.getRole().name();
 
-        return jwtTokenProvider.generateTokens(admin.getAdminName(), role);
+        return jwtTokenProvider.generateTokens(admin.getId(), admin.getAdminName(), role);
     }
 }
@@ -0,0 +1,9 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+/**
+ * 발급 작업에서 쿠폰 청크 크기를 정하는 방식
+ */
+public enum BatchSizeMode {
+    FIXED, // 항상 batch.size
+    ADAPTIVE // 청크 커밋 시간이 target-commit-ms에 머물도록 min-size ~ max-size 안에서 조절
+}
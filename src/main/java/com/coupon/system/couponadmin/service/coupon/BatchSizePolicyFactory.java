@@ -0,0 +1,42 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.util.AdaptiveBatchSizePolicy;
+import com.coupon.system.couponadmin.util.BatchSizePolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 발급 작업마다 청크 크기 정책을 만든다
+ * 알맞은 크기는 DB(H2, 주간 부하의 MySQL, 야간)마다 크게 다르므로, ADAPTIVE면 작업 안에서 커밋 시간을 보며 크기를 맞춘다
+ * 정책은 작업 1건 안에서만 공유한다 (병렬 파싱 구간들과 writer 스레드들)
+ */
+@Component
+public class BatchSizePolicyFactory {
+
+    private final BatchSizeMode mode;
+    private final int size;
+    private final int minSize;
+    private final int maxSize;
+    private final Duration targetCommitTime;
+
+    public BatchSizePolicyFactory(@Value("${coupon.issuance.batch.mode:FIXED}") BatchSizeMode mode,
+                                  @Value("${coupon.issuance.batch.size:1000}") int size,
+                                  @Value("${coupon.issuance.batch.min-size:100}") int minSize,
+                                  @Value("${coupon.issuance.batch.max-size:10000}") int maxSize,
+                                  @Value("${coupon.issuance.batch.target-commit-ms:300}") long targetCommitMs) {
+        this.mode = mode;
+        this.size = size;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.targetCommitTime = Duration.ofMillis(targetCommitMs);
+    }
+
+    public BatchSizePolicy create() {
+        return switch (mode) {
+            case FIXED -> BatchSizePolicy.fixed(size);
+            case ADAPTIVE -> new AdaptiveBatchSizePolicy(minSize, maxSize, size, targetCommitTime);
+        };
+    }
+}
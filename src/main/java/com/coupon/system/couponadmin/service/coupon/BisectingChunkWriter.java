@@ -0,0 +1,125 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceRejectedRow;
+import com.coupon.system.couponadmin.util.BatchSizePolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 청크 저장이 실패해도 작업 전체를 버리지 않도록, 다시 시도하고 그래도 안 되면 반으로 나눠 문제 행만 골라낸다
+ * - 일시적 오류(락 대기 시간 초과, 데드락, 연결 끊김 등) : 같은 청크를 backoff(두 배씩 증가) 후 maxAttempts번까지 다시 저장
+ * - 데이터 오류(길이 초과, 유니크 키 중복 등) : 청크를 반으로 나눠 각각 저장하고(재귀), 쿠폰 1개짜리 청크까지 실패하면 그 행을 거절 처리
+ *   (거절한 행과 사유는 그 범위의 체크포인트와 같은 트랜잭션으로 저장된다)
+ *   나머지 행은 계속 묶음으로 커밋되며, 불량 행 k개를 찾는 데 드는 추가 트랜잭션은 약 2k * log2(청크 크기)번
+ * - 그 외 오류이거나, 저장 실패로 거절한 행이 작업 1건에서 maxRejectedRows를 넘으면 예외를 던져 작업을 실패시킨다
+ *   (DB 장애나 스키마 문제로 모든 행을 한 건씩 거절하며 진행하지 않도록)
+ * 나눈 청크마다 자기 행 범위의 체크포인트를 같은 트랜잭션으로 커밋하므로 도중에 중단되어도 재개 시 중복 발급되지 않는다
+ * writer 스레드 여러 개가 함께 사용한다
+ */
+@Slf4j
+public class BisectingChunkWriter implements Function<CouponChunk, ChunkWriteResult> {
+
+    private final Long jobId;
+    private final ToIntFunction<CouponChunk> chunkWriter;
+    private final BatchSizePolicy batchSizePolicy;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final int maxRejectedRows;
+    private final AtomicInteger rejectedRows = new AtomicInteger();
+
+    /**
+     * @param chunkWriter 청크 하나를 새 트랜잭션으로 저장하고 건너뛴 쿠폰 수를 돌려주는 작업
+     * @param batchSizePolicy 저장 시간과 일시적 오류를 알려줄 청크 크기 정책 (데이터 오류는 부하와 무관하므로 알리지 않음)
+     * @param maxAttempts 일시적 오류일 때 한 청크를 저장해 볼 최대 횟수 (첫 시도 포함)
+     * @param backoff 첫 재시도 전 대기 시간
+     * @param maxRejectedRows 저장 실패로 거절할 수 있는 최대 행 수 (작업 1건 기준)
+     */
+    public BisectingChunkWriter(Long jobId, ToIntFunction<CouponChunk> chunkWriter, BatchSizePolicy batchSizePolicy,
+                                int maxAttempts, Duration backoff, int maxRejectedRows) {
+        this.jobId = jobId;
+        this.chunkWriter = chunkWriter;
+        this.batchSizePolicy = batchSizePolicy;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoff = backoff;
+        this.maxRejectedRows = maxRejectedRows;
+    }
+
+    @Override
+    public ChunkWriteResult apply(CouponChunk chunk) {
+        CouponChunk current = chunk;
+        for (int attempt = 1; ; attempt++) {
+            long startedAt = System.nanoTime();
+            try {
+                int skipped = chunkWriter.applyAsInt(current);
+                batchSizePolicy.onSuccess(current.coupons().size(), System.nanoTime() - startedAt);
+                return new ChunkWriteResult(current.coupons().size() - skipped, skipped, 0);
+
+            } catch (DataIntegrityViolationException e) {
+                return bisect(current.withFreshCoupons(), e);
+
+            } catch (TransientDataAccessException | RecoverableDataAccessException e) {
+                batchSizePolicy.onFailure(current.coupons().size());
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                log.warn("Job ID {} 청크(행 {}~{}) 저장 실패, {}번째 재시도: {}",
+                        jobId, current.startRow(), current.endRow(), attempt, e.getMessage());
+                sleep(backoff.multipliedBy(1L << (attempt - 1)));
+                current = current.withFreshCoupons();
+            }
+        }
+    }
+
+    /**
+     * @return 저장 실패로 거절한 행 수
+     */
+    public int getRejectedRows() {
+        return rejectedRows.get();
+    }
+
+    private ChunkWriteResult bisect(CouponChunk chunk, DataIntegrityViolationException cause) {
+        if (chunk.coupons().isEmpty()) {
+            throw cause; // 쿠폰이 없는데 실패했다면 체크포인트 저장 자체의 문제
+        }
+        if (chunk.coupons().size() > 1) {
+            ChunkWriteResult result = ChunkWriteResult.EMPTY;
+            for (CouponChunk half : chunk.split()) {
+                result = result.plus(apply(half));
+            }
+            return result;
+        }
+
+        //쿠폰 1개짜리 청크도 실패 : 이 행을 거절하고, 범위의 체크포인트와 거절 행만 남긴다
+        if (rejectedRows.incrementAndGet() > maxRejectedRows) {
+            throw new IllegalStateException("저장에 실패한 행이 " + maxRejectedRows + "건을 넘었습니다. job ID " + jobId, cause);
+        }
+        String reason = reason(cause);
+        log.warn("Job ID {} 행 위치 {} 저장 실패로 거절: {}", jobId, chunk.couponRows()[0], reason);
+        return apply(chunk.rejectAll(reason)).plus(new ChunkWriteResult(0, 0, 1));
+    }
+
+    private static String reason(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        if (message == null) {
+            message = e.getMostSpecificCause().getClass().getSimpleName();
+        }
+        int maxLength = CouponIssuanceRejectedRow.MAX_REASON_LENGTH;
+        return message.length() > maxLength ? message.substring(0, maxLength) : message;
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("쿠폰 청크 재시도 대기 중 인터럽트 발생 job ID " + jobId, e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+/**
+ * 청크 1개(나눠 저장했으면 나눈 청크들의 합)를 저장한 결과
+ * @param saved 저장된 쿠폰 수
+ * @param skipped 이미 같은 캠페인 쿠폰을 가진 고객이라 저장하지 않은 쿠폰 수
+ * @param rejected 저장에 실패해 거절 처리한 쿠폰 수
+ */
+public record ChunkWriteResult(int saved, int skipped, int rejected) {
+
+    public static final ChunkWriteResult EMPTY = new ChunkWriteResult(0, 0, 0);
+
+    public ChunkWriteResult plus(ChunkWriteResult other) {
+        return new ChunkWriteResult(saved + other.saved, skipped + other.skipped, rejected + other.rejected);
+    }
+}
@@ -0,0 +1,46 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceChunk;
+
+import java.util.List;
+
+/**
+ * 이전 실행에서 이미 커밋된 행 범위들 (재개 시 건너뛸 행)
+ * 행 번호가 증가하는 순서로 조회된다는 점을 이용해, 행마다 DB를 조회하지 않고 커서 하나로 판단한다
+ */
+public class CommittedRowRanges {
+
+    private final long[] starts;
+    private final long[] ends;
+
+    public CommittedRowRanges(List<CouponIssuanceChunk> chunks) { // startRow 오름차순
+        this.starts = new long[chunks.size()];
+        this.ends = new long[chunks.size()];
+        for (int i = 0; i < chunks.size(); i++) {
+            starts[i] = chunks.get(i).getStartRow();
+            ends[i] = chunks.get(i).getEndRow();
+        }
+    }
+
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    /**
+     * 행 번호를 증가하는 순서로 물어보는 쪽(리더 스레드)마다 하나씩 만든다
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    public class Cursor {
+        private int index = 0;
+
+        public boolean contains(long rowNum) {
+            while (index < starts.length && ends[index] < rowNum) {
+                index++;
+            }
+            return index < starts.length && starts[index] <= rowNum;
+        }
+    }
+}
@@ -1,27 +1,81 @@
 package com.coupon.system.couponadmin.service.coupon;
 
 import com.coupon.system.couponadmin.domain.coupon.Coupon;
+import com.coupon.system.couponadmin.domain.coupon.CouponJdbcRepository;
 import com.coupon.system.couponadmin.domain.coupon.CouponRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceChunk;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceChunkRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceRejectedRowJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.Set;
 
 @Service
 public class CouponBatchService {
 
     private final CouponRepository couponRepository;
+    private final CouponJdbcRepository couponJdbcRepository;
+    private final CouponIssuanceChunkRepository couponIssuanceChunkRepository;
+    private final CouponIssuanceRejectedRowJdbcRepository couponIssuanceRejectedRowJdbcRepository;
+    private final CouponWriteEngine writeEngine;
 
-    public CouponBatchService(CouponRepository couponRepository) {
+    public CouponBatchService(CouponRepository couponRepository,
+                              CouponJdbcRepository couponJdbcRepository,
+                              CouponIssuanceChunkRepository couponIssuanceChunkRepository,
+                              CouponIssuanceRejectedRowJdbcRepository couponIssuanceRejectedRowJdbcRepository,
+                              @Value("${coupon.issuance.write-engine:JDBC}") CouponWriteEngine writeEngine) {
         this.couponRepository = couponRepository;
+        this.couponJdbcRepository = couponJdbcRepository;
+        this.couponIssuanceChunkRepository = couponIssuanceChunkRepository;
+        this.couponIssuanceRejectedRowJdbcRepository = couponIssuanceRejectedRowJdbcRepository;
+        this.writeEngine = writeEngine;
     }
 
     /**
      * 배치단위로 트랜잭션
      * 성공하면 이 배치만 커밋되고, 실패하면 이 배치만 롤백되는 식으로
+     * 저장 방식은 coupon.issuance.write-engine 설정(JDBC/JPA)을 따른다
+     * 청크의 행 범위(체크포인트)와 범위 안의 거절 행도 같은 트랜잭션으로 기록하여, 중단 후 재개 시 이 범위를 건너뛰어도 거절 행 보고서가 온전하다
+     * @param skipIssuedCampaignCode null이 아니면, 이 캠페인 쿠폰을 이미 가진 고객은 청크당 조회 1번으로 골라내고 저장하지 않는다
+     *                               조회 시점에 커밋된 쿠폰만 보므로, 작업 시작 전에 발급된 고객만 확실히 건너뛴다
+     *                               같은 캠페인으로 동시에 실행 중인 다른 작업, 같은 작업의 다른 writer가 저장 중인 청크와는
+     *                               서로 보지 못해 같은 고객에게 중복 발급될 수 있다 (파일 안 중복은 deduplicateCustomerIds로 막음)
+     * @return 이미 발급되어 건너뛴 쿠폰 수
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void saveCouponsInNewTransaction(List<Coupon> coupons) {
-        couponRepository.saveAll(coupons);
+    public int saveCouponsInNewTransaction(CouponChunk chunk, String skipIssuedCampaignCode) {
+        List<Coupon> coupons = chunk.coupons();
+        if (skipIssuedCampaignCode != null) {
+            coupons = excludeAlreadyIssued(coupons, skipIssuedCampaignCode);
+        }
+        int skipped = chunk.coupons().size() - coupons.size();
+
+        saveCoupons(coupons);
+        couponIssuanceRejectedRowJdbcRepository.bulkInsert(chunk.rejectedRows());
+        couponIssuanceChunkRepository.save(new CouponIssuanceChunk(
+                chunk.jobId(), chunk.startRow(), chunk.endRow(), chunk.rowCount(), chunk.rejectedCount(), skipped));
+        return skipped;
+    }
+
+    private List<Coupon> excludeAlreadyIssued(List<Coupon> coupons, String campaignCode) {
+        Set<String> issued = couponJdbcRepository.findIssuedCustomerIds(
+                campaignCode, coupons.stream().map(Coupon::getCustomerId).toList());
+        if (issued.isEmpty()) {
+            return coupons;
+        }
+        return coupons.stream()
+                .filter(coupon -> !issued.contains(coupon.getCustomerId()))
+                .toList();
+    }
+
+    private void saveCoupons(List<Coupon> coupons) {
+        if (writeEngine == CouponWriteEngine.JDBC) {
+            couponJdbcRepository.bulkInsert(coupons);
+        } else {
+            couponRepository.saveAll(coupons);
+        }
     }
-}
\ No newline at end of file
+}
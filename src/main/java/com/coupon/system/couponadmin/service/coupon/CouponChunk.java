@@ -0,0 +1,92 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.domain.coupon.Coupon;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceRejectedRow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 한 트랜잭션으로 저장할 쿠폰 묶음과 그 묶음이 다루는 파일 행 범위
+ * @param startRow 범위의 첫 행 위치
+ * @param endRow 범위의 마지막 행 위치 (포함)
+ * @param coupons 범위 안에서 만들어진 쿠폰
+ * @param couponRows 쿠폰마다 그 쿠폰을 만든 행 위치 (coupons와 같은 순서, 오름차순)
+ * @param rejectedRows 범위 안에서 거절된 행과 사유 (행 위치 오름차순, 체크포인트와 같은 트랜잭션으로 저장됨)
+ */
+public record CouponChunk(
+        Long jobId,
+        long startRow,
+        long endRow,
+        List<Coupon> coupons,
+        long[] couponRows,
+        List<CouponIssuanceRejectedRow> rejectedRows
+) {
+    public int rejectedCount() {
+        return rejectedRows.size();
+    }
+
+    public int rowCount() {
+        return coupons.size() + rejectedRows.size();
+    }
+
+    /**
+     * 쿠폰을 앞뒤 절반으로 나눈 두 청크 (쿠폰이 2개 이상일 때만)
+     * 행 범위는 뒤쪽 첫 쿠폰의 행에서 나누므로 두 범위를 합치면 원래 범위와 같다
+     */
+    public List<CouponChunk> split() {
+        int mid = coupons.size() / 2;
+        long boundary = couponRows[mid];
+        int rejectedBefore = countBefore(rejectedRows, boundary);
+        return List.of(
+                new CouponChunk(jobId, startRow, boundary - 1,
+                        coupons.subList(0, mid), Arrays.copyOfRange(couponRows, 0, mid),
+                        rejectedRows.subList(0, rejectedBefore)),
+                new CouponChunk(jobId, boundary, endRow,
+                        coupons.subList(mid, coupons.size()), Arrays.copyOfRange(couponRows, mid, couponRows.length),
+                        rejectedRows.subList(rejectedBefore, rejectedRows.size())));
+    }
+
+    /**
+     * 쿠폰을 하나도 저장하지 않고 범위 안의 모든 행을 거절된 행으로 기록할 청크 (체크포인트와 거절 행만 남김)
+     * @param reason 쿠폰을 만들었던 행들의 거절 사유
+     */
+    public CouponChunk rejectAll(String reason) {
+        List<CouponIssuanceRejectedRow> rows = new ArrayList<>(rejectedRows.size() + coupons.size());
+        rows.addAll(rejectedRows);
+        for (int i = 0; i < coupons.size(); i++) {
+            rows.add(new CouponIssuanceRejectedRow(jobId, couponRows[i], coupons.get(i).getCustomerId(), reason));
+        }
+        rows.sort(Comparator.comparingLong(CouponIssuanceRejectedRow::getRowPosition));
+        return new CouponChunk(jobId, startRow, endRow, List.of(), new long[0], rows);
+    }
+
+    /**
+     * 같은 값의 새 쿠폰 엔티티로 바꾼 청크
+     * 롤백된 트랜잭션에서 JPA가 id를 채웠을 수 있으므로 다시 저장할 때는 새 엔티티를 쓴다
+     */
+    public CouponChunk withFreshCoupons() {
+        List<Coupon> fresh = coupons.stream()
+                .map(coupon -> new Coupon(coupon.getCouponCode(), coupon.getCustomerId(), coupon.getJobId(),
+                        coupon.getCampaignCode(), coupon.getExpiresAt()))
+                .toList();
+        return new CouponChunk(jobId, startRow, endRow, fresh, couponRows, rejectedRows);
+    }
+
+    /* 행 위치가 row보다 앞인 거절 행 수 (이분 탐색) */
+    private static int countBefore(List<CouponIssuanceRejectedRow> sortedRows, long row) {
+        int low = 0;
+        int high = sortedRows.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedRows.get(mid).getRowPosition() < row) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,108 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.domain.coupon.Coupon;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceRejectedRow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * GenericBatchProcessor가 넘겨주는 쿠폰 리스트에 파일 행 범위를 붙여 CouponChunk로 만든다
+ * 리더 스레드에서만 사용한다 (CSV 구간 병렬 파싱이면 구간마다 하나씩 만든다)
+ * 범위는 직전 청크의 다음 행부터 마지막으로 읽은 행까지이며, 쿠폰마다의 행 위치와 그 사이에서 거절된 행(위치, 원본 값, 사유)도 함께 담는다
+ * (저장이 실패한 청크를 나눌 때 행 범위를 정확히 나누고, 거절 행을 체크포인트와 같은 트랜잭션으로 저장하기 위함)
+ * 쿠폰 없이 거절 행만 남은 경우(마지막 쿠폰 뒤의 거절 행, 모든 행이 거절된 파일)는 flushPending()으로 쿠폰 없는 청크를 만든다
+ */
+public class CouponChunkAssembler implements Consumer<List<Coupon>> {
+
+    //쌓인 쿠폰이 없을 때 거절 행만으로 청크를 만드는 기준 (거절 행이 계속 이어져도 메모리와 트랜잭션 크기를 제한)
+    static final int MAX_PENDING_REJECTED_ROWS = 1000;
+
+    private final Long jobId;
+    private final Consumer<CouponChunk> downstream;
+
+    private long nextStartRow;
+    private long lastRow;
+    private final RowList couponRows = new RowList();
+    private List<CouponIssuanceRejectedRow> rejectedRows = new ArrayList<>();
+
+    /**
+     * @param firstRow 이 assembler가 다루는 첫 행 위치
+     * @param downstream 완성된 청크를 받을 곳 (파이프라인)
+     */
+    public CouponChunkAssembler(Long jobId, long firstRow, Consumer<CouponChunk> downstream) {
+        this.jobId = jobId;
+        this.nextStartRow = firstRow;
+        this.lastRow = firstRow - 1;
+        this.downstream = downstream;
+    }
+
+    /* 쿠폰을 만들 행을 읽을 때마다 호출 (배치 처리기에 쿠폰을 넣기 직전) */
+    public void onRow(long rowNum) {
+        this.lastRow = rowNum;
+        couponRows.add(rowNum);
+    }
+
+    public void onRejected(long rowNum, String customerId, String reason) {
+        this.lastRow = rowNum;
+        rejectedRows.add(new CouponIssuanceRejectedRow(jobId, rowNum, customerId, reason));
+        //배치 처리기에 쌓인 쿠폰이 없을 때만 나눌 수 있다 (범위 안의 쿠폰 행이 모두 같은 청크에 들어가야 하므로)
+        if (couponRows.size() == 0 && rejectedRows.size() >= MAX_PENDING_REJECTED_ROWS) {
+            flushPending();
+        }
+    }
+
+    /**
+     * GenericBatchProcessor는 flush 후 리스트를 재사용하므로 복사본으로 청크를 만든다
+     */
+    @Override
+    public void accept(List<Coupon> batch) {
+        emit(new ArrayList<>(batch));
+    }
+
+    /**
+     * 배치 처리기를 비운 뒤(범위 끝) 아직 청크에 담기지 않은 거절 행이 있으면 쿠폰 없는 청크로 넘긴다
+     * 이 청크도 체크포인트와 거절 행을 저장하므로, 재개 시 이 행들을 다시 집계하지 않는다
+     */
+    public void flushPending() {
+        if (couponRows.size() > 0) {
+            throw new IllegalStateException("배치 처리기에 저장되지 않은 쿠폰이 남아 있습니다. job ID " + jobId);
+        }
+        if (!rejectedRows.isEmpty()) {
+            emit(List.of());
+        }
+    }
+
+    private void emit(List<Coupon> coupons) {
+        CouponChunk chunk = new CouponChunk(jobId, nextStartRow, lastRow, coupons,
+                couponRows.drain(), rejectedRows);
+        rejectedRows = new ArrayList<>();
+        nextStartRow = lastRow + 1;
+        downstream.accept(chunk);
+    }
+
+    /* 박싱 없이 행 위치를 모으는 리스트 */
+    private static final class RowList {
+        private long[] rows = new long[64];
+        private int size = 0;
+
+        void add(long row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long[] drain() {
+            long[] drained = Arrays.copyOf(rows, size);
+            size = 0;
+            return drained;
+        }
+    }
+}
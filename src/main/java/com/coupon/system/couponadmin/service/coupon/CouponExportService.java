@@ -0,0 +1,113 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.domain.coupon.CouponJdbcRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJob;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobStatus;
+import com.coupon.system.couponadmin.exception.coupon.JobNotCompletedException;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 작업이 발급한 쿠폰을 CSV(coupon_code,customer_id)로 내보낸다
+ * - DB 커서에서 읽는 대로 응답 스트림에 쓰므로, 발급 건수와 무관하게 메모리에는 fetchSize 행과 쓰기 버퍼만 올라간다
+ * - gzip이면 응답 스트림 위에 GZIPOutputStream을 씌워 압축하면서 보낸다
+ */
+@Slf4j
+@Service
+public class CouponExportService {
+
+    private static final String HEADER = "coupon_code,customer_id\n";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final CouponIssuanceJobRepository couponIssuanceJobRepository;
+    private final CouponJdbcRepository couponJdbcRepository;
+    private final int fetchSize;
+
+    public CouponExportService(CouponIssuanceJobRepository couponIssuanceJobRepository,
+                               CouponJdbcRepository couponJdbcRepository,
+                               @Value("${coupon.export.fetch-size:1000}") int fetchSize) {
+        this.couponIssuanceJobRepository = couponIssuanceJobRepository;
+        this.couponJdbcRepository = couponJdbcRepository;
+        this.fetchSize = Math.max(1, fetchSize);
+    }
+
+    /**
+     * 응답을 쓰기 전에 호출해 내보낼 수 있는 작업인지 확인하고 다운로드 파일명을 돌려준다
+     * (본문을 쓰기 시작한 뒤에는 상태 코드를 바꿀 수 없으므로)
+     */
+    public String prepareExport(Long jobId, boolean gzip) {
+        CouponIssuanceJob job = couponIssuanceJobRepository.findById(jobId)
+                .orElseThrow(() -> new EntityNotFoundException("Job not found with id: " + jobId));
+        if (job.getJobStatus() != CouponIssuanceJobStatus.COMPLETED) {
+            throw new JobNotCompletedException("완료된 작업만 내보낼 수 있습니다. (현재 상태: " + job.getJobStatus() + ")");
+        }
+        return "coupons-job-" + jobId + (gzip ? ".csv.gz" : ".csv");
+    }
+
+    /**
+     * @param out 응답 스트림 (닫지 않음)
+     * @return 내보낸 쿠폰 수
+     */
+    public long export(Long jobId, OutputStream out, boolean gzip) throws IOException {
+        GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, WRITE_BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(gzip ? gzipOut : out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        long[] count = {0};
+
+        writer.write(HEADER);
+        try {
+            couponJdbcRepository.forEachCouponOfJob(jobId, fetchSize, (couponCode, customerId) -> {
+                try {
+                    writeField(writer, couponCode);
+                    writer.write(',');
+                    writeField(writer, customerId);
+                    writer.write('\n');
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e); // 클라이언트가 연결을 끊으면 커서 읽기도 멈춘다
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+        if (gzipOut != null) {
+            gzipOut.finish(); // 응답 스트림은 컨테이너가 닫으므로 gzip 트레일러만 쓴다
+        }
+        log.info("작업 ID {} 쿠폰 {}건 내보내기 완료", jobId, count[0]);
+        return count[0];
+    }
+
+    /* 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 안의 따옴표는 두 번 쓴다 (RFC 4180) */
+    static void writeField(Writer writer, String value) throws IOException {
+        if (value == null) return;
+        boolean needsQuote = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                needsQuote = true;
+                break;
+            }
+        }
+        if (!needsQuote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,8 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+/**
+ * 작업 행(상태, 건수)이 바뀌었음을 알리는 이벤트
+ * 커밋 후 CouponIssuanceJobQueryService가 받아 해당 작업과 목록 캐시를 비운다
+ */
+public record CouponIssuanceJobChangedEvent(Long jobId) {
+}
@@ -0,0 +1,8 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+/**
+ * 발급 작업이 생성되었음을 알리는 이벤트
+ * 작업 생성 트랜잭션이 커밋된 뒤에 IssuanceJobScheduler가 받아 실행을 예약한다
+ */
+public record CouponIssuanceJobCreatedEvent(Long jobId) {
+}
@@ -0,0 +1,62 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobSearchCondition;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobSummary;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 작업 목록/단건 조회 캐시
+ * - 여러 관리자 화면이 같은 목록을 반복 조회해도 DB는 바뀐 뒤 처음 한 번만 읽는다
+ * - 작업 행이 바뀌어 커밋되면(CouponIssuanceJobChangedEvent) 해당 작업 캐시와 목록 캐시 전체를 비운다
+ *   (목록은 필터/커서 조합마다 따로 캐시되므로 어느 페이지에 그 작업이 있는지 알 수 없음)
+ * - 캐시 크기, 만료 시간은 spring.cache.caffeine.spec, 적중/미스 지표는 /actuator/metrics/cache.gets
+ */
+@Service
+public class CouponIssuanceJobQueryService {
+
+    public static final String JOB_PAGES_CACHE = "couponIssuanceJobPages";
+    public static final String JOB_SUMMARY_CACHE = "couponIssuanceJobSummary";
+
+    private final CouponIssuanceJobRepository couponIssuanceJobRepository;
+
+    public CouponIssuanceJobQueryService(CouponIssuanceJobRepository couponIssuanceJobRepository) {
+        this.couponIssuanceJobRepository = couponIssuanceJobRepository;
+    }
+
+    /**
+     * 조건(레코드 equals)이 같으면 캐시된 목록을 돌려준다
+     */
+    @Cacheable(cacheNames = JOB_PAGES_CACHE, key = "#condition")
+    @Transactional(readOnly = true)
+    public List<CouponIssuanceJobSummary> findSummaries(CouponIssuanceJobSearchCondition condition) {
+        return List.copyOf(couponIssuanceJobRepository.findSummaries(condition));
+    }
+
+    @Cacheable(cacheNames = JOB_SUMMARY_CACHE, key = "#jobId")
+    @Transactional(readOnly = true)
+    public CouponIssuanceJobSummary getSummary(Long jobId) {
+        return couponIssuanceJobRepository.findSummaryById(jobId)
+                .orElseThrow(() -> new EntityNotFoundException("Job not found with id: " + jobId));
+    }
+
+    /**
+     * 변경한 트랜잭션이 커밋된 뒤에 비운다 (커밋 전에 비우면 다른 요청이 이전 값을 다시 캐시할 수 있음)
+     * 트랜잭션 밖에서 발행된 이벤트(진행 건수 UPDATE 등)는 바로 비운다
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = JOB_SUMMARY_CACHE, key = "#event.jobId()"),
+            @CacheEvict(cacheNames = JOB_PAGES_CACHE, allEntries = true)
+    })
+    public void onJobChanged(CouponIssuanceJobChangedEvent event) {
+    }
+}
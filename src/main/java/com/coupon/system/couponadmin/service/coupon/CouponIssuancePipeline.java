@@ -0,0 +1,165 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 파싱과 저장을 분리한 쿠폰 발급 파이프라인
+ * 리더 스레드(파싱) -> 크기가 제한된 청크 큐 -> writer 스레드 풀(청크별 트랜잭션 저장)
+ * - 큐가 가득 차면 리더 스레드가 대기하므로 파싱 속도가 저장 속도를 넘지 않는다 (backpressure)
+ * - 성공/실패 건수는 청크 단위로 IssuanceProgress에 집계한다
+ * - chunkWriter가 예외를 던지면 (재시도, 나눠 저장으로도 해결되지 않은 오류) 작업 전체를 실패시킨다
+ * - writerCount가 0이면 writer 스레드 없이 리더 스레드에서 바로 저장한다 (순차 모드)
+ */
+@Slf4j
+public class CouponIssuancePipeline implements Consumer<CouponChunk>, AutoCloseable {
+
+    private static final CouponChunk POISON_PILL = new CouponChunk(null, 0, 0, List.of(), new long[0], List.of()); // writer 종료 신호 (동일성 비교)
+    private static final long OFFER_TIMEOUT_SECONDS = 1;
+    private static final long WRITER_SHUTDOWN_TIMEOUT_MINUTES = 10;
+
+    private final Long jobId;
+    private final int writerCount;
+    private final Function<CouponChunk, ChunkWriteResult> chunkWriter;
+    private final IssuanceProgress progress;
+    private final BlockingQueue<CouponChunk> queue;
+    private final ExecutorService writers;
+
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    private boolean completed = false;
+
+    /**
+     * @param jobId 발급 작업 ID (스레드 이름, 로그용)
+     * @param writerCount 동시에 청크를 저장할 writer 스레드 수 (0이면 순차 모드)
+     * @param queueCapacity 저장 대기 중인 청크를 최대 몇 개까지 쌓아둘지
+     * @param chunkWriter 청크 하나를 저장하는 작업 (청크별 새 트랜잭션), 저장/건너뜀/거절 건수를 돌려준다
+     * @param progress 청크별 성공/실패 건수를 기록할 진행 상황
+     */
+    public CouponIssuancePipeline(Long jobId, int writerCount, int queueCapacity, Function<CouponChunk, ChunkWriteResult> chunkWriter,
+                                  IssuanceProgress progress) {
+        this.jobId = jobId;
+        this.writerCount = Math.max(0, writerCount);
+        this.chunkWriter = chunkWriter;
+        this.progress = progress;
+
+        if (this.writerCount == 0) {
+            this.queue = null;
+            this.writers = null;
+            return;
+        }
+
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.writers = Executors.newFixedThreadPool(this.writerCount,
+                new CustomizableThreadFactory("coupon-writer-" + jobId + "-"));
+        for (int i = 0; i < this.writerCount; i++) {
+            writers.execute(this::writeLoop);
+        }
+    }
+
+    /**
+     * 리더 스레드에서 호출: 청크를 저장 대기열에 넣는다
+     */
+    @Override
+    public void accept(CouponChunk chunk) {
+        throwIfFailed();
+
+        if (writerCount == 0) {
+            writeChunk(chunk);
+            throwIfFailed();
+            return;
+        }
+
+        try {
+            // 큐가 가득 차 있으면 대기 (backpressure), 대기 중에도 writer 실패를 확인한다
+            while (!queue.offer(chunk, OFFER_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throwIfFailed();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("쿠폰 청크 대기열 등록 중 인터럽트 발생 job ID " + jobId, e);
+        }
+    }
+
+    /**
+     * 파싱이 끝난 뒤 호출: 남은 청크가 모두 저장될 때까지 기다린다
+     * 저장에 실패한 청크가 있었다면 그 예외를 던진다
+     */
+    public void awaitCompletion() {
+        if (writerCount > 0 && !completed) {
+            try {
+                for (int i = 0; i < writerCount; i++) {
+                    queue.put(POISON_PILL);
+                }
+                writers.shutdown();
+                if (!writers.awaitTermination(WRITER_SHUTDOWN_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+                    throw new IllegalStateException("쿠폰 청크 저장이 제한 시간 내에 끝나지 않았습니다. job ID " + jobId);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("쿠폰 청크 저장 대기 중 인터럽트 발생 job ID " + jobId, e);
+            }
+        }
+        completed = true;
+        throwIfFailed();
+    }
+
+    /**
+     * 파싱 도중 예외 등으로 awaitCompletion에 도달하지 못한 경우 writer 스레드를 정리한다
+     */
+    @Override
+    public void close() {
+        if (writers != null && !completed) {
+            queue.clear();
+            writers.shutdownNow();
+        }
+    }
+
+    private void writeLoop() {
+        try {
+            while (true) {
+                CouponChunk chunk = queue.take();
+                if (chunk == POISON_PILL) {
+                    return;
+                }
+                if (failure.get() != null) {
+                    continue; // 이미 실패한 작업이면 남은 청크는 저장하지 않고 비운다
+                }
+                writeChunk(chunk);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeChunk(CouponChunk chunk) {
+        int size = chunk.coupons().size();
+        try {
+            ChunkWriteResult result = chunkWriter.apply(chunk);
+            progress.recordChunkSucceeded(result.saved(), result.skipped());
+            if (result.rejected() > 0) {
+                progress.recordChunkFailed(result.rejected());
+            }
+        } catch (RuntimeException e) {
+            progress.recordChunkFailed(size);
+            failure.compareAndSet(null, e);
+            log.error("쿠폰 청크 저장 실패 job ID {} ({}건): {}", jobId, size, e.getMessage());
+        }
+    }
+
+    private void throwIfFailed() {
+        RuntimeException e = failure.get();
+        if (e != null) {
+            throw new IllegalStateException("쿠폰 청크 저장에 실패했습니다. job ID " + jobId, e);
+        }
+    }
+}
@@ -1,40 +1,54 @@
 package com.coupon.system.couponadmin.service.coupon;
 
-import com.coupon.system.couponadmin.domain.auth.Admin;
-import com.coupon.system.couponadmin.domain.auth.AdminRepository;
 import com.coupon.system.couponadmin.domain.coupon.Coupon;
 import com.coupon.system.couponadmin.domain.coupon.CouponRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceChunk;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceChunkRepository;
 import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJob;
 import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobSearchCondition;
 import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobStatus;
-import com.coupon.system.couponadmin.exception.auth.AdminNotFoundException;
-import com.coupon.system.couponadmin.exception.coupon.InvalidFileException;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceOptions;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceRejectedRowJdbcRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceRejectedRowRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobSummary;
+import com.coupon.system.couponadmin.dto.couponissurancejob.response.GetAllCouponIssuanceJobsResponse;
+import com.coupon.system.couponadmin.security.AdminPrincipal;
+import com.coupon.system.couponadmin.service.auth.AdminQueryService;
+import com.coupon.system.couponadmin.dto.couponissurancejob.response.GetCouponIssuanceJobsPageResponse;
+import com.coupon.system.couponadmin.service.coupon.code.CouponCodeGenerator;
+import com.coupon.system.couponadmin.service.coupon.dedupe.CustomerIdDeduplicator;
+import com.coupon.system.couponadmin.service.coupon.dedupe.CustomerIdDeduplicatorFactory;
+import com.coupon.system.couponadmin.service.coupon.parser.CustomerIdRangeHandler;
+import com.coupon.system.couponadmin.service.coupon.parser.CustomerIdParser;
+import com.coupon.system.couponadmin.service.coupon.parser.CustomerIdParserFactory;
+import com.coupon.system.couponadmin.service.coupon.parser.MappedCsvCustomerIdParser;
 import com.coupon.system.couponadmin.service.file.FileService;
+import com.coupon.system.couponadmin.util.BatchSizePolicy;
+import com.coupon.system.couponadmin.util.CountingInputStream;
+import com.coupon.system.couponadmin.util.TimedInputStream;
 import com.coupon.system.couponadmin.util.GenericBatchProcessor;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.data.domain.Sort;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
-import java.util.function.Consumer;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellType;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
 
 import java.io.BufferedInputStream;
 
@@ -42,29 +56,85 @@ import java.io.BufferedInputStream;
 @Service
 public class CouponIssuanceService {
 
-    //청크(Chunk) 단위로 처리할 배치 크기
-    private static final int BATCH_SIZE = 1000;
+    //파서 기준 첫 데이터 행 위치 (헤더 = 0)
+    private static final long FIRST_DATA_ROW = 1;
+    //작업 목록 페이지 크기
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    //거절 행 보고서를 만들 때 DB 커서에서 한 번에 받아올 행 수
+    private static final int REJECTED_ROW_FETCH_SIZE = 1000;
 
     private final CouponBatchService couponBatchService;
     private final CouponIssuanceJobRepository couponIssuanceJobRepository;
+    private final CouponIssuanceChunkRepository couponIssuanceChunkRepository;
+    private final CouponIssuanceRejectedRowRepository couponIssuanceRejectedRowRepository;
+    private final CouponIssuanceRejectedRowJdbcRepository couponIssuanceRejectedRowJdbcRepository;
     private final CouponRepository couponRepository;
-    private final AdminRepository adminRepository; // adminId를 찾기 위해
+    private final AdminQueryService adminQueryService; // adminId 클레임이 없는 이전 토큰용
 
     private final FileService fileService;
+    private final CustomerIdParserFactory customerIdParserFactory;
+    private final CouponCodeGenerator couponCodeGenerator;
+    private final CustomerIdDeduplicatorFactory customerIdDeduplicatorFactory;
+    private final BatchSizePolicyFactory batchSizePolicyFactory; //청크(Chunk) 단위로 처리할 배치 크기 (고정 또는 커밋 시간에 따라 조절)
+    private final IssuanceProgressTracker issuanceProgressTracker;
+    private final IssuanceMetrics issuanceMetrics;
+    private final CouponIssuanceJobQueryService couponIssuanceJobQueryService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final int writerThreads; // 청크를 동시에 저장할 writer 스레드 수 (0이면 순차 저장)
+    private final int queueCapacity; // 저장 대기 청크 수 상한 (backpressure)
+    private final int retryMaxAttempts; // 일시적 오류로 실패한 청크를 저장해 볼 최대 횟수
+    private final Duration retryBackoff; // 첫 재시도 전 대기 시간 (재시도마다 두 배)
+    private final int maxRejectedRows; // 저장 실패로 거절할 수 있는 행 수 상한 (넘으면 작업 실패)
 
     // 생성자에서 'FileStorage' 인터페이스 타입을 받고 (유연성 확보),
-    // @Primary 또는 @Qualifier로 실제 구현체(S3/Local)를 주입받는다.
-    public CouponIssuanceService(CouponBatchService couponBatchService, CouponIssuanceJobRepository couponIssuanceJobRepository, CouponRepository couponRepository, AdminRepository adminRepository, FileService fileService) {
+    // @Primary 또는 @Qualifier로 실제 구현체(S3/Local)를 주입받는다. (file.storage=local이면 S3Service 빈이 없어 LocalService)
+    public CouponIssuanceService(CouponBatchService couponBatchService, CouponIssuanceJobRepository couponIssuanceJobRepository, CouponIssuanceChunkRepository couponIssuanceChunkRepository, CouponRepository couponRepository, AdminQueryService adminQueryService, FileService fileService,
+                                 CouponIssuanceRejectedRowRepository couponIssuanceRejectedRowRepository,
+                                 CouponIssuanceRejectedRowJdbcRepository couponIssuanceRejectedRowJdbcRepository,
+                                 CustomerIdParserFactory customerIdParserFactory, CouponCodeGenerator couponCodeGenerator,
+                                 CustomerIdDeduplicatorFactory customerIdDeduplicatorFactory,
+                                 BatchSizePolicyFactory batchSizePolicyFactory,
+                                 IssuanceProgressTracker issuanceProgressTracker,
+                                 IssuanceMetrics issuanceMetrics,
+                                 CouponIssuanceJobQueryService couponIssuanceJobQueryService,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${coupon.issuance.pipeline.writer-threads:4}") int writerThreads,
+                                 @Value("${coupon.issuance.pipeline.queue-capacity:8}") int queueCapacity,
+                                 @Value("${coupon.issuance.retry.max-attempts:3}") int retryMaxAttempts,
+                                 @Value("${coupon.issuance.retry.backoff-ms:200}") long retryBackoffMs,
+                                 @Value("${coupon.issuance.retry.max-rejected-rows:1000}") int maxRejectedRows) {
         this.couponBatchService = couponBatchService;
         this.couponIssuanceJobRepository = couponIssuanceJobRepository;
+        this.couponIssuanceChunkRepository = couponIssuanceChunkRepository;
+        this.couponIssuanceRejectedRowRepository = couponIssuanceRejectedRowRepository;
+        this.couponIssuanceRejectedRowJdbcRepository = couponIssuanceRejectedRowJdbcRepository;
         this.couponRepository = couponRepository;
-        this.adminRepository = adminRepository;
+        this.adminQueryService = adminQueryService;
         this.fileService = fileService;
+        this.customerIdParserFactory = customerIdParserFactory;
+        this.couponCodeGenerator = couponCodeGenerator;
+        this.customerIdDeduplicatorFactory = customerIdDeduplicatorFactory;
+        this.batchSizePolicyFactory = batchSizePolicyFactory;
+        this.issuanceProgressTracker = issuanceProgressTracker;
+        this.issuanceMetrics = issuanceMetrics;
+        this.couponIssuanceJobQueryService = couponIssuanceJobQueryService;
+        this.eventPublisher = eventPublisher;
+        this.writerThreads = writerThreads;
+        this.queueCapacity = queueCapacity;
+        this.retryMaxAttempts = retryMaxAttempts;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+        this.maxRejectedRows = maxRejectedRows;
     }
 
-    public record FileDownloadInfo(Resource resource, String originalFileName) {}
     /**
-     * API 2 : 다운로드에 필요한 파일 리소스와 원본 파일명을 job DB 조회 한 번으로 처리
+     * 파일(원본 파일, 거절 행 보고서) 다운로드 방법 : redirectUrl(저장소에서 직접 받기)과 localPath(앱 서버가 내려주기) 중 하나만 값이 있다
+     */
+    public record FileDownloadInfo(String downloadFileName, URI redirectUrl, Path localPath) {}
+    /**
+     * API 2 : 다운로드에 필요한 파일 위치와 원본 파일명을 job DB 조회 한 번으로 처리
+     * S3처럼 직접 받을 수 있는 저장소면 짧은 유효기간의 URL을, 로컬 저장소면 파일 경로를 돌려준다
      * @param jobId
      * @return 다운로드 파일 정보 DTO
      */
@@ -74,249 +144,386 @@ public class CouponIssuanceService {
         CouponIssuanceJob savedJob = couponIssuanceJobRepository.findById(jobId)
                 .orElseThrow(() -> new EntityNotFoundException("Job not found with id: " + jobId));
 
-        try {
-            Resource resource = fileService.loadAsResource(savedJob.getSavedFilePath());
-            return new FileDownloadInfo(resource, savedJob.getOriginalFileName());
-        } catch (Exception e) {
-            throw new RuntimeException("Could not read file for job id: " + jobId, e);
+        return toFileDownloadInfo(jobId, savedJob.getSavedFilePath(), savedJob.getOriginalFileName());
+    }
+
+    /**
+     * API 6 : 거절된 행 보고서(row_position, customer_id, reason CSV) 다운로드 정보
+     * 거절된 행이 없거나 아직 보고서를 올리지 않은 작업이면 404
+     */
+    @Transactional(readOnly = true)
+    public FileDownloadInfo downloadRejectedRowsFile(Long jobId) {
+
+        CouponIssuanceJob savedJob = couponIssuanceJobRepository.findById(jobId)
+                .orElseThrow(() -> new EntityNotFoundException("Job not found with id: " + jobId));
+        if (savedJob.getRejectedFilePath() == null) {
+            throw new EntityNotFoundException("Rejected rows report not found for job id: " + jobId);
+        }
+
+        return toFileDownloadInfo(jobId, savedJob.getRejectedFilePath(), "rejected-rows-job-" + jobId + ".csv");
+    }
+
+    private FileDownloadInfo toFileDownloadInfo(Long jobId, String savedFilePath, String downloadFileName) {
+        Optional<URI> downloadUrl = fileService.generateDownloadUrl(savedFilePath, downloadFileName);
+        if (downloadUrl.isPresent()) {
+            return new FileDownloadInfo(downloadFileName, downloadUrl.get(), null);
         }
+        Path localPath = fileService.resolveLocalPath(savedFilePath)
+                .orElseThrow(() -> new IllegalStateException("Could not read file for job id: " + jobId));
+        return new FileDownloadInfo(downloadFileName, null, localPath);
     }
 
     /**
      * API 3-1 : 파일 업로드 완료 후 쿠폰 발급 작업 생성
+     * @param options 발급 옵션 (파일 내 중복 제외, 캠페인 기발급 고객 건너뛰기)
      */
     @Transactional
     public CouponIssuanceJob createCouponIssuanceJob(
-            String originalFileName, String savedFilePath, String adminName) throws IOException {
+            String originalFileName, String savedFilePath, AdminPrincipal admin,
+            CouponIssuanceOptions options) throws IOException {
 
-        //1. 현재 로그인한 Admin ID로 DB에서 해당 Admin 찾는다
-        Admin savedAdmin = adminRepository.findByAdminName(adminName)
-                .orElseThrow(AdminNotFoundException::new);
+        //1. 현재 로그인한 Admin ID는 토큰에 담겨 있다 (이전 토큰이면 캐시된 이름 -> ID 조회)
+        Long adminId = admin.adminId() != null ? admin.adminId() : adminQueryService.getAdminId(admin.adminName());
 
         //2. 쿠폰 발급 작업(Job) 생성한 후 DB에 반영한다
         CouponIssuanceJob savedJob = couponIssuanceJobRepository.save(new CouponIssuanceJob(
                 originalFileName,
                 savedFilePath, // S3 파일 경로(key) 저장
-                savedAdmin.getId()
+                adminId,
+                options
         ));
 
-        //3. 비동기로 파일 검증과 쿠폰 발급을 처리한다
-        issueCoupons(savedJob.getId());
+        //3. 커밋 후 목록 캐시를 비우고, 발급 전용 실행기(IssuanceJobScheduler)가 파일 검증과 쿠폰 발급을 비동기로 처리한다
+        eventPublisher.publishEvent(new CouponIssuanceJobChangedEvent(savedJob.getId()));
+        eventPublisher.publishEvent(new CouponIssuanceJobCreatedEvent(savedJob.getId()));
 
         //4. 생성한 작업 엔티티 변환
         return savedJob;
     }
 
     /**
-     * API 3-2 : 비동기로 파일 검증과 쿠폰 발급을 처리한다
+     * API 3-2 : 파일 검증과 쿠폰 발급을 처리한다 (IssuanceJobScheduler의 작업 스레드에서 실행됨)
      * 검증 -> 파싱 -> 생성
      * 쿠폰은 대용량으로 발급됨을 가정하였다
      */
-    @Async // 이 메서드는 별도 스레드에서 비동기로 동작하게 한다
     public void issueCoupons(Long jobId) {
 
+        long startedAt = System.nanoTime();
         CouponIssuanceJob savedJob = couponIssuanceJobRepository.findById(jobId)
                 .orElseThrow(() -> new EntityNotFoundException("Job not found: " + jobId));
 
-        int totalCount = 0;
+        IssuanceProgress progress = null;
+        IssuanceMetrics.JobMetrics metrics = null;
+        CouponIssuancePipeline pipeline = null;
+        CustomerIdDeduplicator deduplicator = null;
+        boolean interrupted = false;
 
         try {
-            // 1. 상태 'PENDING' 변경
+            // 1. 상태 'PENDING' 변경 후 진행 상황 추적 시작
             savedJob.updateJobStatus(CouponIssuanceJobStatus.PENDING);
-            couponIssuanceJobRepository.save(savedJob);
-
-            // 2. 파일을 딱 한 번 열고, 확장자에 따라 파일 검증 및 파싱 처리
-            //배치 처리기(Processor) 생성
-            Consumer<List<Coupon>> saveAction = batch ->
-                    couponBatchService.saveCouponsInNewTransaction(batch); //배치단위로 트랜잭션
-            GenericBatchProcessor<Coupon> batchProcessor = new GenericBatchProcessor<>(BATCH_SIZE, saveAction);
-
-            // S3/Local 등에서 파일을 스트림으로 읽어옴
-            try (InputStream inputStream = new BufferedInputStream(fileService.loadAsInputStream(savedJob.getSavedFilePath()))) {
-
-                // 2-1. 스트림으로 파일 검증 (스트림을 닫지 않고 진행)
-                String originalFilename  = savedJob.getOriginalFileName();
-                validateFileStream(inputStream, originalFilename);
-
-                // 2-2. 파일 파싱과 쿠폰발행작업 생성을 스트리밍으로 동시에 처리 (OOM 방지)
-                if (originalFilename.endsWith(".csv")) {
-                    processCsvStream(inputStream, jobId, batchProcessor);
-                } else if (originalFilename.endsWith(".xls") || originalFilename.endsWith(".xlsx")) {
-                    processExcelStream(inputStream, jobId, batchProcessor);
-                } else {
-                    throw new InvalidFileException("지원하지 않는 파일 형식입니다.");
+            saveJob(savedJob);
+            long fileSize = fileService.getFileSize(savedJob.getSavedFilePath());
+            progress = issuanceProgressTracker.start(jobId, fileSize);
+            metrics = issuanceMetrics.start(jobId, savedJob.getOriginalFileName(), progress, startedAt); //단계별 지표 (job, 파일 형식 태그)
+            IssuanceMetrics.JobMetrics jobMetrics = metrics;
+
+            // 1-1. 중단되었던 작업이면 이전 실행에서 커밋된 청크(체크포인트)의 건수를 이어받고, 그 행들은 건너뛴다
+            //(커밋된 범위의 거절 행은 체크포인트와 함께 DB에 남아 있으므로 보고서도 이어진다)
+            CommittedRowRanges committedRows = restoreCheckpoints(jobId, progress);
+
+            // 2. 파일을 딱 한 번 열고, 확장자에 따라 파일 검증 및 파싱을 한 번에 처리
+            //파싱(현재 스레드)과 저장(writer 스레드 풀)을 분리한 파이프라인 생성
+            //이미 발급된 고객 건너뛰기 옵션이면 writer가 청크마다 (캠페인, 고객) 인덱스로 한 번 조회해 걸러낸다
+            String skipIssuedCampaignCode = savedJob.isSkipAlreadyIssued() ? savedJob.getCampaignCode() : null;
+            //청크 크기 정책은 작업 안에서 공유하고, 커밋 시간/실패는 writer 스레드에서 알려준다 (배치 처리기는 대기열에 넘기기만 하므로)
+            BatchSizePolicy batchSizePolicy = batchSizePolicyFactory.create();
+            jobMetrics.watchBatchSize(batchSizePolicy);
+            //실패한 청크는 다시 시도하고, 데이터 오류면 반으로 나눠 저장하며 문제 행만 거절한다
+            BisectingChunkWriter chunkWriter = new BisectingChunkWriter(jobId,
+                    chunk -> {
+                        jobMetrics.chunkSize().record(chunk.coupons().size());
+                        return jobMetrics.chunkCommit()
+                                .record(() -> couponBatchService.saveCouponsInNewTransaction(chunk, skipIssuedCampaignCode));
+                    },
+                    batchSizePolicy, retryMaxAttempts, retryBackoff, maxRejectedRows);
+            pipeline = new CouponIssuancePipeline(jobId, writerThreads, queueCapacity, chunkWriter, progress); //배치단위로 트랜잭션
+            //파일 안 중복 customer_id 판별기 (작업 설정에 따라 사용)
+            deduplicator = customerIdDeduplicatorFactory.create(jobId, savedJob.isDeduplicateCustomerIds());
+
+            // 2-1. 로컬 디스크의 큰 CSV는 메모리 매핑 후 구간별로 병렬 파싱한다
+            //중복 제외는 '먼저 나온 행'을 남겨야 하므로 파일 순서대로 읽는 경로를 사용
+            Optional<Path> localPath = fileService.resolveLocalPath(savedJob.getSavedFilePath());
+            Optional<MappedCsvCustomerIdParser> parallelParser = (localPath.isEmpty() || savedJob.isDeduplicateCustomerIds())
+                    ? Optional.empty()
+                    : customerIdParserFactory.resolveParallel(savedJob.getOriginalFileName(), fileSize);
+            jobMetrics.endStage("prepare");
+
+            boolean parsedInParallel = false;
+            if (parallelParser.isPresent()) {
+                //구간마다 배치 처리기와 청크 범위를 따로 두고, 파이프라인/진행 상황은 공유해 한 작업 결과로 합친다
+                //안전하게 나눌 수 없는 파일(따옴표 짝이 안 맞음)이면 아무것도 읽지 않고 false -> 아래 순차 파싱으로 읽는다
+                IssuanceProgress jobProgress = progress;
+                CouponIssuancePipeline jobPipeline = pipeline;
+                CustomerIdDeduplicator jobDeduplicator = deduplicator;
+                parsedInParallel = parallelParser.get().parse(localPath.get(),
+                        rangeStart -> new CouponRowHandler(savedJob, jobProgress, jobMetrics, jobPipeline, batchSizePolicy, jobDeduplicator, committedRows, rangeStart),
+                        progress::addBytesRead);
+            }
+            if (!parsedInParallel) {
+                // S3/Local 등에서 파일을 스트림으로 읽어옴 (읽은 바이트 수는 진행률 계산에, read 대기 시간은 저장소 지표에 사용)
+                try (InputStream inputStream = new BufferedInputStream(new CountingInputStream(
+                        new TimedInputStream(fileService.loadAsInputStream(savedJob.getSavedFilePath()), jobMetrics::recordStorageRead),
+                        progress::addBytesRead))) {
+
+                    // 2-2. 확장자에 맞는 파서 선택
+                    CustomerIdParser parser = customerIdParserFactory.resolve(savedJob.getOriginalFileName());
+
+                    // 2-3. 파일 검증(헤더, 행, empty)과 파싱, 쿠폰발행작업 생성을 스트림 한 번 순회로 동시에 처리 (OOM 방지)
+                    CouponRowHandler handler = new CouponRowHandler(savedJob, progress, jobMetrics, pipeline, batchSizePolicy, deduplicator, committedRows, FIRST_DATA_ROW);
+                    parser.parse(inputStream, handler);
+                    handler.onRangeEnd(); // 남아있는 쿠폰들을 최종적으로 저장
                 }
             }
 
-            // 3. 루프가 끝난 후, 남아있는 쿠폰들을 최종적으로 저장
-            batchProcessor.flush();
+            jobMetrics.endParse();
+
+            // 3. 모든 청크의 커밋을 기다림
+            pipeline.awaitCompletion();
+            jobMetrics.endStage("drain");
 
             // 4. 작업 완료 처리
+            boolean reportStored = storeRejectedRowReport(savedJob);
             savedJob.updateJobStatus(CouponIssuanceJobStatus.COMPLETED);
-            savedJob.updateTotalCount(totalCount);
-            savedJob.updateSuccessCount(totalCount);
+            applyCounts(savedJob, progress);
             savedJob.updateCompletedAt(LocalDateTime.now());
-            couponIssuanceJobRepository.save(savedJob);
+            saveJob(savedJob);
+            couponIssuanceChunkRepository.deleteAllByJobId(jobId); // 완료된 작업의 체크포인트는 더 이상 필요 없음
+            if (reportStored) {
+                couponIssuanceRejectedRowRepository.deleteAllByJobId(jobId); // 보고서로 옮긴 거절 행 (못 올렸으면 남겨둔다)
+            }
+            jobMetrics.endStage("finalize");
 
-            log.info("Job ID {} 완료. 총 {}개 쿠폰 발행완료.", jobId, totalCount);
+            log.info("Job ID {} 완료. 총 {}개 쿠폰 발행완료, 기발급 고객 {}건 건너뜀, 거절 {}건 (저장 실패 {}건).",
+                    jobId, progress.getSuccessCount(), progress.getSkippedCount(), progress.getFailCount(), chunkWriter.getRejectedRows());
+            if (deduplicator.getDuplicateCount() > 0) {
+                log.info("Job ID {} 중복 customer_id {}건 제외", jobId, deduplicator.getDuplicateCount());
+            }
 
         } catch (Exception e) {
-            // 5. 그 외 예외 처리
-            log.error("진행 실패 job ID {}: {}", jobId, e.getMessage(), e);
-            savedJob.updateJobStatus(CouponIssuanceJobStatus.FAILED);
-            couponIssuanceJobRepository.save(savedJob);
+            // 5. 그 외 예외 처리 : 이미 커밋된 청크 기준으로 건수를 남긴다
+            //서버 종료로 인터럽트된 작업은 PENDING으로 남겨 재시작 시 IssuanceJobRecovery가 이어서 처리하게 한다
+            //(인터럽트 상태를 지워야 아래 저장이 끝까지 실행되므로, 저장 후 다시 설정한다)
+            interrupted = Thread.interrupted() || isCausedByInterrupt(e);
+            if (interrupted) {
+                log.warn("Job ID {} 서버 종료로 중단되었습니다. 재시작 시 커밋된 청크 다음부터 이어서 처리합니다.", jobId);
+            } else {
+                log.error("진행 실패 job ID {}: {}", jobId, e.getMessage(), e);
+                savedJob.updateJobStatus(CouponIssuanceJobStatus.FAILED);
+            }
+            if (progress != null) {
+                applyCounts(savedJob, progress);
+            }
+            if (pipeline != null) {
+                pipeline.close(); // 커밋된 청크가 더 늘지 않도록 writer를 먼저 멈춘다
+            }
+            storeRejectedRowReport(savedJob); // 지금까지 커밋된 범위의 거절 행 (재개하면 다시 만든다)
+            saveJob(savedJob);
+        } finally {
+            if (pipeline != null) {
+                pipeline.close();
+            }
+            if (metrics != null) {
+                metrics.close();
+            }
+            if (deduplicator != null) {
+                deduplicator.close(); // 메모리 상한을 넘어 파일로 내린 키
+            }
+            issuanceProgressTracker.finish(savedJob);
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
         }
     }
 
-    // --- 헬퍼 메서드 ---
+    /* 예외가 스레드 인터럽트(대기 중 InterruptedException, 인터럽트로 닫힌 채널 등)에서 비롯되었는지 */
+    private static boolean isCausedByInterrupt(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException || cause instanceof InterruptedIOException
+                    || cause instanceof ClosedByInterruptException) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     /**
-     * InputStream을 직접 검증함
-     * 스트림을 두 번 읽기 위해 mark/reset 사용
+     * 체크포인트와 함께 저장된 거절 행이 있으면 행 위치 순서로 보고서를 만들어 저장소에 올리고 작업에 경로를 남긴다
+     * 보고서를 올리지 못해도 이미 커밋된 발급 결과는 그대로 두어야 하므로 예외는 기록만 한다
+     * @return 보고서를 올렸거나 거절 행이 없으면 true
      */
-    private void validateFileStream(InputStream inputStream, String originalFilename) throws IOException, InvalidFileException {
-        if (!inputStream.markSupported()) {
-            throw new IOException("Mark/reset not supported by this InputStream");
-        }
-        inputStream.mark(Integer.MAX_VALUE); // 스트림 시작점 마킹
-
-        if (originalFilename.endsWith(".csv")) {
-            validateCsv(inputStream);
-        } else if (originalFilename.endsWith(".xls") || originalFilename.endsWith(".xlsx")) {
-            validateExcel(inputStream);
-        } else {
-            throw new InvalidFileException("지원하지 않는 파일 형식입니다.");
+    private boolean storeRejectedRowReport(CouponIssuanceJob job) {
+        try (RejectedRowReport report = RejectedRowReport.create(job.getId())) {
+            couponIssuanceRejectedRowJdbcRepository.forEachRejectedRowOfJob(job.getId(), REJECTED_ROW_FETCH_SIZE, report::add);
+            if (report.getCount() == 0) {
+                job.updateRejectedFilePath(null);
+                return true;
+            }
+            job.updateRejectedFilePath(fileService.save("rejected-rows-job-" + job.getId() + ".csv", report.finish()));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("Job ID {} 거절 행 보고서 저장 실패: {}", job.getId(), e.getMessage(), e);
+            return false;
         }
-
-        inputStream.reset(); // 파싱을 위해 스트림 포인터를 시작점으로 되돌림
     }
 
     /**
-     * CSV 파일 검증
-     * 스트림의 생명주기는 이 메서드를 호출한 issueCoupons에서 관리함
-     * reader를 직접 닫지 않음
+     * 작업 진행 상황(SSE) 구독
      */
-    private void validateCsv(InputStream inputStream) throws IOException, InvalidFileException {
-
-        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
-
-        //1. 헤더 검증
-        String header = reader.readLine();
-        if (header == null || !"customer_id".equalsIgnoreCase(header.trim())) {
-            throw new InvalidFileException("파일 헤더가 'customer_id'가 아니거나 비어있습니다.");
-        }
+    public SseEmitter subscribeProgress(Long jobId) {
+        return issuanceProgressTracker.subscribe(jobId);
+    }
 
-        //2. 내용 존재 여부 검증
-        boolean hasData = false;
-        String line;
-        while ((line = reader.readLine()) != null) {
-            if (!line.trim().isEmpty()) {
-                hasData = true;
-                break; //한줄이라도 있으면 검증 종료
+    /**
+     * 이전 실행에서 커밋된 청크들의 건수를 진행 상황에 반영하고, 건너뛸 행 범위를 반환한다
+     */
+    private CommittedRowRanges restoreCheckpoints(Long jobId, IssuanceProgress progress) {
+        List<CouponIssuanceChunk> committedChunks = couponIssuanceChunkRepository.findAllByJobIdOrderByStartRow(jobId);
+        if (!committedChunks.isEmpty()) {
+            int total = 0;
+            int rejected = 0;
+            int skipped = 0;
+            for (CouponIssuanceChunk chunk : committedChunks) {
+                total += chunk.getRowCount();
+                rejected += chunk.getRejectedCount();
+                skipped += chunk.getSkippedCount();
             }
+            progress.restore(total, total - rejected - skipped, rejected, skipped);
+            log.info("Job ID {} 재개: 커밋된 청크 {}개({}행)를 건너뜁니다.", jobId, committedChunks.size(), total);
         }
-        if (!hasData) {
-            throw new InvalidFileException("헤더 외에 회원 목록이 비어있습니다.");
-        }
-
+        return new CommittedRowRanges(committedChunks);
     }
 
-
     /**
-     * Excel 파일 검증
+     * 파서가 읽은 행을 쿠폰으로 만들어 배치 단위로 파이프라인에 넘기는 핸들러
+     * 파일 전체(순차) 또는 구간(병렬) 하나마다 만들며, 배치 처리기/청크 범위/체크포인트 커서는 핸들러마다 따로 둔다
      */
-    private void validateExcel(InputStream inputStream) throws IOException, InvalidFileException {
-
-        Workbook workbook = WorkbookFactory.create(inputStream);
-        Sheet sheet = workbook.getSheetAt(0);
-
-        //1. 헤더 검증
-        Row headerRow = sheet.getRow(0);
-        if (headerRow == null) {
-            throw new InvalidFileException("파일 헤더가 비어있습니다.");
-        }
-        Cell headerCell = headerRow.getCell(0);
-        if (headerCell == null || !"customer_id".equalsIgnoreCase(headerCell.getStringCellValue().trim())) {
-            throw new InvalidFileException("파일 헤더가 'customer_id'가 아닙니다.");
+    private final class CouponRowHandler implements CustomerIdRangeHandler {
+
+        private final Long jobId;
+        private final String campaignCode;
+        private final IssuanceProgress progress;
+        private final IssuanceMetrics.JobMetrics metrics;
+        private final CustomerIdDeduplicator deduplicator;
+        private final CommittedRowRanges.Cursor committedRows;
+        private final CouponChunkAssembler chunkAssembler;
+        private final GenericBatchProcessor<Coupon> batchProcessor;
+        private boolean started = false; // 이 핸들러가 첫 행을 받았는지 (validate 단계 마감용)
+
+        /**
+         * @param firstRow 이 핸들러가 다루는 첫 행 위치
+         */
+        CouponRowHandler(CouponIssuanceJob job, IssuanceProgress progress, IssuanceMetrics.JobMetrics metrics, CouponIssuancePipeline pipeline,
+                         BatchSizePolicy batchSizePolicy, CustomerIdDeduplicator deduplicator,
+                         CommittedRowRanges committedRows, long firstRow) {
+            this.jobId = job.getId();
+            this.campaignCode = job.getCampaignCode();
+            this.progress = progress;
+            this.metrics = metrics;
+            this.deduplicator = deduplicator;
+            this.committedRows = committedRows.cursor();
+            //배치 처리기(Processor) 생성 : 청크가 차면 행 범위를 붙여 파이프라인에 넘긴다
+            this.chunkAssembler = new CouponChunkAssembler(jobId, firstRow, pipeline);
+            this.batchProcessor = new GenericBatchProcessor<>(batchSizePolicy,
+                    batch -> metrics.batchFlush().record(() -> chunkAssembler.accept(batch)));
         }
 
-        //2. 내용 존재 여부 검증
-        boolean hasData = false;
-        for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-            Row dataRow = sheet.getRow(i);
-            if (dataRow == null) continue;
-            Cell firstCell = dataRow.getCell(0);
-            if (firstCell != null && firstCell.getCellType() != CellType.BLANK) {
-                hasData = true;
-                break; // 데이터 셀을 하나라도 찾으면 즉시 검증 종료! (효율적)
+        @Override
+        public void onCustomerId(long rowNum, String customerId) {
+            markStarted();
+            // 이미 발급된 행도 이후 행의 중복 판정을 위해 먼저 기록한다
+            boolean firstOccurrence = deduplicator.add(customerId);
+            if (committedRows.contains(rowNum)) return; // 이미 발급된 행
+
+            if (!firstOccurrence) { // 파일 안에서 이미 나온 고객 : 거절된 행처럼 실패로 집계
+                progress.recordRejectedRow();
+                chunkAssembler.onRejected(rowNum, customerId, "파일 안에서 중복된 customer_id");
+                return;
             }
+
+            progress.recordParsedRow();
+            chunkAssembler.onRow(rowNum);
+            Coupon coupon = new Coupon(couponCodeGenerator.nextCode(), customerId, jobId,
+                    campaignCode, LocalDateTime.now().plusDays(30));
+            batchProcessor.add(coupon); // 저장 로직은 처리기에 위임
         }
-        if (!hasData) {
-            throw new InvalidFileException("헤더 외에 회원 목록이 비어있습니다.");
+
+        @Override
+        public void onRejected(long rowNum, String rawValue, String reason) {
+            markStarted();
+            if (committedRows.contains(rowNum)) return; // 이전 실행에서 이미 집계된 행
+
+            progress.recordRejectedRow();
+            chunkAssembler.onRejected(rowNum, rawValue, reason);
+            log.warn("Job ID {} 행 위치 {} 거절: {}", jobId, rowNum, reason);
         }
-    }
 
+        @Override
+        public void onRangeEnd() {
+            batchProcessor.flush();
+            chunkAssembler.flushPending(); // 마지막 쿠폰 뒤에 거절된 행 (쿠폰이 없으면 flush가 아무것도 넘기지 않으므로)
+        }
 
-    /**
-     * CSV 파싱 및 쿠폰 발행 작업 생성 (배치단위)
-     * 쿠폰 발행 작업 생성은 처리기가 책임을 가짐
-     */
-    private void processCsvStream(InputStream inputStream, Long jobId, GenericBatchProcessor<Coupon> processor) throws IOException {
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-            reader.readLine(); // 헤더 스킵
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String customerId = line.trim();
-                if (customerId.isEmpty()) continue;
-
-                Coupon coupon = new Coupon(UUID.randomUUID().toString(), customerId, jobId, LocalDateTime.now().plusDays(30));
-                processor.add(coupon); // 저장 로직은 처리기에 위임
+        private void markStarted() {
+            if (!started) {
+                started = true;
+                metrics.onFirstRow();
             }
         }
     }
 
-    /**
-     * Excel 파싱 및 쿠폰 발행 작업 생성 (배치단위)
-     * 쿠폰 발행 작업 생성은 처리기가 책임을 가짐
-     */
-    private void processExcelStream(InputStream inputStream, Long jobId, GenericBatchProcessor<Coupon> processor) throws IOException {
-        try (Workbook workbook = com.monitorjbl.xlsx.StreamingReader.builder().open(inputStream)) {
-            Sheet sheet = workbook.getSheetAt(0);
-            for (Row row : sheet) {
-                if (row.getRowNum() == 0) continue; // 헤더 스킵
-
-                String customerId = parseCustomerIdFromCell(row.getCell(0));
-                if (!customerId.isEmpty()) {
-                    Coupon coupon = new Coupon(UUID.randomUUID().toString(), customerId, jobId, LocalDateTime.now().plusDays(30));
-                    processor.add(coupon); // 저장 로직은 처리기에 위임
-                }
-            }
-        }
+    /* 작업 행을 저장하고 조회 캐시를 비우게 한다 (이 메서드는 트랜잭션 밖에서 호출되므로 저장 즉시 커밋됨) */
+    private void saveJob(CouponIssuanceJob job) {
+        couponIssuanceJobRepository.save(job);
+        eventPublisher.publishEvent(new CouponIssuanceJobChangedEvent(job.getId()));
     }
 
-    /**
-     * Excel 셀 파싱 로직
-     */
-    private String parseCustomerIdFromCell(Cell cell) {
-        if (cell == null) return "";
-
-        String customerId = "";
-        if (cell.getCellType() == CellType.STRING) {
-            customerId = cell.getStringCellValue().trim();
-        } else if (cell.getCellType() == CellType.NUMERIC) {
-            customerId = String.valueOf((long) cell.getNumericCellValue());
-        }
-        return customerId;
+    private void applyCounts(CouponIssuanceJob job, IssuanceProgress progress) {
+        job.updateTotalCount(progress.getTotalCount());
+        job.updateSuccessCount(progress.getSuccessCount());
+        job.updateFailCount(progress.getFailCount());
+        job.updateSkippedCount(progress.getSkippedCount());
     }
 
     /**
-     * 최신순(ID 역순)으로 정렬하여 모든 작업 목록을 조회한다
-     * @Returns 모든 작업 목록
+     * 최신순(ID 역순)으로 작업 목록을 한 페이지 조회한다 (키셋 페이지네이션)
+     * limit + 1건을 읽어 다음 페이지가 있는지 판단한다
+     * @param after 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param limit 페이지 크기 (null이면 기본값, 최대 MAX_PAGE_SIZE)
+     * @param from 요청일 시작 (포함, null이면 제한 없음)
+     * @param to 요청일 끝 (포함, null이면 제한 없음)
+     * @Returns 작업 목록과 다음 페이지 커서
      */
     @Transactional(readOnly = true)
-    public List<CouponIssuanceJob> getAllCouponIssuanceJobs(){
-        return couponIssuanceJobRepository.findAll(
-                Sort.by(Sort.Direction.DESC, "id")
+    public GetCouponIssuanceJobsPageResponse getCouponIssuanceJobs(Long after, Integer limit,
+                                                                   CouponIssuanceJobStatus status,
+                                                                   LocalDate from, LocalDate to) {
+        int pageSize = (limit == null) ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        CouponIssuanceJobSearchCondition condition = new CouponIssuanceJobSearchCondition(
+                after,
+                status,
+                (from == null) ? null : from.atStartOfDay(),
+                (to == null) ? null : to.plusDays(1).atStartOfDay(),
+                pageSize + 1
         );
+
+        List<CouponIssuanceJobSummary> summaries = couponIssuanceJobQueryService.findSummaries(condition);
+        boolean hasNext = summaries.size() > pageSize;
+        List<CouponIssuanceJobSummary> page = hasNext ? summaries.subList(0, pageSize) : summaries;
+
+        List<GetAllCouponIssuanceJobsResponse> jobs = page.stream()
+                .map(GetAllCouponIssuanceJobsResponse::from)
+                .collect(Collectors.toList());
+        Long nextCursor = hasNext ? page.get(page.size() - 1).id() : null;
+        return new GetCouponIssuanceJobsPageResponse(jobs, nextCursor);
     }
 }
\ No newline at end of file
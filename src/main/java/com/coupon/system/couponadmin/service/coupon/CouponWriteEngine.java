@@ -0,0 +1,9 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+/**
+ * 쿠폰 청크를 DB에 저장하는 방식
+ */
+public enum CouponWriteEngine {
+    JPA, // CouponRepository.saveAll : 행마다 INSERT 1번 (IDENTITY 전략이라 배치 불가)
+    JDBC // CouponJdbcRepository.bulkInsert : 다중 행 INSERT를 JDBC 배치로 전송
+}
@@ -0,0 +1,43 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJob;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 서버 시작 시 이전 실행에서 끝나지 못한 발급 작업(UPLOADED/PENDING)을 다시 실행기에 넣는다
+ * (종료 시 대기열에 있던 작업은 UPLOADED, 실행 중 중단된 작업은 PENDING으로 남는다)
+ * 커밋된 청크(체크포인트)는 issueCoupons가 건너뛰므로 중단된 지점부터 이어서 처리된다
+ * QUEUED 작업은 IssuanceJobScheduler가 주기적으로 가져가므로 여기서 다루지 않는다
+ * (관리자 서버가 한 대로 운영된다는 전제)
+ */
+@Slf4j
+@Component
+public class IssuanceJobRecovery {
+
+    private final CouponIssuanceJobRepository couponIssuanceJobRepository;
+    private final IssuanceJobScheduler issuanceJobScheduler;
+
+    public IssuanceJobRecovery(CouponIssuanceJobRepository couponIssuanceJobRepository,
+                               IssuanceJobScheduler issuanceJobScheduler) {
+        this.couponIssuanceJobRepository = couponIssuanceJobRepository;
+        this.issuanceJobScheduler = issuanceJobScheduler;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        List<CouponIssuanceJob> interruptedJobs = couponIssuanceJobRepository.findAllByJobStatusIn(
+                List.of(CouponIssuanceJobStatus.UPLOADED, CouponIssuanceJobStatus.PENDING));
+
+        for (CouponIssuanceJob job : interruptedJobs) {
+            log.info("중단된 작업 재개 job ID {} (상태: {})", job.getId(), job.getJobStatus());
+            issuanceJobScheduler.submit(job.getId(), job.getJobStatus());
+        }
+    }
+}
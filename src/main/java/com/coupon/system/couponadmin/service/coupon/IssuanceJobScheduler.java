@@ -0,0 +1,164 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJob;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 발급 작업 전용 실행기
+ * - 동시에 실행되는 작업 수를 workers개로 제한한다 (HTTP 요청 스레드, DB 커넥션 보호)
+ * - 실행 대기열도 queue-capacity개로 제한하고, 넘치는 작업은 QUEUED 상태로 DB에 남겨두었다가
+ *   대기열에 자리가 나면 dispatch 주기마다 오래된 순서로 다시 넣는다
+ * - 실행 중인 스레드 이름은 coupon-issuance-job-{jobId}로 바꿔 로그/스레드 덤프에서 작업을 구분한다
+ * - 대기열 길이, 실행 중인 작업 수, 거절 횟수를 메트릭으로 노출한다
+ */
+@Slf4j
+@Component
+public class IssuanceJobScheduler {
+
+    private static final String THREAD_NAME_PREFIX = "coupon-issuance-job-";
+    private static final long INTERRUPT_GRACE_MILLIS = 5000; // 인터럽트된 작업이 건수/상태를 저장할 시간
+
+    private final CouponIssuanceService couponIssuanceService;
+    private final CouponIssuanceJobRepository couponIssuanceJobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejectedCounter;
+    private final long shutdownTimeoutMillis;
+
+    public IssuanceJobScheduler(CouponIssuanceService couponIssuanceService,
+                                CouponIssuanceJobRepository couponIssuanceJobRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                MeterRegistry meterRegistry,
+                                @Value("${coupon.issuance.scheduler.workers:2}") int workers,
+                                @Value("${coupon.issuance.scheduler.queue-capacity:10}") int queueCapacity,
+                                @Value("${coupon.issuance.scheduler.shutdown-timeout-ms:20000}") long shutdownTimeoutMillis) {
+        this.couponIssuanceService = couponIssuanceService;
+        this.couponIssuanceJobRepository = couponIssuanceJobRepository;
+        this.eventPublisher = eventPublisher;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory(THREAD_NAME_PREFIX),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("coupon.issuance.jobs.queue.depth", executor, e -> e.getQueue().size())
+                .description("실행 대기열에 있는 발급 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("coupon.issuance.jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 발급 작업 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("coupon.issuance.jobs.rejected")
+                .description("대기열이 가득 차 QUEUED로 미뤄진 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 작업 생성 트랜잭션이 커밋된 뒤 실행을 예약한다 (커밋 전에는 작업 스레드가 job 행을 볼 수 없음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobCreated(CouponIssuanceJobCreatedEvent event) {
+        submit(event.jobId(), CouponIssuanceJobStatus.UPLOADED);
+    }
+
+    /**
+     * 작업 실행을 예약한다
+     * 대기열이 가득 차 있으면 QUEUED 상태로 바꿔두고 dispatchQueuedJobs에서 다시 시도한다
+     * @param currentStatus 작업의 현재 상태 (QUEUED로 바꿀 때 비교 조건)
+     * @return 대기열 등록 성공 여부
+     */
+    public boolean submit(Long jobId, CouponIssuanceJobStatus currentStatus) {
+        try {
+            executor.execute(() -> run(jobId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            if (couponIssuanceJobRepository.updateJobStatus(jobId, currentStatus, CouponIssuanceJobStatus.QUEUED) == 1) {
+                eventPublisher.publishEvent(new CouponIssuanceJobChangedEvent(jobId));
+            }
+            log.info("발급 작업 대기열이 가득 차 QUEUED로 미룹니다. job ID {}", jobId);
+            return false;
+        }
+    }
+
+    /**
+     * QUEUED 작업을 오래된 순서로 대기열에 자리가 있는 만큼 넣는다
+     * 같은 작업이 두 번 들어가지 않도록 QUEUED -> UPLOADED로 바꾸는 데 성공한 작업만 넣는다
+     */
+    @Scheduled(fixedDelayString = "${coupon.issuance.scheduler.dispatch-interval-ms:5000}")
+    public void dispatchQueuedJobs() {
+        if (executor.getQueue().remainingCapacity() == 0) return;
+
+        List<CouponIssuanceJob> queuedJobs = couponIssuanceJobRepository
+                .findFirst20ByJobStatusOrderByIdAsc(CouponIssuanceJobStatus.QUEUED);
+        for (CouponIssuanceJob job : queuedJobs) {
+            int claimed = couponIssuanceJobRepository.updateJobStatus(
+                    job.getId(), CouponIssuanceJobStatus.QUEUED, CouponIssuanceJobStatus.UPLOADED);
+            if (claimed == 0) continue; // 다른 곳에서 이미 가져감
+
+            eventPublisher.publishEvent(new CouponIssuanceJobChangedEvent(job.getId()));
+            if (!submit(job.getId(), CouponIssuanceJobStatus.UPLOADED)) {
+                return; // 다시 가득 참
+            }
+        }
+    }
+
+    /**
+     * 서버 종료 시 새 작업은 받지 않고, 실행 중인 작업이 끝나기를 shutdown-timeout-ms까지 기다린다
+     * - 대기열에만 있던 작업은 실행하지 않는다 (UPLOADED 상태로 남아 재시작 시 IssuanceJobRecovery가 실행함)
+     * - 제한 시간 안에 끝나지 않은 작업은 인터럽트하며, issueCoupons가 PENDING으로 남겨 재시작 시 커밋된 청크 다음부터 이어서 처리된다
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        int dropped = executor.getQueue().drainTo(new ArrayList<>());
+        if (dropped > 0) {
+            log.info("대기열의 발급 작업 {}건은 재시작 후 실행합니다.", dropped);
+        }
+        try {
+            if (executor.awaitTermination(shutdownTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+            log.warn("실행 중인 발급 작업 {}건이 {}ms 안에 끝나지 않아 중단합니다. 재시작 시 이어서 처리됩니다.",
+                    executor.getActiveCount(), shutdownTimeoutMillis);
+            executor.shutdownNow();
+            if (!executor.awaitTermination(INTERRUPT_GRACE_MILLIS, TimeUnit.MILLISECONDS)) {
+                log.warn("중단 요청 후에도 발급 작업 스레드가 종료되지 않았습니다.");
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run(Long jobId) {
+        Thread thread = Thread.currentThread();
+        String originalName = thread.getName();
+        thread.setName(THREAD_NAME_PREFIX + jobId);
+        try {
+            couponIssuanceService.issueCoupons(jobId);
+        } catch (RuntimeException e) {
+            log.error("발급 작업 실행 실패 job ID {}: {}", jobId, e.getMessage(), e);
+        } finally {
+            thread.setName(originalName);
+        }
+    }
+}
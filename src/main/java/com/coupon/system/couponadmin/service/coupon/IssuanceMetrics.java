@@ -0,0 +1,198 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.service.coupon.parser.CustomerIdParserFactory;
+import com.coupon.system.couponadmin.util.BatchSizePolicy;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 발급 작업의 단계별 지표 (/actuator/metrics, /actuator/prometheus)
+ * 작업이 느릴 때 저장소(S3), 파서(POI), DB 중 어디서 시간이 드는지 나눠 보기 위한 것으로, 모든 지표에 job, file.type 태그를 붙인다
+ * - coupon.issuance.stage{stage} : 단계별 소요 시간
+ *     prepare(상태 변경, 체크포인트 복원) / validate(파일 열기 + 헤더 검증, 첫 행 전까지) /
+ *     parse(나머지 행 읽기, 행 검증, 쿠폰 생성) / drain(남은 청크 커밋 대기) / finalize(완료 처리)
+ * - coupon.issuance.storage.read : 저장소 스트림의 read에서 기다린 시간 (메모리 매핑 병렬 파싱은 제외)
+ * - coupon.issuance.storage.read.bytes, coupon.issuance.rows{result} : IssuanceProgress를 읽는 누적 카운터 (rate()로 초당 값)
+ * - coupon.issuance.batch.flush : 배치 처리기가 찬 배치를 파이프라인에 넘기는 시간 (대기열이 가득 차 기다린 시간 포함)
+ * - coupon.issuance.chunk.commit : 청크 1개를 새 트랜잭션으로 저장하고 커밋하기까지 걸린 시간
+ * - coupon.issuance.batch.size : 배치 처리기가 지금 쓰는 청크 크기 (ADAPTIVE면 커밋 시간에 따라 바뀜)
+ * - coupon.issuance.chunk.size : writer 스레드가 저장한 청크의 쿠폰 수 분포
+ * 작업별 지표는 작업이 끝나고 job-retention이 지나면 레지스트리에서 지운다 (작업마다 시계열이 계속 늘지 않도록)
+ */
+@Component
+public class IssuanceMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration jobRetention;
+    private final ScheduledExecutorService remover;
+
+    public IssuanceMetrics(MeterRegistry meterRegistry,
+                           @Value("${coupon.issuance.metrics.job-retention:10m}") Duration jobRetention) {
+        this.meterRegistry = meterRegistry;
+        this.jobRetention = jobRetention;
+        this.remover = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("issuance-metrics-remover-"));
+    }
+
+    /**
+     * @param originalFileName 파일 형식 태그를 정하는 원본 파일명
+     * @param startedAtNanos 작업 실행을 시작한 시각 (System.nanoTime, prepare 단계의 시작)
+     */
+    public JobMetrics start(Long jobId, String originalFileName, IssuanceProgress progress, long startedAtNanos) {
+        return new JobMetrics(Tags.of("job", String.valueOf(jobId),
+                "file.type", CustomerIdParserFactory.fileType(originalFileName)), progress, startedAtNanos);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        remover.shutdownNow();
+    }
+
+    /**
+     * 작업 하나의 지표 묶음 (작업 스레드, 구간 파싱 스레드, writer 스레드가 함께 사용)
+     */
+    public final class JobMetrics implements AutoCloseable {
+
+        private final Tags tags;
+        private final List<Meter> meters = new CopyOnWriteArrayList<>();
+        private final Timer storageRead;
+        private final Timer batchFlush;
+        private final Timer chunkCommit;
+        private final DistributionSummary chunkSize;
+        private final AtomicBoolean validated = new AtomicBoolean();
+        private long stageStartedAt; // endStage에서만 읽고 씀 (synchronized)
+
+        private JobMetrics(Tags tags, IssuanceProgress progress, long startedAtNanos) {
+            this.tags = tags;
+            this.stageStartedAt = startedAtNanos;
+            this.storageRead = register(Timer.builder("coupon.issuance.storage.read")
+                    .description("저장소 스트림 read에서 기다린 시간")
+                    .tags(tags)
+                    .register(meterRegistry));
+            this.batchFlush = register(Timer.builder("coupon.issuance.batch.flush")
+                    .description("찬 배치를 저장 파이프라인에 넘기기까지 걸린 시간")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            this.chunkCommit = register(Timer.builder("coupon.issuance.chunk.commit")
+                    .description("쿠폰 청크 1개를 새 트랜잭션으로 저장하고 커밋하기까지 걸린 시간")
+                    .tags(tags)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            this.chunkSize = register(DistributionSummary.builder("coupon.issuance.chunk.size")
+                    .description("writer 스레드가 저장한 쿠폰 청크 1개의 쿠폰 수")
+                    .baseUnit("coupons")
+                    .tags(tags)
+                    .register(meterRegistry));
+
+            register(FunctionCounter.builder("coupon.issuance.storage.read.bytes", progress, IssuanceProgress::getBytesRead)
+                    .description("저장소에서 읽은 바이트 수")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .register(meterRegistry));
+            registerRows("parsed", progress, IssuanceProgress::getTotalCount);
+            registerRows("issued", progress, IssuanceProgress::getSuccessCount);
+            registerRows("failed", progress, IssuanceProgress::getFailCount);
+            registerRows("skipped", progress, IssuanceProgress::getSkippedCount);
+        }
+
+        /**
+         * 이전 단계를 끝내고 다음 단계의 시간을 재기 시작한다
+         * @param finishedStage 방금 끝난 단계 이름
+         */
+        public synchronized void endStage(String finishedStage) {
+            long now = System.nanoTime();
+            register(Timer.builder("coupon.issuance.stage")
+                    .description("발급 작업 단계별 소요 시간")
+                    .tags(tags)
+                    .tag("stage", finishedStage)
+                    .register(meterRegistry))
+                    .record(now - stageStartedAt, TimeUnit.NANOSECONDS);
+            stageStartedAt = now;
+        }
+
+        /**
+         * 파일 열기와 헤더 검증을 지나 첫 행이 나왔을 때 한 번만 validate 단계를 끝낸다 (어느 파싱 스레드든 먼저 온 쪽)
+         */
+        public void onFirstRow() {
+            if (validated.compareAndSet(false, true)) {
+                endStage("validate");
+            }
+        }
+
+        /**
+         * 첫 행이 없어 onFirstRow가 불리지 않았으면 validate로 마감한 뒤 parse를 끝낸다
+         */
+        public synchronized void endParse() {
+            if (validated.compareAndSet(false, true)) {
+                endStage("validate");
+            }
+            endStage("parse");
+        }
+
+        public void recordStorageRead(long nanos) {
+            storageRead.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        public Timer batchFlush() {
+            return batchFlush;
+        }
+
+        public Timer chunkCommit() {
+            return chunkCommit;
+        }
+
+        public DistributionSummary chunkSize() {
+            return chunkSize;
+        }
+
+        /**
+         * 작업이 쓰는 청크 크기 정책의 현재 크기를 게이지로 내보낸다
+         */
+        public void watchBatchSize(BatchSizePolicy policy) {
+            register(Gauge.builder("coupon.issuance.batch.size", policy, BatchSizePolicy::currentSize)
+                    .description("배치 처리기가 지금 쓰는 쿠폰 청크 크기")
+                    .tags(tags)
+                    .register(meterRegistry));
+        }
+
+        /**
+         * 스크레이프가 마지막 값을 가져갈 수 있도록 job-retention 뒤에 이 작업의 지표를 지운다
+         */
+        @Override
+        public void close() {
+            remover.schedule(() -> meters.forEach(meterRegistry::remove), jobRetention.toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        private void registerRows(String result, IssuanceProgress progress, ToDoubleFunction<IssuanceProgress> count) {
+            register(FunctionCounter.builder("coupon.issuance.rows", progress, count)
+                    .description("발급 작업에서 처리한 행 수")
+                    .tags(tags)
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+
+        private <M extends Meter> M register(M meter) {
+            meters.add(meter);
+            return meter;
+        }
+    }
+}
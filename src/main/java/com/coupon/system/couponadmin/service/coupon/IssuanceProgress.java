@@ -0,0 +1,121 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행 중인 발급 작업 1건의 실시간 진행 상황
+ * 리더 스레드(파싱 건수, 읽은 바이트)와 writer 스레드(청크 성공/실패)가 동시에 갱신한다
+ */
+public class IssuanceProgress {
+
+    private final Long jobId;
+    private final long fileSize; // 알 수 없으면 -1
+    private final long startedAtNanos = System.nanoTime();
+
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicInteger totalCount = new AtomicInteger(); // 데이터가 있는 행 수 (거절된 행 포함)
+    private final AtomicInteger successCount = new AtomicInteger(); // 커밋된 쿠폰 수
+    private final AtomicInteger failCount = new AtomicInteger(); // 저장 실패 + 거절된 행 수
+    private final AtomicInteger skippedCount = new AtomicInteger(); // 이미 같은 캠페인 쿠폰이 있어 건너뛴 행 수
+    private final AtomicInteger restoredProcessedCount = new AtomicInteger(); // 재개 전 실행에서 이미 처리된 행 수 (처리 속도에서 뺌)
+
+    public IssuanceProgress(Long jobId, long fileSize) {
+        this.jobId = jobId;
+        this.fileSize = fileSize;
+    }
+
+    /**
+     * 중단된 작업을 재개할 때, 이전 실행에서 커밋된 청크들의 건수로 시작값을 맞춘다
+     * 이 건수는 이번 실행에서 처리한 것이 아니므로 따로 기록해 두고 처리 속도 계산에서 제외한다
+     */
+    public void restore(int totalCount, int successCount, int failCount, int skippedCount) {
+        this.restoredProcessedCount.addAndGet(successCount + failCount + skippedCount);
+        this.totalCount.addAndGet(totalCount);
+        this.successCount.addAndGet(successCount);
+        this.failCount.addAndGet(failCount);
+        this.skippedCount.addAndGet(skippedCount);
+    }
+
+    public void addBytesRead(long bytes) {
+        bytesRead.addAndGet(bytes);
+    }
+
+    public void recordParsedRow() {
+        totalCount.incrementAndGet();
+    }
+
+    public void recordRejectedRow() {
+        totalCount.incrementAndGet();
+        failCount.incrementAndGet();
+    }
+
+    /**
+     * @param saved 저장된 쿠폰 수
+     * @param skipped 이미 발급된 고객이라 저장하지 않은 쿠폰 수
+     */
+    public void recordChunkSucceeded(int saved, int skipped) {
+        successCount.addAndGet(saved);
+        skippedCount.addAndGet(skipped);
+    }
+
+    public void recordChunkFailed(int size) {
+        failCount.addAndGet(size);
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public long getBytesRead() {
+        return bytesRead.get();
+    }
+
+    public int getTotalCount() {
+        return totalCount.get();
+    }
+
+    public int getSuccessCount() {
+        return successCount.get();
+    }
+
+    public int getFailCount() {
+        return failCount.get();
+    }
+
+    public int getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    /**
+     * 이번 실행 시작 이후 초당 처리(성공 + 실패 + 건너뜀) 행 수 (재개 시 복원한 건수는 제외)
+     */
+    public double getRowsPerSecond() {
+        double elapsedSeconds = elapsedSeconds();
+        if (elapsedSeconds <= 0) return 0;
+        int processed = successCount.get() + failCount.get() + skippedCount.get() - restoredProcessedCount.get();
+        return Math.max(0, processed) / elapsedSeconds;
+    }
+
+    /**
+     * 남은 예상 시간(초) : 남은 바이트 / 지금까지의 읽기 속도
+     * 파일 크기를 모르거나 아직 읽은 바이트가 없으면 null
+     */
+    public Long getEtaSeconds() {
+        long read = bytesRead.get();
+        double elapsedSeconds = elapsedSeconds();
+        if (fileSize <= 0 || read <= 0 || elapsedSeconds <= 0) return null;
+
+        double bytesPerSecond = read / elapsedSeconds;
+        return Math.round(Math.max(0, fileSize - read) / bytesPerSecond);
+    }
+
+    private double elapsedSeconds() {
+        return (System.nanoTime() - startedAtNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,183 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJob;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobRepository;
+import com.coupon.system.couponadmin.dto.couponissurancejob.response.GetCouponIssuanceJobProgressResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 실행 중인 발급 작업의 진행 상황을 관리한다
+ * - 건수는 청크가 커밋될 때마다 메모리(IssuanceProgress)에서 갱신되고,
+ *   DB(job 행)에는 flush-interval 주기로 바뀐 경우에만 반영한다 (행마다 UPDATE 하지 않음)
+ *   이미 종료 상태로 저장된 작업 행은 갱신하지 않으므로, 반영이 종료 저장보다 늦어도 최종 건수가 유지된다
+ * - 같은 주기로 구독 중인 SSE 클라이언트에게 처리 속도와 남은 예상 시간을 보낸다
+ */
+@Slf4j
+@Component
+public class IssuanceProgressTracker {
+
+    private static final String EVENT_NAME = "progress";
+
+    private final CouponIssuanceJobRepository couponIssuanceJobRepository;
+    private final CouponIssuanceJobQueryService couponIssuanceJobQueryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long emitterTimeoutMillis;
+
+    private final Map<Long, IssuanceProgress> activeJobs = new ConcurrentHashMap<>();
+    private final Map<Long, GetCouponIssuanceJobProgressResponse> lastPersisted = new ConcurrentHashMap<>();
+    private final Map<Long, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    public IssuanceProgressTracker(CouponIssuanceJobRepository couponIssuanceJobRepository,
+                                   CouponIssuanceJobQueryService couponIssuanceJobQueryService,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${coupon.issuance.progress.emitter-timeout-ms:1800000}") long emitterTimeoutMillis) {
+        this.couponIssuanceJobRepository = couponIssuanceJobRepository;
+        this.couponIssuanceJobQueryService = couponIssuanceJobQueryService;
+        this.eventPublisher = eventPublisher;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    /**
+     * 작업 시작 시 호출 : 진행 상황 추적 시작
+     */
+    public IssuanceProgress start(Long jobId, long fileSize) {
+        IssuanceProgress progress = new IssuanceProgress(jobId, fileSize);
+        activeJobs.put(jobId, progress);
+        return progress;
+    }
+
+    /**
+     * 작업 종료(완료/실패) 후 호출 : 최종 상태를 구독자에게 보내고 연결을 닫는다
+     * 최종 건수는 호출한 쪽에서 job 엔티티와 함께 저장한다
+     * 구독 목록을 맵에서 떼어낸 뒤로는 subscribe가 같은 목록에 emitter를 더하지 못한다 (subscribe 참고)
+     */
+    public void finish(CouponIssuanceJob job) {
+        activeJobs.remove(job.getId());
+        lastPersisted.remove(job.getId());
+
+        List<SseEmitter> emitters = subscribers.remove(job.getId());
+        if (emitters == null) return;
+
+        GetCouponIssuanceJobProgressResponse event = GetCouponIssuanceJobProgressResponse.from(job);
+        for (SseEmitter emitter : emitters) {
+            sendFinal(emitter, event);
+        }
+    }
+
+    /**
+     * 진행 상황 구독 : 현재 상태를 바로 한 번 보내고, 이후 주기적으로 보낸다
+     * 이미 끝난 작업이면 최종 상태만 보내고 연결을 닫는다
+     *
+     * 상태를 읽은 뒤 등록하기 전에 작업이 끝나면(finish) 아무도 이 emitter를 닫지 않으므로,
+     * 등록한 뒤 작업이 실행 중이 아니면 상태를 다시 읽어 종료 상태인지 확인한다.
+     * 이때 맵에서 emitter를 직접 떼어낸 쪽(여기 또는 finish)만 최종 상태를 보내고 닫는다
+     */
+    public SseEmitter subscribe(Long jobId) {
+        GetCouponIssuanceJobProgressResponse current = currentProgress(jobId);
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        if (current.isTerminal()) {
+            sendFinal(emitter, current);
+            return emitter;
+        }
+
+        subscribers.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+        emitter.onCompletion(() -> unsubscribe(jobId, emitter));
+        emitter.onTimeout(() -> unsubscribe(jobId, emitter));
+        emitter.onError(e -> unsubscribe(jobId, emitter));
+
+        if (!activeJobs.containsKey(jobId)) {
+            GetCouponIssuanceJobProgressResponse latest = currentProgress(jobId);
+            if (latest.isTerminal()) {
+                if (unsubscribe(jobId, emitter)) {
+                    sendFinal(emitter, latest);
+                }
+                return emitter;
+            }
+        }
+
+        send(emitter, current);
+        return emitter;
+    }
+
+    /**
+     * 주기적으로 실행 중인 작업의 건수를 DB에 반영하고 구독자에게 진행 상황을 보낸다
+     */
+    @Scheduled(fixedDelayString = "${coupon.issuance.progress.flush-interval-ms:2000}")
+    public void flush() {
+        for (IssuanceProgress progress : activeJobs.values()) {
+            Long jobId = progress.getJobId();
+            GetCouponIssuanceJobProgressResponse snapshot = GetCouponIssuanceJobProgressResponse.from(progress);
+
+            if (!snapshot.hasSameCounts(lastPersisted.get(jobId))) {
+                try {
+                    couponIssuanceJobRepository.updateProgress(jobId,
+                            snapshot.totalCount(), snapshot.successCount(), snapshot.failCount(), snapshot.skippedCount());
+                    lastPersisted.put(jobId, snapshot);
+                    eventPublisher.publishEvent(new CouponIssuanceJobChangedEvent(jobId));
+                } catch (RuntimeException e) {
+                    log.warn("진행 상황 저장 실패 job ID {}: {}", jobId, e.getMessage());
+                }
+            }
+
+            List<SseEmitter> emitters = subscribers.get(jobId);
+            if (emitters != null) {
+                emitters.forEach(emitter -> send(emitter, snapshot));
+            }
+        }
+    }
+
+    /**
+     * 구독 목록에서 emitter를 빼고, 목록이 비면 맵에서도 지운다
+     * @return 이 호출이 emitter를 뺐는지 여부 (finish가 목록을 먼저 떼어냈으면 false)
+     */
+    private boolean unsubscribe(Long jobId, SseEmitter emitter) {
+        boolean[] removed = {false};
+        subscribers.computeIfPresent(jobId, (id, emitters) -> {
+            removed[0] = emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+        return removed[0];
+    }
+
+    private void sendFinal(SseEmitter emitter, GetCouponIssuanceJobProgressResponse event) {
+        if (send(emitter, event)) {
+            emitter.complete();
+        }
+    }
+
+    private GetCouponIssuanceJobProgressResponse currentProgress(Long jobId) {
+        IssuanceProgress progress = activeJobs.get(jobId);
+        if (progress != null) {
+            return GetCouponIssuanceJobProgressResponse.from(progress);
+        }
+        return GetCouponIssuanceJobProgressResponse.from(couponIssuanceJobQueryService.getSummary(jobId));
+    }
+
+    /**
+     * @return 전송 성공 여부 (실패한 연결은 정리됨)
+     */
+    private boolean send(SseEmitter emitter, GetCouponIssuanceJobProgressResponse event) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(event, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            return false;
+        } catch (IllegalStateException e) {
+            return false; // 이미 닫힌 연결
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceRejectedRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 발급 작업 1건에서 거절된 행과 사유를 CSV(row_position,customer_id,reason)로 임시 파일에 쓴다 (메모리에 모으지 않음)
+ * - 작업이 끝나면 체크포인트와 함께 저장된 거절 행(CouponIssuanceRejectedRow)을 행 위치 순서로 읽어 한 번에 만든다
+ *   (재개한 작업도 이전 실행에서 커밋된 범위의 거절 행이 그대로 들어간다)
+ * - row_position은 파서 기준 행 위치 (Excel은 행 번호, CSV는 레코드가 시작하는 바이트 오프셋)
+ * finish()로 닫은 파일을 저장소에 올리고, close()로 임시 파일을 지운다
+ */
+public class RejectedRowReport implements AutoCloseable {
+
+    static final String HEADER = "row_position,customer_id,reason";
+
+    private final Path file;
+    private final BufferedWriter writer;
+    private long count = 0;
+    private boolean closed = false;
+
+    private RejectedRowReport(Path file) throws IOException {
+        this.file = file;
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        writer.write(HEADER);
+        writer.write('\n');
+    }
+
+    public static RejectedRowReport create(Long jobId) throws IOException {
+        return new RejectedRowReport(Files.createTempFile("rejected-rows-" + jobId + "-", ".csv"));
+    }
+
+    public void add(CouponIssuanceRejectedRow row) {
+        try {
+            writer.write(Long.toString(row.getRowPosition()));
+            writer.write(',');
+            CouponExportService.writeField(writer, row.getCustomerId());
+            writer.write(',');
+            CouponExportService.writeField(writer, row.getReason());
+            writer.write('\n');
+            count++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("거절 행 보고서 기록 실패", e);
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * 쓰기를 끝내고 보고서 파일을 돌려준다
+     */
+    public Path finish() throws IOException {
+        closeWriter();
+        return file;
+    }
+
+    /**
+     * 임시 파일을 지운다 (저장소에 올린 뒤 또는 올리지 못했을 때)
+     */
+    @Override
+    public void close() throws IOException {
+        closeWriter();
+        Files.deleteIfExists(file);
+    }
+
+    private void closeWriter() throws IOException {
+        if (!closed) {
+            closed = true;
+            writer.close();
+        }
+    }
+}
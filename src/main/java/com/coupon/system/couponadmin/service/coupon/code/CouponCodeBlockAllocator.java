@@ -0,0 +1,63 @@
+package com.coupon.system.couponadmin.service.coupon.code;
+
+import com.coupon.system.couponadmin.domain.coupon.CouponCodeSequence;
+import com.coupon.system.couponadmin.domain.coupon.CouponCodeSequenceRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 쿠폰 코드 시퀀스를 블록 단위로 예약한다
+ * 예약은 별도 트랜잭션으로 바로 커밋되므로, 예약된 구간은 재시작 후에도 다시 쓰이지 않는다
+ * 빈 DB에서 여러 스레드/서버가 동시에 시퀀스 행을 만들면 하나만 성공하고, 나머지는 키 중복을 무시한 뒤 잠금을 잡고 다시 읽는다
+ * (같은 트랜잭션에서 INSERT 실패를 잡으면 트랜잭션이 롤백 전용이 되므로 행 생성은 따로 커밋한다)
+ */
+@Service
+public class CouponCodeBlockAllocator {
+
+    private final CouponCodeSequenceRepository couponCodeSequenceRepository;
+    private final TransactionTemplate newTransaction;
+
+    public CouponCodeBlockAllocator(CouponCodeSequenceRepository couponCodeSequenceRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.couponCodeSequenceRepository = couponCodeSequenceRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @param blockSize 예약할 값의 개수
+     * @param alignment 0보다 크면 시작값을 이 크기의 배수로 맞춤
+     * @return 예약된 구간의 시작값 [start, start + blockSize)
+     */
+    public long reserve(int blockSize, long alignment) {
+        Long start = tryReserve(blockSize, alignment);
+        if (start != null) {
+            return start;
+        }
+        createSequenceRow();
+        start = tryReserve(blockSize, alignment);
+        if (start == null) {
+            throw new IllegalStateException("쿠폰 코드 시퀀스 행을 만들 수 없습니다");
+        }
+        return start;
+    }
+
+    /* 시퀀스 행을 잠그고 구간을 예약한다 (행이 없으면 null) */
+    private Long tryReserve(int blockSize, long alignment) {
+        return newTransaction.execute(status -> couponCodeSequenceRepository.findByIdForUpdate(CouponCodeSequence.DEFAULT_ID)
+                .map(sequence -> sequence.reserve(blockSize, alignment))
+                .orElse(null));
+    }
+
+    private void createSequenceRow() {
+        try {
+            newTransaction.executeWithoutResult(status ->
+                    couponCodeSequenceRepository.insertSequence(CouponCodeSequence.DEFAULT_ID));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 스레드/서버가 먼저 만듦
+        }
+    }
+}
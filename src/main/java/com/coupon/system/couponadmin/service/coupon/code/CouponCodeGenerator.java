@@ -0,0 +1,10 @@
+package com.coupon.system.couponadmin.service.coupon.code;
+
+/**
+ * 쿠폰 코드 생성 전략
+ * 구현체는 여러 스레드에서 동시에 호출될 수 있으므로 thread-safe 해야 한다
+ */
+public interface CouponCodeGenerator {
+
+    String nextCode();
+}
@@ -0,0 +1,6 @@
+package com.coupon.system.couponadmin.service.coupon.code;
+
+public enum CouponCodeGeneratorType {
+    SEQUENCE, // 블록 예약 시퀀스 + 랜덤 비트를 키 기반 치환 (17자, 체크 문자 포함)
+    UUID // 랜덤 UUID (36자)
+}
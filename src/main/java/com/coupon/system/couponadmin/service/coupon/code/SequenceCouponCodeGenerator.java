@@ -0,0 +1,199 @@
+package com.coupon.system.couponadmin.service.coupon.code;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * 시퀀스 기반 쿠폰 코드 생성기 (17자, 예: 0003RKQ2M9XHC4TJP)
+ * 1. DB 시퀀스에서 블록 단위로 값을 예약하고, 스레드마다 자기 블록을 소진한다 (공유 자원 경합 없음)
+ * 2. 시퀀스 40bit를 윈도우 번호(상위 20bit)와 윈도우 안 위치(하위 20bit)로 나눈다
+ *    - 윈도우 번호는 앞 4자에 그대로 드러나, 약 100만 건씩 같은 접두어를 쓰고 윈도우가 바뀔수록 커진다
+ *      (유니크 인덱스 삽입이 최근 윈도우 구간에 몰려 UUID처럼 인덱스 전체에 흩어지지 않는다)
+ *    - 윈도우 안 위치 20bit 뒤에 랜덤 40bit를 붙인 60bit는 비밀키 기반 Feistel 치환으로 섞어 뒤 12자로 쓴다
+ *      라운드 함수는 윈도우 번호를 함께 넣은 AES-128이고, 키를 모르면 발급된 코드에서 앞뒤 시퀀스의 코드를 추측할 수 없다
+ *    - 치환은 윈도우마다 1:1 대응이고 시퀀스 값이 서로 다르므로 코드는 항상 서로 다르다 (생성 단계에서 유일성 보장)
+ *    - 접두어를 알아도 뒤 60bit 중 실제 발급된 코드의 비율은 (윈도우당 최대 2^20건 / 2^60)으로 희박하다
+ * 3. Crockford Base32 16자(80bit) + Luhn mod 32 체크 문자 1자
+ * 36자인 UUID보다 짧아 인덱스도 작다
+ */
+public class SequenceCouponCodeGenerator implements CouponCodeGenerator {
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray(); // ASCII 순서 = 값 순서
+    private static final int[] ALPHABET_INDEX = new int[128];
+    private static final int RADIX = 32;
+
+    private static final int PREFIX_LENGTH = 4; // 윈도우 번호 20bit
+    private static final int BODY_LENGTH = 16;
+    public static final int CODE_LENGTH = BODY_LENGTH + 1;
+
+    private static final int SEQUENCE_BITS = 40;
+    private static final int OFFSET_BITS = 20; // 윈도우 하나의 시퀀스 수 = 2^20 (약 100만)
+    private static final long MAX_SEQUENCE = 1L << SEQUENCE_BITS;
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+    private static final int RANDOM_BITS = 40;
+    private static final long RANDOM_MASK = (1L << RANDOM_BITS) - 1;
+    private static final int HALF_BITS = 30; // 치환할 60bit = 왼쪽 30bit + 오른쪽 30bit
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final int ROUNDS = 4; // 라운드 함수가 의사난수 함수면 4라운드로 강한 의사난수 치환이 된다 (Luby-Rackoff)
+
+    public static final int MIN_SECRET_LENGTH = 32;
+
+    static {
+        Arrays.fill(ALPHABET_INDEX, -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            ALPHABET_INDEX[ALPHABET[i]] = i;
+        }
+    }
+
+    private final CouponCodeBlockAllocator allocator;
+    private final int blockSize;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Block> blocks;
+
+    /**
+     * @param allocator 시퀀스 블록 예약기
+     * @param blockSize 한 번에 예약할 값의 개수 (클수록 DB 왕복이 줄고, 재시작 시 버려지는 값이 늘어남)
+     * @param secret 치환에 쓰는 비밀키 (32자 이상, 모든 서버가 같은 값을 써야 함)
+     */
+    public SequenceCouponCodeGenerator(CouponCodeBlockAllocator allocator, int blockSize, String secret) {
+        if (secret == null || secret.isBlank() || secret.length() < MIN_SECRET_LENGTH) {
+            throw new IllegalArgumentException("쿠폰 코드 비밀키(coupon.issuance.code.secret)는 "
+                    + MIN_SECRET_LENGTH + "자 이상이어야 합니다");
+        }
+        this.allocator = allocator;
+        this.blockSize = Math.max(1, blockSize);
+        this.key = deriveKey(secret);
+        this.blocks = ThreadLocal.withInitial(() -> new Block(key));
+        blocks.get(); // 암호화 모듈이 없으면 생성 시점에 실패시킨다
+    }
+
+    @Override
+    public String nextCode() {
+        Block block = blocks.get();
+        if (block.next >= block.end) {
+            block.next = allocator.reserve(blockSize, 0);
+            block.end = block.next + blockSize;
+        }
+        return encode(block, block.next++, block.random.nextLong() & RANDOM_MASK);
+    }
+
+    /**
+     * 코드 형식과 체크 문자가 올바른지 검사한다 (DB 조회 없이 오타/위조 코드를 걸러낼 때 사용)
+     */
+    public static boolean isValid(String code) {
+        if (code == null || code.length() != CODE_LENGTH) return false;
+
+        char[] chars = code.toCharArray();
+        for (char c : chars) {
+            if (c >= ALPHABET_INDEX.length || ALPHABET_INDEX[c] < 0) return false;
+        }
+        return checkDigit(chars, BODY_LENGTH) == ALPHABET_INDEX[chars[BODY_LENGTH]];
+    }
+
+    /**
+     * @param random 하위 40bit만 사용
+     */
+    String encode(long sequence, long random) {
+        return encode(blocks.get(), sequence, random & RANDOM_MASK);
+    }
+
+    private String encode(Block block, long sequence, long random) {
+        if (sequence < 0 || sequence >= MAX_SEQUENCE) {
+            throw new IllegalStateException("쿠폰 코드 시퀀스 범위를 초과했습니다: " + sequence);
+        }
+        //평문 접두어 = 윈도우 번호 20bit, 치환할 60bit = 윈도우 안 위치 20bit | 랜덤 40bit
+        long window = sequence >>> OFFSET_BITS;
+        long value = ((sequence & OFFSET_MASK) << RANDOM_BITS) | random;
+        long left = value >>> HALF_BITS;
+        long right = value & HALF_MASK;
+        for (int round = 0; round < ROUNDS; round++) {
+            long next = left ^ block.roundFunction(round, window, right);
+            left = right;
+            right = next;
+        }
+
+        char[] code = new char[CODE_LENGTH];
+        int middle = PREFIX_LENGTH + (BODY_LENGTH - PREFIX_LENGTH) / 2;
+        writeDigits(code, 0, PREFIX_LENGTH, window);
+        writeDigits(code, PREFIX_LENGTH, middle, left);
+        writeDigits(code, middle, BODY_LENGTH, right);
+        code[BODY_LENGTH] = ALPHABET[checkDigit(code, BODY_LENGTH)];
+        return new String(code);
+    }
+
+    /* code[from, to)에 value를 Base32로 쓴다 (앞자리가 상위 bit) */
+    private static void writeDigits(char[] code, int from, int to, long value) {
+        for (int i = to - 1; i >= from; i--) {
+            code[i] = ALPHABET[(int) (value & (RADIX - 1))];
+            value >>>= 5;
+        }
+    }
+
+    /* Luhn mod N 체크 문자 계산 */
+    private static int checkDigit(char[] chars, int length) {
+        int factor = 2;
+        int sum = 0;
+        for (int i = length - 1; i >= 0; i--) {
+            int addend = factor * ALPHABET_INDEX[chars[i]];
+            factor = (factor == 2) ? 1 : 2;
+            sum += addend / RADIX + addend % RADIX;
+        }
+        return (RADIX - (sum % RADIX)) % RADIX;
+    }
+
+    private static SecretKeySpec deriveKey(String secret) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            return new SecretKeySpec(Arrays.copyOf(digest, 16), "AES");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /* 스레드별 상태 : 예약해둔 시퀀스 구간 [next, end), 랜덤 생성기, AES 라운드 함수 */
+    private static final class Block {
+        private long next = 0;
+        private long end = 0;
+        private final SecureRandom random;
+        private final Cipher cipher;
+        private final byte[] input = new byte[16];
+        private final byte[] output = new byte[16];
+
+        private Block(SecretKeySpec key) {
+            try {
+                this.random = SecureRandom.getInstance("DRBG"); // 스레드마다 따로 두어 전역 잠금을 피한다
+                this.cipher = Cipher.getInstance("AES/ECB/NoPadding");
+                cipher.init(Cipher.ENCRYPT_MODE, key);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("쿠폰 코드 암호화 모듈을 초기화할 수 없습니다", e);
+            }
+        }
+
+        /* AES(라운드 번호 | 윈도우 번호 | 30bit 값)의 앞 30bit (윈도우마다 다른 치환이 되도록 윈도우 번호를 넣는다) */
+        private long roundFunction(int round, long window, long half) {
+            input[0] = (byte) round;
+            for (int i = 0; i < 3; i++) {
+                input[3 - i] = (byte) (window >>> (8 * i));
+            }
+            for (int i = 0; i < 4; i++) {
+                input[7 - i] = (byte) (half >>> (8 * i));
+            }
+            try {
+                cipher.doFinal(input, 0, input.length, output, 0);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("쿠폰 코드 암호화 실패", e);
+            }
+            long value = 0;
+            for (int i = 0; i < 4; i++) {
+                value = (value << 8) | (output[i] & 0xFF);
+            }
+            return value >>> (32 - HALF_BITS);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.coupon.system.couponadmin.service.coupon.code;
+
+import java.util.UUID;
+
+/**
+ * 기존 방식 : 랜덤 UUID (36자)
+ * 모든 호출이 하나의 SecureRandom을 거치고, 인덱스 삽입 위치가 전체에 흩어진다
+ */
+public class UuidCouponCodeGenerator implements CouponCodeGenerator {
+
+    @Override
+    public String nextCode() {
+        return UUID.randomUUID().toString();
+    }
+}
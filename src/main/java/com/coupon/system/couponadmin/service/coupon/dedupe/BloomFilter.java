@@ -0,0 +1,60 @@
+package com.coupon.system.couponadmin.service.coupon.dedupe;
+
+/**
+ * 고정 크기 블룸 필터 (long 키 전용)
+ * 한 번도 넣지 않은 키를 "있다"고 잘못 판정할 수 있지만(오탐), 넣은 키를 "없다"고 판정하지는 않는다
+ * 해시 k개는 두 해시의 선형 조합(h1 + i * h2)으로 만든다
+ */
+final class BloomFilter {
+
+    private static final long SECOND_HASH_SEED = 0x5851f42d4c957f2dL;
+
+    private final long[] words;
+    private final long numBits;
+    private final int hashCount;
+    private long insertions;
+
+    /**
+     * @param sizeInBytes 비트 배열 크기
+     * @param expectedInsertions 예상 원소 수 (해시 개수 k를 정하는 데만 씀)
+     */
+    BloomFilter(long sizeInBytes, long expectedInsertions) {
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, sizeInBytes / Long.BYTES));
+        this.words = new long[wordCount];
+        this.numBits = (long) wordCount * Long.SIZE;
+        // 최적 k = (m / n) * ln2
+        long k = Math.round((double) numBits / Math.max(1, expectedInsertions) * Math.log(2));
+        this.hashCount = (int) Math.max(1, Math.min(16, k));
+    }
+
+    /**
+     * @return 새로 켠 비트가 있으면(처음 보는 키) true, 모든 비트가 이미 켜져 있으면 false
+     */
+    boolean add(long key) {
+        long h1 = key;
+        long h2 = CustomerIdKeys.fmix64(key ^ SECOND_HASH_SEED) | 1; // 홀수로 만들어 모든 위치를 돌 수 있게
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, numBits);
+            int wordIndex = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((words[wordIndex] & mask) == 0) {
+                words[wordIndex] |= mask;
+                changed = true;
+            }
+        }
+        if (changed) insertions++;
+        return changed;
+    }
+
+    /**
+     * 현재 원소 수 기준 예상 오탐률 (1 - e^(-kn/m))^k
+     */
+    double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-hashCount * (double) insertions / numBits), hashCount);
+    }
+
+    long sizeInBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+}
@@ -0,0 +1,126 @@
+package com.coupon.system.couponadmin.service.coupon.dedupe;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메모리 상한이 있는 중복 제거기
+ * 1. 처음에는 customer_id를 64bit 키로 바꿔 LongHashSet에 넣는다 (정확한 판정, 원소당 약 11~21바이트)
+ *    HashSet<String>은 원소당 100바이트 안팎이라 5천만 건이면 수 GB가 필요하지만, 여기서는 수백 MB로 끝난다
+ * 2. 집합이 상한의 절반을 넘게 커져야 하면, 지금까지의 키를 나머지 절반 크기의 블룸 필터에 넣고
+ *    집합은 정렬해 임시 파일(SortedKeyRun)로 내린다. 이후 새 키는 다시 빈 집합에 모으고, 이 집합도 상한의 절반에 닿으면 파일로 내린다
+ * 3. 블룸 필터에 없는 키는 처음 나온 고객이다. 블룸 필터가 "있다"고 하면 메모리 집합과 파일들에서 확인해 실제로 나온 키만 중복으로 판정한다
+ *    따라서 전환 후에도 판정은 정확하고(오탐 없음), 메모리는 상한을 넘지 않으며, 디스크는 블룸 필터에 걸린 키(대부분 실제 중복)에만 읽는다
+ * close()로 임시 파일을 지운다
+ */
+@Slf4j
+public class BoundedCustomerIdDeduplicator implements CustomerIdDeduplicator {
+
+    private static final int INITIAL_CAPACITY = 1 << 16;
+    private static final int GROWTH_ESTIMATE = 4; // 블룸 필터 해시 개수를 정할 때, 전환 시점 원소 수의 몇 배까지 들어올지 가정
+
+    private final Long jobId;
+    private final long memoryBudgetBytes;
+
+    private LongHashSet keys; // 전환 전에는 전체 키, 전환 후에는 마지막으로 파일에 내린 뒤의 키
+    private BloomFilter bloomFilter;
+    private final List<SortedKeyRun> spilledRuns = new ArrayList<>();
+    private long duplicateCount;
+    private long bloomFilterFalseHits; // 블룸 필터가 있다고 했지만 확인해 보니 처음 나온 고객
+
+    /**
+     * @param memoryBudgetBytes 이 작업의 중복 제거에 쓸 최대 메모리
+     */
+    public BoundedCustomerIdDeduplicator(Long jobId, long memoryBudgetBytes) {
+        this.jobId = jobId;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.keys = new LongHashSet(INITIAL_CAPACITY);
+    }
+
+    @Override
+    public boolean add(String customerId) {
+        long key = CustomerIdKeys.toKey(customerId);
+
+        boolean first = (bloomFilter == null) ? addExact(key) : addWithBloomFilter(key);
+        if (!first) {
+            duplicateCount++;
+        }
+        return first;
+    }
+
+    @Override
+    public long getDuplicateCount() {
+        return duplicateCount;
+    }
+
+    /**
+     * 임시 파일을 지운다
+     */
+    @Override
+    public void close() {
+        if (bloomFilter != null) {
+            log.info("Job ID {} 중복 제거 : 파일로 내린 키 묶음 {}개, 블룸 필터에 걸렸지만 처음 나온 고객 {}건 (예상 오탐률 {})",
+                    jobId, spilledRuns.size(), bloomFilterFalseHits, bloomFilter.expectedFalsePositiveRate());
+        }
+        spilledRuns.forEach(SortedKeyRun::close);
+        spilledRuns.clear();
+    }
+
+    private boolean addExact(long key) {
+        if (keys.isFull()) {
+            if (keys.grownSizeInBytes() <= memoryBudgetBytes / 2) {
+                keys.grow();
+            } else {
+                switchToBloomFilter();
+                return addWithBloomFilter(key);
+            }
+        }
+        return keys.add(key);
+    }
+
+    private boolean addWithBloomFilter(long key) {
+        if (!bloomFilter.add(key) && isSeen(key)) {
+            return false;
+        }
+        if (keys.isFull()) {
+            if (keys.grownSizeInBytes() <= memoryBudgetBytes / 2) {
+                keys.grow();
+            } else {
+                spill();
+            }
+        }
+        keys.add(key);
+        return true;
+    }
+
+    /**
+     * 블룸 필터에 걸린 키가 실제로 나온 적이 있는지 메모리 집합과 파일들에서 확인한다
+     */
+    private boolean isSeen(long key) {
+        if (keys.contains(key)) return true;
+        for (SortedKeyRun run : spilledRuns) {
+            if (run.contains(key)) return true;
+        }
+        bloomFilterFalseHits++;
+        return false;
+    }
+
+    private void switchToBloomFilter() {
+        BloomFilter filter = new BloomFilter(memoryBudgetBytes / 2, (long) keys.size() * GROWTH_ESTIMATE);
+        keys.forEach(filter::add);
+        log.warn("Job ID {} 중복 제거 집합이 메모리 상한({}MB)에 도달하여 블룸 필터로 전환합니다. 원소 {}건 (블룸 필터에 걸린 키는 디스크에서 확인)",
+                jobId, memoryBudgetBytes / (1024 * 1024), keys.size());
+        this.bloomFilter = filter;
+        spill();
+    }
+
+    /**
+     * 메모리 집합을 정렬해 파일로 내리고 빈 집합으로 다시 시작한다
+     */
+    private void spill() {
+        spilledRuns.add(SortedKeyRun.write(jobId, keys));
+        this.keys = new LongHashSet(INITIAL_CAPACITY);
+    }
+}
@@ -0,0 +1,40 @@
+package com.coupon.system.couponadmin.service.coupon.dedupe;
+
+/**
+ * 한 파일 안에서 같은 customer_id가 다시 나오는지 판별한다
+ * 파싱 스레드 하나에서만 호출된다 (스레드 안전하지 않음)
+ * 작업이 끝나면 close()로 판정에 쓴 임시 파일을 정리한다
+ */
+public interface CustomerIdDeduplicator extends AutoCloseable {
+
+    /**
+     * @return 처음 나온 고객이면 true, 이미 나온 고객이면 false
+     */
+    boolean add(String customerId);
+
+    /**
+     * @return 지금까지 중복으로 판정한 건수
+     */
+    long getDuplicateCount();
+
+    @Override
+    default void close() {
+    }
+
+    /**
+     * 중복 제거를 하지 않는 작업용 (항상 처음 나온 고객으로 판정)
+     */
+    static CustomerIdDeduplicator disabled() {
+        return new CustomerIdDeduplicator() {
+            @Override
+            public boolean add(String customerId) {
+                return true;
+            }
+
+            @Override
+            public long getDuplicateCount() {
+                return 0;
+            }
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.coupon.system.couponadmin.service.coupon.dedupe;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업 설정에 따라 중복 제거기를 만든다
+ * 메모리 상한은 작업 1건 기준이므로, 동시에 실행되는 작업 수(scheduler.workers)만큼 곱해서 힙을 잡아야 한다
+ */
+@Component
+public class CustomerIdDeduplicatorFactory {
+
+    private final long memoryBudgetBytes;
+
+    public CustomerIdDeduplicatorFactory(
+            @Value("${coupon.issuance.dedupe.memory-budget-mb:512}") long memoryBudgetMb) {
+        this.memoryBudgetBytes = memoryBudgetMb * 1024 * 1024;
+    }
+
+    public CustomerIdDeduplicator create(Long jobId, boolean enabled) {
+        return enabled ? new BoundedCustomerIdDeduplicator(jobId, memoryBudgetBytes) : CustomerIdDeduplicator.disabled();
+    }
+}
@@ -0,0 +1,59 @@
+package com.coupon.system.couponadmin.service.coupon.dedupe;
+
+/**
+ * customer_id 문자열을 64bit 키로 바꾼다 (문자열 객체를 보관하지 않기 위해)
+ * - 숫자 ID(앞자리 0 없는 long 범위)는 1:1 섞기 함수(fmix64)를 거치므로 서로 다른 ID는 항상 다른 키가 된다
+ * - 그 외 문자열은 64bit 해시(지문)를 쓴다. n건일 때 서로 다른 ID가 같은 키가 될 확률은 약 n^2 / 2^65
+ *   (5천만 건 기준 약 0.007%, 이 경우 해당 고객 1명이 중복으로 판정됨)
+ */
+final class CustomerIdKeys {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long STRING_SEED = 0x9e3779b97f4a7c15L; // 숫자 키와 겹치지 않게 섞는 값
+
+    private CustomerIdKeys() {}
+
+    static long toKey(String customerId) {
+        long numeric = parseCanonicalLong(customerId);
+        if (numeric >= 0) {
+            return fmix64(numeric);
+        }
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < customerId.length(); i++) {
+            hash ^= customerId.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return fmix64(hash ^ STRING_SEED);
+    }
+
+    /**
+     * MurmurHash3의 64bit 마무리 함수 (전단사이므로 충돌이 없음)
+     */
+    static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+    /**
+     * "0", "123" 처럼 Long.toString 결과와 같은 형태일 때만 값을 돌려준다 ("007", "+1"은 문자열로 취급)
+     * @return 숫자 ID가 아니면 -1
+     */
+    private static long parseCanonicalLong(String s) {
+        int length = s.length();
+        if (length == 0 || length > 18) return -1; // 18자리까지는 long 오버플로 없음
+        if (length > 1 && s.charAt(0) == '0') return -1;
+
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
@@ -0,0 +1,122 @@
+package com.coupon.system.couponadmin.service.coupon.dedupe;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * long 전용 오픈 어드레싱 해시 집합 (Long 박싱, 엔트리 객체 없이 원소당 약 8~16바이트)
+ * 키는 이미 잘 섞인 값(CustomerIdKeys)이라고 가정하고 하위 비트를 그대로 슬롯 번호로 쓴다
+ */
+final class LongHashSet {
+
+    private static final long EMPTY = 0L; // 0 키는 hasZero로 따로 관리
+    private static final double MAX_LOAD_FACTOR = 0.75;
+
+    private long[] slots;
+    private int mask;
+    private int size;
+    private boolean hasZero;
+
+    LongHashSet(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(16, initialCapacity - 1) << 1);
+        this.slots = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @return 새로 추가되었으면 true, 이미 있었으면 false
+     */
+    boolean add(long key) {
+        if (key == EMPTY) {
+            if (hasZero) return false;
+            hasZero = true;
+            size++;
+            return true;
+        }
+
+        int index = (int) key & mask;
+        while (slots[index] != EMPTY) {
+            if (slots[index] == key) return false;
+            index = (index + 1) & mask;
+        }
+        slots[index] = key;
+        size++;
+        return true;
+    }
+
+    boolean contains(long key) {
+        if (key == EMPTY) return hasZero;
+
+        int index = (int) key & mask;
+        while (slots[index] != EMPTY) {
+            if (slots[index] == key) return true;
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * 다음 add에서 원소가 늘어나면 부하율을 넘는지 (넘으면 호출한 쪽에서 grow 또는 다른 구조로 전환)
+     */
+    boolean isFull() {
+        return size + 1 > slots.length * MAX_LOAD_FACTOR;
+    }
+
+    /**
+     * 슬롯 배열을 두 배로 늘린다
+     */
+    void grow() {
+        long[] oldSlots = slots;
+        slots = new long[oldSlots.length << 1];
+        mask = slots.length - 1;
+        for (long key : oldSlots) {
+            if (key == EMPTY) continue;
+            int index = (int) key & mask;
+            while (slots[index] != EMPTY) {
+                index = (index + 1) & mask;
+            }
+            slots[index] = key;
+        }
+    }
+
+    /**
+     * grow 후의 슬롯 배열 크기 (바이트)
+     */
+    long grownSizeInBytes() {
+        return (long) slots.length * 2 * Long.BYTES;
+    }
+
+    long sizeInBytes() {
+        return (long) slots.length * Long.BYTES;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(LongConsumer action) {
+        if (hasZero) action.accept(EMPTY);
+        for (long key : slots) {
+            if (key != EMPTY) action.accept(key);
+        }
+    }
+
+    /**
+     * 슬롯 배열을 제자리에서 정렬해 키를 오름차순(부호 있는 비교)으로 넘긴다 (정렬용 배열을 따로 잡지 않음)
+     * 정렬하면 해시 위치가 깨지므로 이후 이 집합은 쓸 수 없다
+     */
+    void drainSorted(LongConsumer action) {
+        Arrays.sort(slots);
+        boolean zeroPending = hasZero; // 빈 슬롯과 같은 값인 0 키는 음수 키 다음 순서에 넘긴다
+        for (long key : slots) {
+            if (key == EMPTY) continue;
+            if (zeroPending && key > 0) {
+                action.accept(EMPTY);
+                zeroPending = false;
+            }
+            action.accept(key);
+        }
+        if (zeroPending) action.accept(EMPTY);
+        slots = null;
+    }
+}
@@ -0,0 +1,92 @@
+package com.coupon.system.couponadmin.service.coupon.dedupe;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 오름차순(부호 있는 비교)으로 정렬된 키를 임시 파일에 써 두고, 이진 탐색으로 포함 여부를 확인한다
+ * 블룸 필터가 "있다"고 한 키만 확인한다. 파일은 메모리 매핑해 읽으므로 힙을 쓰지 않고, 자주 읽는 페이지는 OS 캐시에 남는다
+ * (한 파일은 메모리 상한의 절반 이하라 매핑 한 번(2GB 미만)으로 충분함)
+ * close()로 임시 파일을 지운다
+ */
+final class SortedKeyRun implements AutoCloseable {
+
+    private final Path file;
+    private final MappedByteBuffer keys;
+    private final int count;
+
+    private SortedKeyRun(Path file, int count) throws IOException {
+        this.file = file;
+        this.count = count;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            this.keys = channel.map(FileChannel.MapMode.READ_ONLY, 0, (long) count * Long.BYTES);
+        }
+    }
+
+    /**
+     * 집합의 키를 정렬해 파일에 쓴다 (집합은 제자리에서 정렬되므로 이후 쓸 수 없음)
+     */
+    static SortedKeyRun write(Long jobId, LongHashSet keys) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("dedupe-keys-" + jobId + "-", ".bin");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                keys.drainSorted(key -> {
+                    try {
+                        out.writeLong(key);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            return new SortedKeyRun(file, keys.size());
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new UncheckedIOException("중복 제거 키 파일 기록 실패", e);
+        } catch (UncheckedIOException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    boolean contains(long key) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = keys.getLong(mid * Long.BYTES);
+            if (value < key) {
+                low = mid + 1;
+            } else if (value > key) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 임시 파일을 지운다 (매핑은 GC가 풀며, 리눅스에서는 매핑된 파일도 지울 수 있음)
+     */
+    @Override
+    public void close() {
+        deleteQuietly(file);
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // 임시 디렉터리 정리에 맡긴다
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.coupon.system.couponadmin.service.coupon.parser;
+
+import com.coupon.system.couponadmin.exception.coupon.InvalidFileException;
+
+/**
+ * 파일 형식과 무관한 검증 규칙 (공통로직)
+ * 헤더/행/빈 파일 검증 규칙을 한 곳에 모아 CSV, Excel 파서가 동일하게 적용하도록 한다
+ */
+public abstract class AbstractCustomerIdParser implements CustomerIdParser {
+
+    protected static final String HEADER = "customer_id";
+    protected static final int MAX_CUSTOMER_ID_LENGTH = 100; // Coupon.customerId 컬럼 길이
+
+    /**
+     * 헤더 검증 : 첫 행의 값이 customer_id인지 확인
+     */
+    protected void validateHeader(String header) {
+        if (header == null || !HEADER.equalsIgnoreCase(header.trim())) {
+            throw new InvalidFileException("파일 헤더가 'customer_id'가 아니거나 비어있습니다.");
+        }
+    }
+
+    /**
+     * 행 단위 검증 후 핸들러에 전달
+     * 빈 행은 건너뛰고, 컬럼 길이를 넘는 값은 거절한다 (회원번호 자체의 유효성은 검사하지 않음)
+     * @return 데이터가 있는 행이었는지 (빈 파일 검증용)
+     */
+    protected boolean emitRow(long rowNum, String rawValue, CustomerIdHandler handler) {
+        if (rawValue == null) return false;
+
+        String customerId = rawValue.trim();
+        if (customerId.isEmpty()) return false;
+
+        if (customerId.length() > MAX_CUSTOMER_ID_LENGTH) {
+            handler.onRejected(rowNum, customerId, "customer_id 길이가 " + MAX_CUSTOMER_ID_LENGTH + "자를 초과합니다.");
+        } else {
+            handler.onCustomerId(rowNum, customerId);
+        }
+        return true;
+    }
+
+    /**
+     * 내용 존재 여부 검증 : 스트림을 끝까지 읽은 뒤 데이터 행 수로 판단
+     */
+    protected void validateNotEmpty(long dataRowCount) {
+        if (dataRowCount == 0) {
+            throw new InvalidFileException("헤더 외에 회원 목록이 비어있습니다.");
+        }
+    }
+}
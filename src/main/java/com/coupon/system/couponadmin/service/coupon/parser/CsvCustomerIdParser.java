@@ -0,0 +1,101 @@
+package com.coupon.system.couponadmin.service.coupon.parser;
+
+import com.coupon.system.couponadmin.exception.coupon.InvalidFileException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * CSV 파일 검증 + 파싱 (바이트 단위 스트리밍)
+ * CsvFirstFieldReader로 레코드마다 첫 번째 필드(customer_id)만 재사용 버퍼에 모으고, 그 필드만 문자열로 만든다
+ * UTF-8 BOM이 있으면 UTF-8로, 없으면 설정한 문자셋(UTF-8/EUC-KR)으로 해석한다
+ * 행 위치는 레코드가 시작하는 바이트 오프셋이다 (구간별 병렬 파싱에서도 같은 값이 나오도록, 헤더 = 0)
+ */
+public class CsvCustomerIdParser extends AbstractCustomerIdParser {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // 한 글자가 최대 4바이트(UTF-8)이므로 이만큼 모으면 길이 초과 여부를 판단할 수 있다
+    private static final int MAX_FIELD_BYTES = MAX_CUSTOMER_ID_LENGTH * 4;
+    // ',', '"', CR, LF 바이트가 멀티바이트 문자 안에 나오지 않는 문자셋만 허용
+    private static final Set<String> SUPPORTED_CHARSETS = Set.of("UTF-8", "EUC-KR", "x-windows-949", "US-ASCII", "ISO-8859-1");
+
+    private final Charset charset;
+    private final int bufferSize;
+
+    public CsvCustomerIdParser(Charset charset) {
+        this(charset, BUFFER_SIZE);
+    }
+
+    CsvCustomerIdParser(Charset charset, int bufferSize) {
+        if (!SUPPORTED_CHARSETS.contains(charset.name())) {
+            throw new IllegalArgumentException("CSV 문자셋으로 사용할 수 없습니다: " + charset.name());
+        }
+        this.charset = charset;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void parse(InputStream inputStream, CustomerIdHandler handler) throws IOException, InvalidFileException {
+        // 스트림의 생명주기는 호출한 쪽에서 관리하므로 채널을 직접 닫지 않음
+        parse(Channels.newChannel(inputStream), handler);
+    }
+
+    public void parse(ReadableByteChannel channel, CustomerIdHandler handler) throws IOException, InvalidFileException {
+        CsvFirstFieldReader reader = new CsvFirstFieldReader(channel, bufferSize, MAX_FIELD_BYTES);
+
+        //1. 헤더 검증
+        Charset fileCharset = readHeader(reader);
+
+        //2. 레코드 단위 검증 및 파싱
+        long dataRowCount = parseRecords(reader, fileCharset, handler);
+
+        //3. 내용 존재 여부 검증
+        validateNotEmpty(dataRowCount);
+    }
+
+    /**
+     * 메모리 매핑된 구간을 읽는 리더 (구간은 레코드 시작 위치에서 시작해야 함)
+     */
+    CsvFirstFieldReader rangeReader(ByteBuffer range, long baseOffset) {
+        return new CsvFirstFieldReader(range, baseOffset, bufferSize, MAX_FIELD_BYTES);
+    }
+
+    /**
+     * 첫 레코드를 헤더로 검증하고, 이후 레코드를 해석할 문자셋을 정한다
+     */
+    Charset readHeader(CsvFirstFieldReader reader) throws IOException {
+        if (!reader.next()) {
+            validateHeader(null);
+        }
+        Charset fileCharset = reader.hasUtf8ByteOrderMark() ? StandardCharsets.UTF_8 : charset;
+        validateHeader(reader.fieldAsString(fileCharset));
+        return fileCharset;
+    }
+
+    /**
+     * 리더가 끝날 때까지 레코드를 검증해 핸들러에 넘긴다 (빈 행은 문자열을 만들지 않고 건너뜀)
+     * @return 데이터가 있는 행 수 (거절된 행 포함)
+     */
+    long parseRecords(CsvFirstFieldReader reader, Charset fileCharset, CustomerIdHandler handler) throws IOException {
+        long dataRowCount = 0;
+        while (reader.next()) {
+            if (reader.fieldLength() == 0) continue;
+
+            long rowNum = reader.recordOffset();
+            String customerId = reader.fieldAsString(fileCharset);
+            if (reader.isOverflow()) {
+                handler.onRejected(rowNum, customerId, "customer_id 길이가 " + MAX_CUSTOMER_ID_LENGTH + "자를 초과합니다.");
+                dataRowCount++;
+            } else if (emitRow(rowNum, customerId, handler)) {
+                dataRowCount++;
+            }
+        }
+        return dataRowCount;
+    }
+}
@@ -0,0 +1,309 @@
+package com.coupon.system.couponadmin.service.coupon.parser;
+
+import com.coupon.system.couponadmin.exception.coupon.InvalidFileException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+
+/**
+ * CSV 레코드의 첫 번째 필드만 바이트 단위로 읽는 토크나이저
+ * - 채널에서 고정 크기 버퍼로 읽고, 필드도 재사용하는 byte[]에 모은다 (행마다 char[]/String/line을 만들지 않음)
+ * - 따옴표 필드("a,b", "a""b", 줄바꿈 포함), CR/LF/CRLF 줄 끝, 필드 앞뒤 공백 제거를 처리한다
+ * - 두 번째 이후 필드는 저장하지 않고 건너뛰되, 그 안의 따옴표/줄바꿈은 레코드 경계 판단에 반영한다
+ * - ',', '"', CR, LF는 모두 ASCII라, 멀티바이트 문자가 0x80 이상 바이트로만 이루어진 문자셋(UTF-8, EUC-KR 등)에서만 안전하다
+ * 문자열은 호출한 쪽이 fieldAsString으로 필요한 필드만 만든다
+ * 입력은 채널(스트림) 또는 메모리 매핑된 파일의 한 구간(ByteBuffer)이며, 레코드 위치는 파일 기준 바이트 오프셋으로 알려준다
+ */
+final class CsvFirstFieldReader {
+
+    private static final byte COMMA = ',';
+    private static final byte QUOTE = '"';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+    private static final int MIN_BUFFER_SIZE = 16; // BOM 판별에 앞 3바이트가 필요
+
+    private enum State {
+        FIELD_START,      // 첫 필드 시작 전 (앞 공백 건너뜀)
+        UNQUOTED,         // 따옴표 없는 첫 필드
+        QUOTED,           // 따옴표 안의 첫 필드
+        QUOTED_QUOTE,     // 첫 필드 따옴표 안에서 따옴표를 만남 (""이면 문자, 아니면 필드 끝)
+        AFTER_QUOTED,     // 첫 필드의 닫는 따옴표 뒤
+        REST,             // 두 번째 이후 필드 (건너뜀)
+        REST_QUOTED,      // 두 번째 이후 필드의 따옴표 안
+        REST_QUOTED_QUOTE
+    }
+
+    private final ReadableByteChannel channel; // 둘 중 하나만 사용
+    private final ByteBuffer source;
+    private final long baseOffset; // 입력의 첫 바이트가 파일에서 차지하는 위치
+    private final ByteBuffer buffer;
+    private final byte[] bytes;
+    private final byte[] field;
+
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+    private boolean startChecked;
+    private boolean skipLineFeed; // 직전 레코드가 CR로 끝났으면 바로 다음 LF는 같은 줄 끝
+    private boolean utf8ByteOrderMark;
+    private long consumedBeforeBuffer; // 현재 버퍼 이전까지 읽은 바이트 수
+    private long recordOffset;
+
+    private int fieldLength;
+    private int trimmedLength; // 따옴표 밖 뒤 공백을 뺀 길이
+    private boolean overflow;
+
+    /**
+     * @param bufferSize 채널에서 한 번에 읽을 바이트 수
+     * @param maxFieldBytes 첫 필드를 보관할 최대 바이트 수 (넘으면 overflow로 표시하고 나머지는 버림)
+     */
+    CsvFirstFieldReader(ReadableByteChannel channel, int bufferSize, int maxFieldBytes) {
+        this(channel, null, 0, bufferSize, maxFieldBytes);
+    }
+
+    /**
+     * 메모리 매핑된 구간용 : 구간은 레코드 시작 위치에서 시작해야 하며, BOM은 파일 맨 앞 구간에서만 확인한다
+     * @param source 읽을 구간 (position ~ limit)
+     * @param baseOffset source.position()이 파일에서 차지하는 위치
+     */
+    CsvFirstFieldReader(ByteBuffer source, long baseOffset, int bufferSize, int maxFieldBytes) {
+        this(null, source, baseOffset, bufferSize, maxFieldBytes);
+        this.startChecked = baseOffset != 0;
+    }
+
+    private CsvFirstFieldReader(ReadableByteChannel channel, ByteBuffer source, long baseOffset,
+                                int bufferSize, int maxFieldBytes) {
+        this.channel = channel;
+        this.source = source;
+        this.baseOffset = baseOffset;
+        this.bytes = new byte[Math.max(MIN_BUFFER_SIZE, bufferSize)];
+        this.buffer = ByteBuffer.wrap(bytes);
+        this.field = new byte[maxFieldBytes];
+    }
+
+    /**
+     * 다음 레코드로 이동한다
+     * @return 레코드가 있으면 true, 입력이 끝났으면 false
+     */
+    boolean next() throws IOException {
+        if (!startChecked) {
+            skipByteOrderMark();
+            startChecked = true;
+        }
+
+        fieldLength = 0;
+        trimmedLength = 0;
+        overflow = false;
+        State state = State.FIELD_START;
+        boolean consumedAny = false;
+
+        while (true) {
+            if (position == limit && !fill()) {
+                return consumedAny; // 마지막 줄에 줄바꿈이 없는 경우
+            }
+
+            byte b = bytes[position++];
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (b == LF) continue;
+            }
+            if (!consumedAny) {
+                recordOffset = baseOffset + consumedBeforeBuffer + position - 1;
+                consumedAny = true;
+            }
+
+            switch (state) {
+                case FIELD_START -> {
+                    if (b == QUOTE) {
+                        state = State.QUOTED;
+                    } else if (b == COMMA) {
+                        state = State.REST;
+                    } else if (isLineEnd(b)) {
+                        return endRecord(b);
+                    } else if (!isBlank(b)) {
+                        append(b);
+                        trimmedLength = fieldLength;
+                        state = State.UNQUOTED;
+                    }
+                }
+                case UNQUOTED -> {
+                    if (b == COMMA) {
+                        state = State.REST;
+                    } else if (isLineEnd(b)) {
+                        return endRecord(b);
+                    } else {
+                        append(b);
+                        if (!isBlank(b)) trimmedLength = fieldLength;
+                    }
+                }
+                case QUOTED -> {
+                    if (b == QUOTE) {
+                        state = State.QUOTED_QUOTE;
+                    } else {
+                        append(b);
+                        trimmedLength = fieldLength;
+                    }
+                }
+                case QUOTED_QUOTE -> {
+                    if (b == QUOTE) { // "" -> "
+                        append(b);
+                        trimmedLength = fieldLength;
+                        state = State.QUOTED;
+                    } else {
+                        state = afterQuoted(b);
+                        if (state == null) return endRecord(b);
+                    }
+                }
+                case AFTER_QUOTED -> {
+                    state = afterQuoted(b);
+                    if (state == null) return endRecord(b);
+                }
+                case REST -> {
+                    if (b == QUOTE) {
+                        state = State.REST_QUOTED;
+                    } else if (isLineEnd(b)) {
+                        return endRecord(b);
+                    }
+                }
+                case REST_QUOTED -> {
+                    if (b == QUOTE) state = State.REST_QUOTED_QUOTE;
+                }
+                case REST_QUOTED_QUOTE -> {
+                    if (b == QUOTE) {
+                        state = State.REST_QUOTED;
+                    } else if (isLineEnd(b)) {
+                        return endRecord(b);
+                    } else {
+                        state = State.REST;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 닫는 따옴표 뒤의 바이트 처리 (공백은 무시, 그 외 문자는 엑셀처럼 필드에 이어 붙임)
+     * @return 다음 상태, 레코드가 끝났으면 null
+     */
+    private State afterQuoted(byte b) {
+        if (b == COMMA) return State.REST;
+        if (isLineEnd(b)) return null;
+        if (!isBlank(b)) {
+            append(b);
+            trimmedLength = fieldLength;
+        }
+        return State.AFTER_QUOTED;
+    }
+
+    /**
+     * 현재 레코드가 시작된 파일 기준 바이트 위치
+     */
+    long recordOffset() {
+        return recordOffset;
+    }
+
+    int fieldLength() {
+        return Math.min(trimmedLength, field.length);
+    }
+
+    /**
+     * 첫 필드가 maxFieldBytes를 넘었는지
+     */
+    boolean isOverflow() {
+        return overflow;
+    }
+
+    /**
+     * 첫 필드를 문자열로 만든다 (overflow면 앞부분만)
+     */
+    String fieldAsString(Charset charset) {
+        return new String(field, 0, fieldLength(), charset);
+    }
+
+    private boolean endRecord(byte lineEnd) {
+        skipLineFeed = (lineEnd == CR);
+        return true;
+    }
+
+    private void append(byte b) {
+        if (fieldLength < field.length) {
+            field[fieldLength] = b;
+        } else {
+            overflow = true;
+        }
+        fieldLength++;
+    }
+
+    private boolean fill() throws IOException {
+        if (endOfInput) return false;
+        consumedBeforeBuffer += limit;
+        int read = (source != null) ? readFromSource() : readFromChannel();
+        if (read < 0) {
+            endOfInput = true;
+            position = limit = 0;
+            return false;
+        }
+        position = 0;
+        limit = read;
+        return true;
+    }
+
+    private int readFromChannel() throws IOException {
+        buffer.clear();
+        int read;
+        do {
+            read = channel.read(buffer);
+        } while (read == 0);
+        return read;
+    }
+
+    /* 매핑된 구간에서 버퍼 크기만큼 복사 (페이지 캐시 -> 힙 배열 memcpy, 스캔 루프는 채널과 동일하게 사용) */
+    private int readFromSource() {
+        int read = Math.min(source.remaining(), bytes.length);
+        if (read == 0) return -1;
+        source.get(bytes, 0, read);
+        return read;
+    }
+
+    /**
+     * 파일 맨 앞의 BOM 처리 : UTF-8 BOM은 건너뛰고, UTF-16 BOM은 지원하지 않으므로 거절한다
+     */
+    private void skipByteOrderMark() throws IOException {
+        if (source != null) {
+            int read = readFromSource();
+            if (read < 0) endOfInput = true;
+            else limit = read;
+        }
+        while (limit < 3 && !endOfInput && channel != null) { // 앞 3바이트를 확보 (채널이 조금씩 돌려줄 수 있음)
+            buffer.position(limit);
+            int read = channel.read(buffer);
+            if (read < 0) endOfInput = true;
+            else limit += read;
+        }
+
+        if (limit >= 3 && (bytes[0] & 0xFF) == 0xEF && (bytes[1] & 0xFF) == 0xBB && (bytes[2] & 0xFF) == 0xBF) {
+            position = 3;
+            utf8ByteOrderMark = true;
+        } else if (limit >= 2 && (((bytes[0] & 0xFF) == 0xFF && (bytes[1] & 0xFF) == 0xFE)
+                || ((bytes[0] & 0xFF) == 0xFE && (bytes[1] & 0xFF) == 0xFF))) {
+            throw new InvalidFileException("UTF-16 인코딩 CSV는 지원하지 않습니다. UTF-8 또는 EUC-KR로 저장해주세요.");
+        }
+    }
+
+    /**
+     * 파일이 UTF-8 BOM으로 시작했는지 (next를 한 번 호출한 뒤에 유효)
+     */
+    boolean hasUtf8ByteOrderMark() {
+        return utf8ByteOrderMark;
+    }
+
+    private static boolean isLineEnd(byte b) {
+        return b == LF || b == CR;
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t';
+    }
+}
@@ -0,0 +1,15 @@
+package com.coupon.system.couponadmin.service.coupon.parser;
+
+/**
+ * 파서가 스트림을 읽으면서 행마다 호출하는 콜백
+ * 행 위치는 파일 안에서 증가하는 값이며 헤더 = 0 (Excel은 행 번호, CSV는 레코드가 시작하는 바이트 오프셋)
+ */
+public interface CustomerIdHandler {
+
+    /* 검증을 통과한 customer_id 한 건 */
+    void onCustomerId(long rowNum, String customerId);
+
+    /* 행 단위 검증에 실패한 행 (작업은 계속 진행되고 실패 건수로 집계됨) */
+    default void onRejected(long rowNum, String rawValue, String reason) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.coupon.system.couponadmin.service.coupon.parser;
+
+import com.coupon.system.couponadmin.exception.coupon.InvalidFileException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 업로드된 회원 목록 파일을 스트림으로 한 번만 읽으면서 검증과 파싱을 함께 처리한다
+ * - 헤더값이 customer_id인지 (첫 행을 읽는 즉시)
+ * - 각 행이 저장 가능한 값인지 (행마다)
+ * - 회원 목록이 비어있지 않은지 (스트림 끝에서)
+ * 파일 전체를 메모리에 올리지 않으므로 파일 크기와 무관하게 메모리 사용량이 일정하다
+ */
+public interface CustomerIdParser {
+
+    /**
+     * @param inputStream 파일 스트림 (닫는 책임은 호출한 쪽에 있음)
+     * @param handler 행마다 호출될 콜백
+     * @throws InvalidFileException 헤더가 잘못되었거나 회원 목록이 비어있을 때
+     */
+    void parse(InputStream inputStream, CustomerIdHandler handler) throws IOException, InvalidFileException;
+}
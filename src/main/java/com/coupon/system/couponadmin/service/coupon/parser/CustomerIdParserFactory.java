@@ -0,0 +1,107 @@
+package com.coupon.system.couponadmin.service.coupon.parser;
+
+import com.coupon.system.couponadmin.exception.coupon.InvalidFileException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * 원본 파일명의 확장자로 알맞은 파서를 고른다
+ */
+@Component
+public class CustomerIdParserFactory {
+
+    // resolve가 처리하는 확장자
+    public static final List<String> SUPPORTED_EXTENSIONS = List.of(".csv", ".csv.gz", ".zip", ".xlsx", ".xls");
+
+    private final CsvCustomerIdParser csvParser;
+    private final CustomerIdParser xlsxParser = new XlsxCustomerIdParser();
+    private final CustomerIdParser xlsParser = new XlsCustomerIdParser();
+    private final CustomerIdParser gzipCsvParser; // .csv.gz : 읽으면서 압축 해제
+    private final CustomerIdParser zipCsvParser; // .zip : 안의 첫 CSV를 읽으면서 압축 해제
+
+    private final ForkJoinPool csvRangePool; // 로컬 CSV 구간 병렬 파싱 전용 (모든 작업이 공유)
+    private final MappedCsvCustomerIdParser mappedCsvParser;
+    private final long parallelMinFileSize;
+
+    /**
+     * @param csvCharset BOM 없는 CSV를 해석할 문자셋 (UTF-8, EUC-KR)
+     * @param parallelism CSV 구간 병렬 파싱 스레드 수 (0이면 CPU 코어 수, 1이면 병렬 파싱 사용 안 함)
+     * @param parallelMinFileSizeMb 이 크기 이상인 로컬 CSV만 구간으로 나눠 읽음
+     */
+    public CustomerIdParserFactory(@Value("${coupon.issuance.csv.charset:UTF-8}") String csvCharset,
+                                   @Value("${coupon.issuance.csv.parallelism:0}") int parallelism,
+                                   @Value("${coupon.issuance.csv.parallel-min-file-size-mb:64}") long parallelMinFileSizeMb) {
+        this.csvParser = new CsvCustomerIdParser(Charset.forName(csvCharset));
+        this.gzipCsvParser = new GzipCustomerIdParser(csvParser);
+        this.zipCsvParser = new ZipCustomerIdParser(csvParser);
+        int threads = (parallelism > 0) ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.csvRangePool = new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("csv-range-parser-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+        this.mappedCsvParser = (threads > 1) ? new MappedCsvCustomerIdParser(csvParser, csvRangePool) : null;
+        this.parallelMinFileSize = parallelMinFileSizeMb * 1024 * 1024;
+    }
+
+    public CustomerIdParser resolve(String originalFilename) {
+        String fileName = originalFilename.toLowerCase();
+        if (fileName.endsWith(".csv")) {
+            return csvParser;
+        } else if (fileName.endsWith(".csv.gz")) {
+            return gzipCsvParser;
+        } else if (fileName.endsWith(".zip")) {
+            return zipCsvParser;
+        } else if (fileName.endsWith(".xlsx")) {
+            return xlsxParser;
+        } else if (fileName.endsWith(".xls")) {
+            return xlsParser;
+        }
+        throw new InvalidFileException("지원하지 않는 파일 형식입니다.");
+    }
+
+    /**
+     * 업로드할 수 있는 파일인지 (Presigned URL 발급 전 확장자 검증용)
+     */
+    public static boolean isSupported(String fileName) {
+        String lowerCaseName = fileName.toLowerCase();
+        return SUPPORTED_EXTENSIONS.stream().anyMatch(lowerCaseName::endsWith);
+    }
+
+    /**
+     * 지표 태그용 파일 형식 (예: csv, csv.gz), 지원하지 않는 확장자면 unknown
+     */
+    public static String fileType(String fileName) {
+        String lowerCaseName = fileName.toLowerCase();
+        return SUPPORTED_EXTENSIONS.stream()
+                .filter(lowerCaseName::endsWith)
+                .findFirst()
+                .map(extension -> extension.substring(1))
+                .orElse("unknown");
+    }
+
+    /**
+     * 로컬에 저장된 파일을 구간으로 나눠 병렬로 읽을 수 있으면 그 파서를 돌려준다
+     * CSV이고, 병렬 파싱이 켜져 있고, 나눌 만큼 큰 파일일 때만 해당된다
+     * @param fileSize 저장된 파일 크기 (모르면 -1)
+     */
+    public Optional<MappedCsvCustomerIdParser> resolveParallel(String originalFilename, long fileSize) {
+        if (mappedCsvParser == null || fileSize < parallelMinFileSize
+                || !originalFilename.toLowerCase().endsWith(".csv")) {
+            return Optional.empty();
+        }
+        return Optional.of(mappedCsvParser);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        csvRangePool.shutdownNow();
+    }
+}
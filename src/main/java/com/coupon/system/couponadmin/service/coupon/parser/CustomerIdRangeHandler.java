@@ -0,0 +1,11 @@
+package com.coupon.system.couponadmin.service.coupon.parser;
+
+/**
+ * 파일을 구간으로 나눠 병렬로 읽을 때 구간마다 하나씩 만들어지는 콜백
+ * 한 구간 안에서는 한 스레드가 행 위치 순서대로 호출하고, 서로 다른 구간의 핸들러는 동시에 호출될 수 있다
+ */
+public interface CustomerIdRangeHandler extends CustomerIdHandler {
+
+    /* 구간을 끝까지 읽은 뒤 같은 스레드에서 호출 (구간에서 모아둔 배치를 내보냄) */
+    void onRangeEnd();
+}
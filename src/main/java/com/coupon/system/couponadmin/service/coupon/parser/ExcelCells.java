@@ -0,0 +1,26 @@
+package com.coupon.system.couponadmin.service.coupon.parser;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+
+/**
+ * Excel 셀 파싱 로직 (xls/xlsx 공통)
+ */
+final class ExcelCells {
+
+    private ExcelCells() {}
+
+    /**
+     * 문자열 셀은 그대로, 숫자 셀은 정수로 변환해서 읽는다 (그 외 타입은 빈 값)
+     */
+    static String readString(Cell cell) {
+        if (cell == null) return "";
+
+        if (cell.getCellType() == CellType.STRING) {
+            return cell.getStringCellValue();
+        } else if (cell.getCellType() == CellType.NUMERIC) {
+            return String.valueOf((long) cell.getNumericCellValue());
+        }
+        return "";
+    }
+}
@@ -0,0 +1,35 @@
+package com.coupon.system.couponadmin.service.coupon.parser;
+
+import com.coupon.system.couponadmin.exception.coupon.InvalidFileException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * gzip으로 압축된 파일(.csv.gz)을 읽는 동안 바로 풀어서 안쪽 파서에 넘긴다
+ * 압축을 푼 내용은 디스크나 메모리에 따로 모으지 않는다
+ */
+public class GzipCustomerIdParser implements CustomerIdParser {
+
+    private static final int INFLATE_BUFFER_SIZE = 64 * 1024;
+
+    private final CustomerIdParser delegate;
+
+    public GzipCustomerIdParser(CustomerIdParser delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void parse(InputStream inputStream, CustomerIdHandler handler) throws IOException, InvalidFileException {
+        GZIPInputStream gzipInputStream;
+        try {
+            gzipInputStream = new GZIPInputStream(inputStream, INFLATE_BUFFER_SIZE);
+        } catch (ZipException e) { // gzip 헤더가 아님
+            throw new InvalidFileException("gzip 형식이 아니거나 손상된 파일입니다.");
+        }
+        // 원본 스트림의 생명주기는 호출한 쪽에서 관리하므로 닫지 않음
+        delegate.parse(gzipInputStream, handler);
+    }
+}
@@ -0,0 +1,226 @@
+package com.coupon.system.couponadmin.service.coupon.parser;
+
+import com.coupon.system.couponadmin.exception.coupon.InvalidFileException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+/**
+ * 로컬 디스크에 저장된 CSV를 메모리 매핑한 뒤, 줄바꿈 기준 바이트 구간으로 나눠 ForkJoinPool에서 병렬로 파싱한다
+ * - 구간 경계는 LF 바로 뒤에 두고, 따옴표 수의 누적 홀짝으로 따옴표 필드 안의 줄바꿈이면 그 필드가 닫힌 뒤로 옮긴다
+ *   (따옴표는 RFC 4180처럼 필드 전체를 감쌀 때만 쓰인다고 가정)
+ * - 전체 따옴표 수가 홀수면 경계를 믿을 수 없으므로 아무것도 읽지 않고 false를 돌려준다
+ *   호출한 쪽은 순차 파서(CsvCustomerIdParser)로 읽어, 닫히지 않은 따옴표 등 실제 원인을 그 파서의 검증 규칙대로 보고한다
+ *   (한 구간으로 매핑하면 2GB가 넘는 파일은 매핑 자체가 불가능하다)
+ * - 헤더는 호출 스레드에서 먼저 검증하므로, 헤더가 잘못된 파일은 어떤 구간의 핸들러도 호출되기 전에 거절된다
+ * - 행 위치는 CsvCustomerIdParser와 같은 레코드 시작 바이트 오프셋이라, 순차로 읽다 중단된 작업을 병렬로 재개해도 (반대도) 같은 행을 건너뛴다
+ */
+@Slf4j
+public class MappedCsvCustomerIdParser {
+
+    // 한 번에 매핑할 수 있는 크기(2GB 미만) 안에서 경계 이동 여유를 남긴 구간 크기
+    private static final long MAX_RANGE_BYTES = 1L << 30;
+    private static final long MIN_RANGE_BYTES = 1L << 20;
+    // 구간별 행 밀도 차이를 작업 분배로 흡수하고 진행률도 자주 갱신되도록 스레드 수보다 잘게 나눈다
+    private static final int RANGES_PER_THREAD = 4;
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+    private static final byte QUOTE = '"';
+    private static final byte LF = '\n';
+
+    private final CsvCustomerIdParser csvParser;
+    private final ForkJoinPool pool;
+    private final long minRangeBytes;
+
+    /**
+     * @param csvParser 구간 안의 레코드 해석과 검증 규칙 (문자셋 설정 포함)
+     * @param pool 구간을 파싱할 스레드 풀 (여러 작업이 함께 사용)
+     */
+    public MappedCsvCustomerIdParser(CsvCustomerIdParser csvParser, ForkJoinPool pool) {
+        this(csvParser, pool, MIN_RANGE_BYTES);
+    }
+
+    MappedCsvCustomerIdParser(CsvCustomerIdParser csvParser, ForkJoinPool pool, long minRangeBytes) {
+        this.csvParser = csvParser;
+        this.pool = pool;
+        this.minRangeBytes = Math.max(1, minRangeBytes);
+    }
+
+    /**
+     * @param path 로컬에 저장된 CSV 파일
+     * @param handlerFactory 구간 시작 위치를 받아 그 구간 전용 핸들러를 만든다
+     * @param bytesRead 구간을 다 읽을 때마다 그 구간의 바이트 수를 알린다 (진행률 계산용)
+     * @return 읽었으면 true, 구간으로 안전하게 나눌 수 없어 읽지 않았으면 false (핸들러는 만들지 않음)
+     * @throws InvalidFileException 헤더가 잘못되었거나 회원 목록이 비어있을 때
+     */
+    public boolean parse(Path path, LongFunction<? extends CustomerIdRangeHandler> handlerFactory,
+                         LongConsumer bytesRead) throws IOException, InvalidFileException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long[] boundaries = split(channel, size);
+            if (boundaries == null) {
+                log.info("따옴표 짝이 맞지 않아 CSV {}를 구간으로 나눌 수 없습니다. 순차 파싱으로 읽습니다.", path.getFileName());
+                return false;
+            }
+            log.debug("CSV 병렬 파싱 {} ({} bytes, {}개 구간)", path.getFileName(), size, boundaries.length - 1);
+
+            //1. 헤더 검증 (호출 스레드에서 먼저)
+            CsvFirstFieldReader firstReader = csvParser.rangeReader(map(channel, 0, boundaries[1]), 0);
+            Charset fileCharset = csvParser.readHeader(firstReader);
+
+            //2. 구간별 레코드 파싱 (구간마다 리더와 핸들러를 따로 둔다)
+            List<Callable<Long>> tasks = new ArrayList<>(boundaries.length - 1);
+            for (int i = 0; i < boundaries.length - 1; i++) {
+                long start = boundaries[i];
+                long end = boundaries[i + 1];
+                CsvFirstFieldReader headReader = (i == 0) ? firstReader : null;
+                tasks.add(() -> {
+                    CsvFirstFieldReader reader = (headReader != null)
+                            ? headReader : csvParser.rangeReader(map(channel, start, end), start);
+                    CustomerIdRangeHandler handler = handlerFactory.apply(start);
+                    long dataRowCount = csvParser.parseRecords(reader, fileCharset, handler);
+                    handler.onRangeEnd();
+                    bytesRead.accept(end - start);
+                    return dataRowCount;
+                });
+            }
+
+            //3. 내용 존재 여부 검증 (구간별 데이터 행 수의 합)
+            csvParser.validateNotEmpty(sum(invokeAll(tasks)));
+            return true;
+        }
+    }
+
+    /**
+     * 파일을 레코드 경계에 맞춘 구간으로 나눈다
+     * @return 구간 경계 (첫 값 0, 마지막 값 파일 크기), 전체 따옴표 수가 홀수라 나눌 수 없으면 null
+     */
+    long[] split(FileChannel channel, long size) throws IOException {
+        long rangeCount = Math.min(Math.max(1, size / minRangeBytes), (long) pool.getParallelism() * RANGES_PER_THREAD);
+        rangeCount = Math.max(rangeCount, (size + MAX_RANGE_BYTES - 1) / MAX_RANGE_BYTES);
+        if (rangeCount <= 1) {
+            return new long[]{0, size};
+        }
+
+        //1. 목표 위치 뒤의 첫 줄바꿈 다음을 경계 후보로 정한다
+        long target = (size + rangeCount - 1) / rangeCount;
+        List<Long> candidates = new ArrayList<>();
+        candidates.add(0L);
+        for (long i = 1; i < rangeCount; i++) {
+            addIfAdvancing(candidates, nextLineStart(channel, i * target, size, false), size);
+        }
+        candidates.add(size);
+
+        //2. 후보 구간마다 따옴표 수를 병렬로 센다
+        List<Callable<Long>> counters = new ArrayList<>(candidates.size() - 1);
+        for (int i = 0; i < candidates.size() - 1; i++) {
+            long start = candidates.get(i);
+            long end = candidates.get(i + 1);
+            counters.add(() -> countQuotes(map(channel, start, end)));
+        }
+        List<Long> quoteCounts = invokeAll(counters);
+        if (sum(quoteCounts) % 2 != 0) {
+            return null;
+        }
+
+        //3. 앞쪽 따옴표 수가 홀수인 경계는 따옴표 필드 안이므로, 필드가 닫힌 뒤의 줄바꿈 다음으로 옮긴다
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        long quotesBefore = 0;
+        for (int i = 1; i < candidates.size() - 1; i++) {
+            quotesBefore += quoteCounts.get(i - 1);
+            long boundary = candidates.get(i);
+            if (quotesBefore % 2 != 0) {
+                boundary = nextLineStart(channel, boundary, size, true);
+            }
+            addIfAdvancing(boundaries, boundary, size);
+        }
+        boundaries.add(size);
+        return boundaries.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * from부터 읽어 따옴표 밖의 LF를 찾고 그 다음 위치를 돌려준다 (없으면 파일 크기)
+     * @param insideQuotes from 위치가 따옴표 필드 안인지
+     */
+    private static long nextLineStart(FileChannel channel, long from, long size, boolean insideQuotes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long position = from;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                byte b = buffer.get(i);
+                if (b == QUOTE) {
+                    insideQuotes = !insideQuotes;
+                } else if (b == LF && !insideQuotes) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static long countQuotes(ByteBuffer range) {
+        long count = 0;
+        for (int i = range.position(), limit = range.limit(); i < limit; i++) {
+            if (range.get(i) == QUOTE) count++;
+        }
+        return count;
+    }
+
+    private static void addIfAdvancing(List<Long> boundaries, long boundary, long size) {
+        if (boundary > boundaries.get(boundaries.size() - 1) && boundary < size) {
+            boundaries.add(boundary);
+        }
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long start, long end) throws IOException {
+        if (end - start > Integer.MAX_VALUE) { // 한 행이 1GB를 넘어 경계를 잡지 못한 경우
+            throw new InvalidFileException("CSV 한 행이 너무 길어 읽을 수 없습니다.");
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    }
+
+    /**
+     * 작업을 풀에서 모두 실행하고 결과를 순서대로 돌려준다 (실패한 작업이 있으면 첫 번째 예외를 던짐)
+     */
+    private <T> List<T> invokeAll(List<Callable<T>> tasks) throws IOException {
+        try {
+            List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("CSV 구간 파싱 대기 중 인터럽트 발생");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) throw ioException;
+            if (cause instanceof RuntimeException runtimeException) throw runtimeException;
+            if (cause instanceof Error error) throw error;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static long sum(List<Long> values) {
+        return values.stream().mapToLong(Long::longValue).sum();
+    }
+}
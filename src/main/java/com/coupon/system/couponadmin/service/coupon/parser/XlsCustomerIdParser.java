@@ -0,0 +1,44 @@
+package com.coupon.system.couponadmin.service.coupon.parser;
+
+import com.coupon.system.couponadmin.exception.coupon.InvalidFileException;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * .xls(구버전) 파일 검증 + 파싱
+ * excel-streaming-reader는 OOXML(.xlsx)만 읽을 수 있어서 HSSF로 읽는다
+ * .xls 형식 자체가 시트당 65,536행으로 제한되어 있어 메모리 사용량도 그 이상 커지지 않는다
+ */
+public class XlsCustomerIdParser extends AbstractCustomerIdParser {
+
+    @Override
+    public void parse(InputStream inputStream, CustomerIdHandler handler) throws IOException, InvalidFileException {
+        try (HSSFWorkbook workbook = new HSSFWorkbook(inputStream)) {
+            Sheet sheet = workbook.getSheetAt(0);
+
+            //1. 헤더 검증
+            Row headerRow = sheet.getRow(0);
+            if (headerRow == null) {
+                throw new InvalidFileException("파일 헤더가 비어있습니다.");
+            }
+            validateHeader(ExcelCells.readString(headerRow.getCell(0)));
+
+            //2. 행 단위 검증 및 파싱
+            long dataRowCount = 0;
+            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+                Row dataRow = sheet.getRow(i);
+                if (dataRow == null) continue;
+                if (emitRow(i, ExcelCells.readString(dataRow.getCell(0)), handler)) {
+                    dataRowCount++;
+                }
+            }
+
+            //3. 내용 존재 여부 검증
+            validateNotEmpty(dataRowCount);
+        }
+    }
+}
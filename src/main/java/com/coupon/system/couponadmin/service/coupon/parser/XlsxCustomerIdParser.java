@@ -0,0 +1,52 @@
+package com.coupon.system.couponadmin.service.coupon.parser;
+
+import com.coupon.system.couponadmin.exception.coupon.InvalidFileException;
+import com.github.pjfanning.xlsx.StreamingReader;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * .xlsx 파일 검증 + 파싱
+ * excel-streaming-reader로 행을 rowCacheSize개씩만 메모리에 올려가며 읽는다 (WorkbookFactory의 전체 DOM 생성 방지)
+ */
+public class XlsxCustomerIdParser extends AbstractCustomerIdParser {
+
+    private static final int ROW_CACHE_SIZE = 100;
+    private static final int BUFFER_SIZE = 4096;
+
+    @Override
+    public void parse(InputStream inputStream, CustomerIdHandler handler) throws IOException, InvalidFileException {
+        try (Workbook workbook = StreamingReader.builder()
+                .rowCacheSize(ROW_CACHE_SIZE)
+                .bufferSize(BUFFER_SIZE)
+                .open(inputStream)) {
+            Sheet sheet = workbook.getSheetAt(0);
+
+            boolean headerChecked = false;
+            long dataRowCount = 0;
+            for (Row row : sheet) {
+                //1. 헤더 검증 (첫 행이 0번 행이 아니면 헤더가 비어있는 것)
+                if (!headerChecked) {
+                    validateHeader(row.getRowNum() == 0 ? ExcelCells.readString(row.getCell(0)) : null);
+                    headerChecked = true;
+                    continue;
+                }
+
+                //2. 행 단위 검증 및 파싱
+                if (emitRow(row.getRowNum(), ExcelCells.readString(row.getCell(0)), handler)) {
+                    dataRowCount++;
+                }
+            }
+
+            if (!headerChecked) {
+                throw new InvalidFileException("파일 헤더가 비어있습니다.");
+            }
+            //3. 내용 존재 여부 검증
+            validateNotEmpty(dataRowCount);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.coupon.system.couponadmin.service.coupon.parser;
+
+import com.coupon.system.couponadmin.exception.coupon.InvalidFileException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * zip으로 압축된 파일을 읽는 동안 바로 풀어서 안쪽 파서에 넘긴다
+ * 압축 파일 안의 첫 번째 CSV 항목만 읽는다 (폴더, macOS 메타데이터, CSV가 아닌 항목은 건너뜀)
+ * zip의 목차(central directory)는 파일 끝에 있어 스트림으로는 항목 수를 미리 알 수 없으므로, 뒤쪽 항목은 확인하지 않는다
+ * 압축을 푼 내용은 디스크나 메모리에 따로 모으지 않는다
+ */
+public class ZipCustomerIdParser implements CustomerIdParser {
+
+    private final CustomerIdParser delegate;
+
+    public ZipCustomerIdParser(CustomerIdParser delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void parse(InputStream inputStream, CustomerIdHandler handler) throws IOException, InvalidFileException {
+        // 원본 스트림의 생명주기는 호출한 쪽에서 관리하므로 닫지 않음
+        ZipInputStream zipInputStream = new ZipInputStream(inputStream);
+
+        if (!moveToFirstCsvEntry(zipInputStream)) {
+            throw new InvalidFileException("압축 파일 안에 CSV 파일이 없습니다.");
+        }
+        delegate.parse(zipInputStream, handler);
+    }
+
+    private static boolean moveToFirstCsvEntry(ZipInputStream zipInputStream) throws IOException {
+        ZipEntry entry;
+        while ((entry = zipInputStream.getNextEntry()) != null) {
+            String name = entry.getName();
+            String baseName = name.substring(name.lastIndexOf('/') + 1);
+            if (entry.isDirectory() || name.startsWith("__MACOSX/") || baseName.startsWith("._")) continue;
+            if (name.toLowerCase().endsWith(".csv")) return true;
+        }
+        return false;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
+import java.nio.file.Path;
 import java.util.UUID;
 
 public abstract class AbstractFileService implements FileService {
@@ -16,6 +17,12 @@ public abstract class AbstractFileService implements FileService {
         return saveFile(file, uniqueFileName);
     }
 
+    @Override
+    public final String save(String fileName, Path file) throws IOException {
+        String uniqueFileName = generateUniqueFileName(fileName);
+        return saveFile(file, uniqueFileName);
+    }
+
     /**
      * 파일을 고유한 이름 정하는 규칙 결정 (공통로직)
      * @param originalFileName 원본 파일명
@@ -32,6 +39,9 @@ public abstract class AbstractFileService implements FileService {
     /* 실제 저장 로직 (자식이 구현) */
     protected abstract String saveFile(MultipartFile file, String uniqueFileName) throws IOException;
 
+    /* 서버가 만든 로컬 파일의 실제 저장 로직 (자식이 구현) */
+    protected abstract String saveFile(Path file, String uniqueFileName) throws IOException;
+
     @Override
     public abstract Resource loadAsResource(String savedFilePath) throws MalformedURLException;
 
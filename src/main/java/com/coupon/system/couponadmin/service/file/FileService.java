@@ -7,6 +7,9 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Optional;
 
 public interface FileService {
     /**
@@ -18,12 +21,46 @@ public interface FileService {
      */
     String save(MultipartFile file) throws IOException;
 
+    /**
+     * 서버가 만든 로컬 파일(거절 행 보고서 등)을 업로드 파일과 같은 규칙의 고유한 이름으로 저장소에 저장
+     * @param fileName 저장소에서 쓸 파일명 (고유한 이름의 뒷부분)
+     * @param file 저장할 로컬 파일 (호출한 쪽이 지움)
+     * @return 실제로 저장된 최종 경로 (loadAsInputStream, generateDownloadUrl 등에 그대로 사용)
+     */
+    String save(String fileName, Path file) throws IOException;
+
     /* 저장된 파일 다운로드할 수 있는 Resource로 로드 */
     Resource loadAsResource(String savedFilePath) throws MalformedURLException;
 
     /* 저장된 파일을 '처리'할 수 있는 InputStream으로 로드 */
     InputStream loadAsInputStream(String savedFilePath) throws IOException;
 
+    /**
+     * 저장된 파일의 크기(byte)를 조회함 (진행률, 남은 시간 계산용)
+     * @return 파일 크기, 알 수 없으면 -1
+     */
+    default long getFileSize(String savedFilePath) throws IOException {
+        return -1;
+    }
+
+    /**
+     * 저장소에서 직접 내려받을 수 있는 짧은 유효기간의 다운로드 URL (S3 Presigned GET 등)
+     * 앱 서버를 거치지 않고 받게 하려는 용도
+     * @param downloadFileName 사용자에게 보일 파일명
+     * @return 다운로드 URL, 지원하지 않는 저장소면 empty
+     */
+    default Optional<URI> generateDownloadUrl(String savedFilePath, String downloadFileName) {
+        return Optional.empty();
+    }
+
+    /**
+     * 저장된 파일이 이 서버의 로컬 디스크에 있으면 그 경로를 돌려줌 (메모리 매핑, 병렬 파싱용)
+     * @return 로컬 경로, 원격 저장소면 empty
+     */
+    default Optional<Path> resolveLocalPath(String savedFilePath) {
+        return Optional.empty();
+    }
+
     /**
      * Client-side Upload를 위한 Presigned URL을 받아옴
      * 클라우드 스토리지(S3 등)에서만 지원됨
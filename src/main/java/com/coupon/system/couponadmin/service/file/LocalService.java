@@ -12,6 +12,7 @@ import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 
 @Service
 public class LocalService extends AbstractFileService {
@@ -35,6 +36,16 @@ public class LocalService extends AbstractFileService {
         return destinationPath.toString();
     }
 
+    @Override
+    public String saveFile(Path file, String uniqueFileName) throws IOException {
+        Path uploadPath = Paths.get(uploadDir);
+        Files.createDirectories(uploadPath);
+
+        Path destinationPath = uploadPath.resolve(uniqueFileName);
+        Files.copy(file, destinationPath);
+        return destinationPath.toString();
+    }
+
     @Override
     public Resource loadAsResource(String savedFilePath) throws MalformedURLException {
         Path path = Paths.get(savedFilePath);
@@ -50,4 +61,14 @@ public class LocalService extends AbstractFileService {
         Path path = Paths.get(savedFilePath);
         return Files.newInputStream(path);
     };
+
+    @Override
+    public long getFileSize(String savedFilePath) throws IOException {
+        return Files.size(Paths.get(savedFilePath));
+    }
+
+    @Override
+    public Optional<Path> resolveLocalPath(String savedFilePath) {
+        return Optional.of(Paths.get(savedFilePath));
+    }
 }
@@ -2,5 +2,6 @@ package com.coupon.system.couponadmin.service.file;
 
 public record PresignedUrlInfo(
         String url,
-        String savedFilePath
-) {}
\ No newline at end of file
+        String savedFilePath,
+        String contentType // URL에 서명된 Content-Type (업로드 요청도 같은 값을 보내야 함)
+) {}
@@ -0,0 +1,151 @@
+package com.coupon.system.couponadmin.service.file;
+
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * 큰 S3 객체를 여러 개의 범위 GET(Range 헤더)으로 동시에 받아, 순서대로 이어 읽는 하나의 스트림으로 제공한다
+ * - 앞으로 읽을 파트를 최대 prefetchParts개까지 미리 요청해 두고, 한 파트를 다 읽을 때마다 다음 파트를 요청한다
+ *   (메모리 사용량은 파일 크기와 무관하게 partSize * (prefetchParts + 1) 이하)
+ * - 모든 요청에 HEAD로 얻은 ETag를 If-Match로 붙여, 읽는 도중 객체가 바뀌면 섞인 내용 대신 실패하도록 한다
+ * 한 스레드(파서)에서만 읽는다
+ */
+class RangedS3InputStream extends InputStream {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final String key;
+    private final long size;
+    private final String eTag;
+    private final int partSize;
+    private final int prefetchParts;
+    private final ExecutorService executor;
+
+    private final Deque<Future<byte[]>> prefetched = new ArrayDeque<>();
+    private long nextRequestOffset = 0;
+    private byte[] current = EMPTY;
+    private int position = 0;
+    private boolean closed = false;
+
+    /**
+     * @param size 객체 크기 (HEAD 결과)
+     * @param eTag 객체 ETag (HEAD 결과), null이면 조건 없이 요청
+     * @param partSize 범위 GET 한 번에 받을 바이트 수
+     * @param prefetchParts 동시에 요청해 둘 파트 수
+     * @param executor 범위 GET을 실행할 스레드 풀 (여러 스트림이 함께 사용)
+     */
+    RangedS3InputStream(S3Client s3Client, String bucketName, String key, long size, String eTag,
+                        int partSize, int prefetchParts, ExecutorService executor) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.key = key;
+        this.size = size;
+        this.eTag = eTag;
+        this.partSize = Math.max(1, partSize);
+        this.prefetchParts = Math.max(1, prefetchParts);
+        this.executor = executor;
+        requestAhead();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureCurrentPart()) return -1;
+        return current[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) return 0;
+        if (!ensureCurrentPart()) return -1;
+
+        int n = Math.min(len, current.length - position);
+        System.arraycopy(current, position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return current.length - position;
+    }
+
+    /**
+     * 아직 받는 중인 파트 요청을 취소한다 (파싱이 중간에 실패한 경우 남은 다운로드를 멈춤)
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        prefetched.forEach(future -> future.cancel(true));
+        prefetched.clear();
+        current = EMPTY;
+    }
+
+    /**
+     * 현재 파트를 다 읽었으면 다음 파트가 도착할 때까지 기다린다
+     * @return 읽을 바이트가 남아 있으면 true, 객체 끝이면 false
+     */
+    private boolean ensureCurrentPart() throws IOException {
+        if (closed) throw new IOException("Stream closed");
+        while (position == current.length) {
+            Future<byte[]> next = prefetched.poll();
+            if (next == null) return false;
+            current = await(next);
+            position = 0;
+            requestAhead();
+        }
+        return true;
+    }
+
+    private void requestAhead() {
+        while (prefetched.size() < prefetchParts && nextRequestOffset < size) {
+            long start = nextRequestOffset;
+            long end = Math.min(size, start + partSize) - 1; // Range 끝은 포함
+            prefetched.add(executor.submit(() -> fetch(start, end)));
+            nextRequestOffset = end + 1;
+        }
+    }
+
+    private byte[] fetch(long start, long end) throws IOException {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .range("bytes=" + start + "-" + end)
+                .ifMatch(eTag)
+                .build();
+        byte[] bytes = s3Client.getObjectAsBytes(request).asByteArrayUnsafe(); // 응답 버퍼를 복사하지 않고 사용
+        if (bytes.length != end - start + 1) {
+            throw new IOException("S3 범위 응답 크기가 다릅니다. key=" + key + ", range=" + start + "-" + end
+                    + ", received=" + bytes.length);
+        }
+        return bytes;
+    }
+
+    private byte[] await(Future<byte[]> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new InterruptedIOException("S3 범위 다운로드 대기 중 인터럽트 발생 key=" + key);
+        } catch (ExecutionException e) {
+            close();
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) throw ioException;
+            throw new IOException("S3 범위 다운로드 실패 key=" + key, cause);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.coupon.system.couponadmin.service.file;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 스트림을 S3 멀티파트 업로드로 저장한다 (서버를 거치는 업로드용)
+ * - 스트림을 partSize 단위로 읽어 파트 업로드를 스레드 풀에 맡기고, 그동안 다음 파트를 읽는다
+ * - 파트 버퍼는 최대 maxInFlightParts개를 만들어 돌려쓰므로, 파일 크기와 무관하게 메모리 사용량은 partSize * maxInFlightParts 이하
+ * - 한 파트라도 실패하면 남은 업로드를 취소하고 AbortMultipartUpload로 이미 올라간 파트를 정리한다 (미완성 파트가 버킷에 남지 않도록)
+ * 한 파트 크기 이하인 파일은 PutObject 한 번으로 저장한다
+ */
+@Slf4j
+class S3MultipartUploader {
+
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024; // S3 제약 (마지막 파트 제외)
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final int partSize;
+    private final int maxInFlightParts;
+    private final ExecutorService executor;
+
+    /**
+     * @param partSize 파트 크기 (MIN_PART_SIZE보다 작으면 MIN_PART_SIZE)
+     * @param maxInFlightParts 동시에 메모리에 올려 업로드할 파트 수
+     * @param executor 파트 업로드를 실행할 스레드 풀 (여러 업로드가 함께 사용)
+     */
+    S3MultipartUploader(S3Client s3Client, String bucketName, int partSize, int maxInFlightParts, ExecutorService executor) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.partSize = Math.max(MIN_PART_SIZE, partSize);
+        this.maxInFlightParts = Math.max(1, maxInFlightParts);
+        this.executor = executor;
+    }
+
+    /**
+     * @param size 스트림 크기 (모르면 -1)
+     */
+    void upload(String key, String contentType, InputStream inputStream, long size) throws IOException {
+        if (size >= 0 && size <= partSize) {
+            PutObjectRequest request = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .build();
+            s3Client.putObject(request, RequestBody.fromInputStream(inputStream, size));
+            return;
+        }
+
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+
+        List<Future<CompletedPart>> parts = new ArrayList<>();
+        try {
+            //1. 파트를 읽는 대로 업로드를 맡긴다 (버퍼가 모두 사용 중이면 앞 파트 업로드가 끝날 때까지 대기)
+            PartBuffers buffers = new PartBuffers();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            int partNumber = 1;
+            while (true) {
+                byte[] buffer = buffers.take();
+                throwIfFailed(failure);
+                int length = inputStream.readNBytes(buffer, 0, partSize);
+                if (length == 0 && partNumber > 1) {
+                    buffers.release(buffer);
+                    break;
+                }
+
+                int number = partNumber++;
+                parts.add(executor.submit(() -> {
+                    try {
+                        return uploadPart(key, uploadId, number, buffer, length);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                        throw e;
+                    } finally {
+                        buffers.release(buffer);
+                    }
+                }));
+                if (length < partSize) break;
+            }
+
+            //2. 모든 파트가 올라가면 파트 번호 순서대로 합친다
+            List<CompletedPart> completedParts = new ArrayList<>(parts.size());
+            for (Future<CompletedPart> part : parts) {
+                completedParts.add(await(part));
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+
+        } catch (IOException | RuntimeException e) {
+            parts.forEach(part -> part.cancel(true));
+            abort(key, uploadId, e);
+            throw e;
+        }
+    }
+
+    private CompletedPart uploadPart(String key, String uploadId, int partNumber, byte[] buffer, int length) {
+        UploadPartRequest request = UploadPartRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) length)
+                .build();
+        // ByteArrayInputStream은 mark/reset을 지원하므로 SDK 재시도 때도 버퍼를 복사하지 않는다
+        String eTag = s3Client.uploadPart(request,
+                RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length)).eTag();
+        return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+    }
+
+    private void abort(String key, String uploadId, Exception cause) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (RuntimeException abortFailure) {
+            cause.addSuppressed(abortFailure);
+            log.error("S3 멀티파트 업로드 중단(abort) 실패 key={}, uploadId={}: {}", key, uploadId, abortFailure.getMessage());
+        }
+    }
+
+    private static CompletedPart await(Future<CompletedPart> part) throws IOException {
+        try {
+            return part.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("S3 파트 업로드 대기 중 인터럽트 발생");
+        } catch (ExecutionException e) {
+            throw new IOException("S3 파트 업로드 실패", e.getCause());
+        }
+    }
+
+    private static void throwIfFailed(AtomicReference<Throwable> failure) throws IOException {
+        Throwable cause = failure.get();
+        if (cause != null) {
+            throw new IOException("S3 파트 업로드 실패", cause);
+        }
+    }
+
+    /**
+     * 파트 버퍼 풀 : 필요할 때 만들되 maxInFlightParts개를 넘지 않고, 업로드가 끝난 버퍼를 돌려쓴다
+     */
+    private final class PartBuffers {
+
+        private final BlockingQueue<byte[]> released = new ArrayBlockingQueue<>(maxInFlightParts);
+        private int allocated = 0; // 업로드를 맡기는 스레드에서만 변경
+
+        byte[] take() throws IOException {
+            byte[] buffer = released.poll();
+            if (buffer != null) return buffer;
+            if (allocated < maxInFlightParts) {
+                allocated++;
+                return new byte[partSize];
+            }
+            try {
+                return released.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("S3 파트 버퍼 대기 중 인터럽트 발생");
+            }
+        }
+
+        void release(byte[] buffer) {
+            released.offer(buffer);
+        }
+    }
+}
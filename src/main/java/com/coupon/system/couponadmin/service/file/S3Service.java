@@ -2,42 +2,96 @@ package com.coupon.system.couponadmin.service.file;
 
 import com.coupon.system.couponadmin.dto.couponissurancejob.response.GetPresignedUrlResponse;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
+import jakarta.annotation.PreDestroy;
 import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Service
 @Primary
+@ConditionalOnProperty(name = "file.storage", havingValue = "s3", matchIfMissing = true)
 public class S3Service extends AbstractFileService {
 
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
     private final String bucketName;
+    private final Duration downloadUrlTtl;
+
+    // 큰 객체를 범위 GET 여러 개로 나눠 동시에 받는 설정 (RangedS3InputStream)
+    private final long rangedReadMinSize;
+    private final int rangedReadPartSize;
+    private final int rangedReadPrefetchParts;
+    private final ExecutorService rangedReadExecutor;
+
+    // 서버를 거치는 업로드를 멀티파트로 나눠 동시에 올리는 설정 (S3MultipartUploader)
+    private final ExecutorService multipartUploadExecutor;
+    private final S3MultipartUploader multipartUploader;
 
     private static final Map<String, String> MIME_TYPES = Map.of(
             "csv", "text/csv",
+            "gz", "application/gzip",
+            "zip", "application/zip",
             "xls", "application/vnd.ms-excel",
             "xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"
     );
 
     public S3Service(S3Client s3Client,
                      S3Presigner s3Presigner,
-                     @Value("${aws.s3.bucket}") String bucketName) {
+                     @Value("${aws.s3.bucket}") String bucketName,
+                     @Value("${aws.s3.download-url-ttl-seconds:60}") long downloadUrlTtlSeconds,
+                     @Value("${aws.s3.ranged-read.min-size-mb:64}") long rangedReadMinSizeMb,
+                     @Value("${aws.s3.ranged-read.part-size-mb:8}") int rangedReadPartSizeMb,
+                     @Value("${aws.s3.ranged-read.prefetch-parts:8}") int rangedReadPrefetchParts,
+                     @Value("${aws.s3.ranged-read.threads:16}") int rangedReadThreads,
+                     @Value("${aws.s3.multipart-upload.part-size-mb:16}") int multipartPartSizeMb,
+                     @Value("${aws.s3.multipart-upload.max-in-flight-parts:4}") int multipartMaxInFlightParts,
+                     @Value("${aws.s3.multipart-upload.threads:8}") int multipartUploadThreads) {
         this.s3Client = s3Client;
         this.s3Presigner = s3Presigner;
         this.bucketName = bucketName;
+        this.downloadUrlTtl = Duration.ofSeconds(downloadUrlTtlSeconds);
+        this.rangedReadMinSize = rangedReadMinSizeMb * 1024 * 1024;
+        this.rangedReadPartSize = rangedReadPartSizeMb * 1024 * 1024;
+        this.rangedReadPrefetchParts = rangedReadPrefetchParts;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("s3-range-reader-");
+        threadFactory.setDaemon(true);
+        this.rangedReadExecutor = Executors.newFixedThreadPool(Math.max(1, rangedReadThreads), threadFactory);
+        this.multipartUploadExecutor = Executors.newFixedThreadPool(Math.max(1, multipartUploadThreads),
+                new CustomizableThreadFactory("s3-part-uploader-"));
+        this.multipartUploader = new S3MultipartUploader(s3Client, bucketName,
+                multipartPartSizeMb * 1024 * 1024, multipartMaxInFlightParts, multipartUploadExecutor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rangedReadExecutor.shutdownNow();
+        multipartUploadExecutor.shutdownNow();
     }
 
 
@@ -66,25 +120,68 @@ public class S3Service extends AbstractFileService {
         // S3Presigner를 사용하여 Presigned URL을 "생성"
         String url = s3Presigner.presignPutObject(presignRequest).url().toString();
 
-        return new PresignedUrlInfo(url, s3ObjectKey);
+        return new PresignedUrlInfo(url, s3ObjectKey, contentType);
+    }
+
+    /**
+     * 원본 파일 다운로드용 Presigned GET URL 생성
+     * 요청 직후 리다이렉트로만 쓰므로 유효기간을 짧게 두고, 파일명은 S3가 Content-Disposition으로 내려주게 한다
+     */
+    @Override
+    public Optional<URI> generateDownloadUrl(String savedFilePath, String downloadFileName) {
+        GetObjectRequest objectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(savedFilePath)
+                .responseContentDisposition(ContentDisposition.attachment()
+                        .filename(downloadFileName, StandardCharsets.UTF_8).build().toString())
+                .build();
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(downloadUrlTtl)
+                .getObjectRequest(objectRequest)
+                .build();
+
+        return Optional.of(URI.create(s3Presigner.presignGetObject(presignRequest).url().toString()));
     }
 
     // 헬퍼 메서드: 확장자/타입 문자열을 MIME 타입으로 변환
     private String determineContentType(String fileType) {
         if (fileType == null) return "application/octet-stream";
-        String normalizedType = fileType.toLowerCase().replace(".", ""); // .csv -> csv
+        String normalizedType = fileType.toLowerCase();
+        normalizedType = normalizedType.substring(normalizedType.lastIndexOf('.') + 1); // .csv -> csv, csv.gz -> gz
         return MIME_TYPES.getOrDefault(normalizedType, "application/octet-stream");
     }
 
+    /**
+     * 서버를 거치는 업로드 (Presigned URL을 쓸 수 없는 환경용)
+     * 파일을 메모리에 모두 올리지 않고 파트 단위로 읽어 멀티파트 업로드로 저장한다
+     * @return S3에 저장된 객체 키 (Presigned URL 업로드와 같은 uploads/ 경로)
+     */
     @Override
     public String saveFile(MultipartFile file,
                            String uniqueFileName) throws IOException {
+        String s3ObjectKey = "uploads/" + uniqueFileName;
+        String contentType = determineContentType(StringUtils.getFilenameExtension(uniqueFileName));
 
-        // (private final S3Client s3Client; ... 주입 필요)
-
-        // ... (saveFile 구현) ...
+        try (InputStream inputStream = file.getInputStream()) {
+            multipartUploader.upload(s3ObjectKey, contentType, inputStream, file.getSize());
+        }
+        return s3ObjectKey;
+    }
 
-        return "S3 URL";
+    /**
+     * 서버가 만든 파일(거절 행 보고서 등)은 업로드 파일과 구분해 reports/ 경로에 저장한다
+     * @return S3에 저장된 객체 키
+     */
+    @Override
+    public String saveFile(Path file, String uniqueFileName) throws IOException {
+        String s3ObjectKey = "reports/" + uniqueFileName;
+        String contentType = determineContentType(StringUtils.getFilenameExtension(uniqueFileName));
+
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            multipartUploader.upload(s3ObjectKey, contentType, inputStream, Files.size(file));
+        }
+        return s3ObjectKey;
     }
 
     @Override
@@ -96,12 +193,35 @@ public class S3Service extends AbstractFileService {
         return null;
     }
 
+    /**
+     * 저장된 파일을 스트림으로 읽는다
+     * 큰 객체는 범위 GET 여러 개를 동시에 받아 순서대로 이어 주고 (연결 하나의 처리량 한계 회피), 작은 객체는 GET 한 번으로 읽는다
+     */
     @Override
     public InputStream loadAsInputStream(String savedFilePath) throws IOException {
+        HeadObjectResponse head = headObject(savedFilePath);
+        if (head.contentLength() >= rangedReadMinSize) {
+            return new RangedS3InputStream(s3Client, bucketName, savedFilePath, head.contentLength(), head.eTag(),
+                    rangedReadPartSize, rangedReadPrefetchParts, rangedReadExecutor);
+        }
+
         GetObjectRequest request = GetObjectRequest.builder()
                 .bucket(bucketName)
                 .key(savedFilePath)
                 .build();
         return s3Client.getObject(request);
     }
+
+    @Override
+    public long getFileSize(String savedFilePath) throws IOException {
+        return headObject(savedFilePath).contentLength();
+    }
+
+    private HeadObjectResponse headObject(String savedFilePath) {
+        HeadObjectRequest request = HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(savedFilePath)
+                .build();
+        return s3Client.headObject(request);
+    }
 }
@@ -0,0 +1,85 @@
+package com.coupon.system.couponadmin.util;
+
+import java.time.Duration;
+
+/**
+ * 배치 작업 시간이 목표 시간에 머물도록 배치 크기를 [minSize, maxSize] 안에서 조절하는 정책
+ * - 성공한 배치의 '아이템 1개당 시간'을 지수 이동 평균으로 추정하고, 지금 크기로 걸릴 시간을 목표와 비교한다
+ * - 목표보다 20% 넘게 느리면 목표에 맞는 크기로 줄이고 (한 번에 최대 절반까지),
+ *   20% 넘게 빠르면 목표에 맞는 크기로 늘린다 (한 번에 최대 25%까지, 최근 실패율이 5% 미만일 때만)
+ * - 배치가 실패하면 (락 대기 시간 초과 등) 크기를 절반으로 줄인다
+ * 늘릴 때는 천천히, 줄일 때는 빠르게 움직여 DB 부하가 갑자기 커질 때 락 대기가 길어지는 것을 막는다
+ */
+public class AdaptiveBatchSizePolicy implements BatchSizePolicy {
+
+    private static final double TOLERANCE = 0.2; // 목표 시간에서 이만큼 벗어나야 크기를 바꿈
+    private static final double MAX_GROWTH = 1.25; // 한 번에 늘릴 수 있는 비율
+    private static final double MAX_SHRINK = 0.5; // 한 번에 줄일 수 있는 비율
+    private static final double LATENCY_SMOOTHING = 0.3; // 아이템당 시간 이동 평균의 새 관측값 가중치
+    private static final double FAILURE_SMOOTHING = 0.1; // 실패율 이동 평균의 새 관측값 가중치
+    private static final double MAX_FAILURE_RATE_TO_GROW = 0.05;
+
+    private final int minSize;
+    private final int maxSize;
+    private final long targetNanos;
+
+    private volatile int size; // 배치 처리기(파싱 스레드)가 읽고, record(저장 스레드)가 바꿈
+    private double nanosPerItem = Double.NaN; // 아래는 synchronized 안에서만 읽고 씀
+    private double failureRate = 0;
+
+    /**
+     * @param initialSize 첫 배치 크기 (범위를 벗어나면 가까운 경계값)
+     * @param targetLatency 배치 하나에 걸리길 바라는 시간
+     */
+    public AdaptiveBatchSizePolicy(int minSize, int maxSize, int initialSize, Duration targetLatency) {
+        if (minSize < 1 || maxSize < minSize) {
+            throw new IllegalArgumentException("invalid batch size range: " + minSize + ".." + maxSize);
+        }
+        if (targetLatency.isZero() || targetLatency.isNegative()) {
+            throw new IllegalArgumentException("target latency must be positive: " + targetLatency);
+        }
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.targetNanos = targetLatency.toNanos();
+        this.size = clamp(initialSize);
+    }
+
+    @Override
+    public int currentSize() {
+        return size;
+    }
+
+    @Override
+    public synchronized void onSuccess(int batchSize, long nanos) {
+        failureRate *= 1 - FAILURE_SMOOTHING;
+        // 크기를 바꾸기 전에 만든 배치는 그대로 반영하되, 마지막에 남은 작은 배치는 고정 비용 비중이 커서 추정에서 뺀다
+        if (batchSize <= 0 || batchSize * 2 < size) return;
+
+        double observed = (double) nanos / batchSize;
+        nanosPerItem = Double.isNaN(nanosPerItem)
+                ? observed
+                : nanosPerItem + LATENCY_SMOOTHING * (observed - nanosPerItem);
+
+        int current = size;
+        double expectedNanos = nanosPerItem * current;
+        double fittingSize = targetNanos / nanosPerItem;
+        if (expectedNanos > targetNanos * (1 + TOLERANCE)) {
+            size = clamp((int) Math.max(fittingSize, current * MAX_SHRINK));
+        } else if (expectedNanos < targetNanos * (1 - TOLERANCE) && failureRate < MAX_FAILURE_RATE_TO_GROW) {
+            size = clamp((int) Math.min(fittingSize, current * MAX_GROWTH));
+        }
+    }
+
+    @Override
+    public synchronized void onFailure(int batchSize) {
+        failureRate += FAILURE_SMOOTHING * (1 - failureRate);
+        // 이미 줄이기 전의 큰 배치가 뒤늦게 실패한 것이면 또 줄이지 않는다 (동시에 실패한 배치들로 여러 번 반으로 줄지 않도록)
+        if (batchSize <= size) {
+            size = clamp((int) (size * MAX_SHRINK));
+        }
+    }
+
+    private int clamp(int candidate) {
+        return Math.max(minSize, Math.min(maxSize, candidate));
+    }
+}
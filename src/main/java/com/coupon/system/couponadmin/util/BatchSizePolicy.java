@@ -0,0 +1,68 @@
+package com.coupon.system.couponadmin.util;
+
+import java.util.function.Supplier;
+
+/**
+ * GenericBatchProcessor가 몇 개마다 배치를 넘길지 정한다
+ * 배치 작업을 실제로 실행하는 쪽(동기 실행이면 batchAction, 비동기 저장이면 저장 스레드)이 record로 소요 시간/실패를 알려준다
+ * 여러 스레드에서 함께 사용할 수 있어야 한다
+ */
+public interface BatchSizePolicy {
+
+    /**
+     * @return 다음 배치의 크기
+     */
+    int currentSize();
+
+    /**
+     * 배치 하나가 성공했을 때 호출
+     * @param size 배치 아이템 수
+     * @param nanos 배치 작업에 걸린 시간
+     */
+    default void onSuccess(int size, long nanos) {
+    }
+
+    /**
+     * 배치 하나가 실패했을 때 호출
+     * @param size 배치 아이템 수
+     */
+    default void onFailure(int size) {
+    }
+
+    /**
+     * 배치 작업을 실행하면서 소요 시간과 실패 여부를 이 정책에 알려준다
+     * @param size 배치 아이템 수
+     */
+    default void record(int size, Runnable batchAction) {
+        record(size, () -> {
+            batchAction.run();
+            return null;
+        });
+    }
+
+    /**
+     * 결과를 돌려주는 배치 작업용 record
+     */
+    default <R> R record(int size, Supplier<R> batchAction) {
+        long startedAt = System.nanoTime();
+        R result;
+        try {
+            result = batchAction.get();
+        } catch (RuntimeException e) {
+            onFailure(size);
+            throw e;
+        }
+        onSuccess(size, System.nanoTime() - startedAt);
+        return result;
+    }
+
+    /**
+     * 항상 같은 크기로 넘기는 정책
+     */
+    static BatchSizePolicy fixed(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("batch size must be positive: " + size);
+        }
+        return () -> size;
+    }
+}
@@ -0,0 +1,47 @@
+package com.coupon.system.couponadmin.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongConsumer;
+
+/**
+ * 읽은 바이트 수를 콜백으로 알려주는 InputStream 래퍼
+ * 진행률(읽은 바이트 / 파일 크기) 계산 등에 사용한다
+ */
+public class CountingInputStream extends FilterInputStream {
+
+    private final LongConsumer bytesReadListener;
+
+    public CountingInputStream(InputStream in, LongConsumer bytesReadListener) {
+        super(in);
+        this.bytesReadListener = bytesReadListener;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            bytesReadListener.accept(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            bytesReadListener.accept(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        if (skipped > 0) {
+            bytesReadListener.accept(skipped);
+        }
+        return skipped;
+    }
+}
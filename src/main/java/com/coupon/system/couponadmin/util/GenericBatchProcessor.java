@@ -9,22 +9,36 @@ import java.util.function.Consumer;
 /**
  * 어떤 타입(T)의 아이템이든 배치 처리할 수 있는 범용 배치 프로세서
  * 미래에 발생할 다양한 배치 작업을 동일한 '패턴'으로 처리하기 위한 확장성을 염두함 ex. 쿠폰 삭제 등
+ * 배치 크기는 BatchSizePolicy가 정한다 (고정 크기 또는 저장 시간에 따라 바뀌는 크기)
+ * 크기를 조절하는 정책이면 실제 저장을 실행하는 쪽이 정책에 소요 시간을 알려줘야 한다
+ * ex. batchAction에서 바로 저장하면 batch -> policy.record(batch.size(), () -> save(batch))
  * @param <T> 배치 처리할 아이템의 타입
  */
 @Getter
 public class GenericBatchProcessor<T> {
 
     private final List<T> itemsToProcess;
-    private final int batchSize;
+    private final BatchSizePolicy batchSizePolicy;
     private int totalCount = 0;
 
     // [핵심] 어떤 작업을 할 것인지 Consumer(함수형 인터페이스)로 주입받음
     private final Consumer<List<T>> batchAction;
 
     public GenericBatchProcessor(int batchSize, Consumer<List<T>> batchAction) {
-        this.batchSize = batchSize;
+        this(BatchSizePolicy.fixed(batchSize), batchAction);
+    }
+
+    public GenericBatchProcessor(BatchSizePolicy batchSizePolicy, Consumer<List<T>> batchAction) {
+        this.batchSizePolicy = batchSizePolicy;
         this.batchAction = batchAction;
-        this.itemsToProcess = new ArrayList<>(batchSize);
+        this.itemsToProcess = new ArrayList<>(batchSizePolicy.currentSize());
+    }
+
+    /**
+     * @return 지금 배치 크기 (정책에 따라 배치마다 달라질 수 있음)
+     */
+    public int getBatchSize() {
+        return batchSizePolicy.currentSize();
     }
 
     /**
@@ -33,7 +47,7 @@ public class GenericBatchProcessor<T> {
     public void add(T item) {
         itemsToProcess.add(item);
         totalCount++;
-        if (itemsToProcess.size() >= batchSize) {
+        if (itemsToProcess.size() >= batchSizePolicy.currentSize()) {
             flush();
         }
     }
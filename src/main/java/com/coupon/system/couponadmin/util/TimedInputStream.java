@@ -0,0 +1,51 @@
+package com.coupon.system.couponadmin.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongConsumer;
+
+/**
+ * read 호출에서 기다린 시간(나노초)을 콜백으로 알려주는 InputStream 래퍼
+ * 저장소(S3, 디스크)에서 바이트를 받느라 보낸 시간을 파싱 시간과 나눠 볼 때 사용한다
+ * 호출 횟수만큼 시간을 재므로 BufferedInputStream 아래(큰 단위로 읽히는 쪽)에 둔다
+ */
+public class TimedInputStream extends FilterInputStream {
+
+    private final LongConsumer readNanosListener;
+
+    public TimedInputStream(InputStream in, LongConsumer readNanosListener) {
+        super(in);
+        this.readNanosListener = readNanosListener;
+    }
+
+    @Override
+    public int read() throws IOException {
+        long start = System.nanoTime();
+        try {
+            return super.read();
+        } finally {
+            readNanosListener.accept(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return super.read(b, off, len);
+        } finally {
+            readNanosListener.accept(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long start = System.nanoTime();
+        try {
+            return super.skip(n);
+        } finally {
+            readNanosListener.accept(System.nanoTime() - start);
+        }
+    }
+}
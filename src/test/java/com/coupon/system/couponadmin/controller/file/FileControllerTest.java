@@ -0,0 +1,61 @@
+package com.coupon.system.couponadmin.controller.file;
+
+import com.coupon.system.couponadmin.exception.coupon.GlobalExceptionHandler;
+import com.coupon.system.couponadmin.service.file.FileService;
+import com.coupon.system.couponadmin.service.file.PresignedUrlInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class FileControllerTest {
+
+    private final FileService fileService = mock(FileService.class);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new FileController(fileService))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+
+    @Test
+    void 압축_CSV와_ZIP은_Presigned_URL을_발급한다() throws Exception {
+        when(fileService.generatePresignedUrl("users.csv.gz", "users.csv.gz"))
+                .thenReturn(new PresignedUrlInfo("https://s3/put-1", "uploads/1_users.csv.gz", "application/gzip"));
+        when(fileService.generatePresignedUrl("users.zip", "users.zip"))
+                .thenReturn(new PresignedUrlInfo("https://s3/put-2", "uploads/2_users.zip", "application/zip"));
+
+        //main.html이 보내는 요청 그대로 (fileName만)
+        mockMvc.perform(post("/coupons/jobs/presigned-url")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fileName\": \"users.csv.gz\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.presignedUrl").value("https://s3/put-1"))
+                .andExpect(jsonPath("$.savedFilePath").value("uploads/1_users.csv.gz"))
+                .andExpect(jsonPath("$.contentType").value("application/gzip"));
+
+        mockMvc.perform(post("/coupons/jobs/presigned-url")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fileName\": \"users.zip\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.savedFilePath").value("uploads/2_users.zip"));
+    }
+
+    @Test
+    void 지원하지_않는_형식이면_400과_사유를_돌려준다() throws Exception {
+        for (String fileName : new String[]{"users.txt", "users.gz", "users.tar.gz", "users.csv.exe"}) {
+            mockMvc.perform(post("/coupons/jobs/presigned-url")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"fileName\": \"" + fileName + "\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("지원하지 않는 파일 형식입니다. (csv, csv.gz, zip, xls, xlsx만 가능)"));
+        }
+        verify(fileService, never()).generatePresignedUrl(anyString(), anyString());
+    }
+}
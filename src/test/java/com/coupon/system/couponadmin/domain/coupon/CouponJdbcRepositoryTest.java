@@ -0,0 +1,100 @@
+package com.coupon.system.couponadmin.domain.coupon;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import(CouponJdbcRepository.class)
+@TestPropertySource(properties = "coupon.issuance.jdbc.rows-per-statement=3")
+class CouponJdbcRepositoryTest {
+
+    @Autowired
+    private CouponJdbcRepository couponJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 꽉_찬_INSERT_문_배치와_남은_행을_컬럼_순서대로_저장한다() {
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(30).truncatedTo(ChronoUnit.SECONDS);
+        List<Coupon> coupons = new ArrayList<>();
+        for (int i = 1; i <= 7; i++) { // 3행짜리 INSERT 2개(JDBC 배치) + 1행짜리 INSERT 1개
+            coupons.add(new Coupon("CODE" + i, "customer-" + i, 10L, i % 2 == 0 ? "SPRING" : null, expiresAt.plusDays(i)));
+        }
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+
+        couponJdbcRepository.bulkInsert(coupons);
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT coupon_code, customer_id, coupon_status, job_id, campaign_code, issued_at, expires_at FROM coupon ORDER BY id");
+        assertThat(rows).hasSize(7);
+        for (int i = 0; i < 7; i++) {
+            Map<String, Object> row = rows.get(i);
+            int n = i + 1;
+            assertThat(row.get("COUPON_CODE")).isEqualTo("CODE" + n);
+            assertThat(row.get("CUSTOMER_ID")).isEqualTo("customer-" + n);
+            assertThat(row.get("COUPON_STATUS")).isEqualTo("ACTIVE");
+            assertThat(((Number) row.get("JOB_ID")).longValue()).isEqualTo(10L);
+            assertThat(row.get("CAMPAIGN_CODE")).isEqualTo(n % 2 == 0 ? "SPRING" : null);
+            assertThat(((Timestamp) row.get("EXPIRES_AT")).toLocalDateTime()).isEqualTo(expiresAt.plusDays(n));
+            assertThat(((Timestamp) row.get("ISSUED_AT")).toLocalDateTime()).isAfter(before); // 저장 시각으로 채워짐
+        }
+        //한 번에 저장한 행은 발급 시각이 모두 같다
+        assertThat(rows).extracting(row -> row.get("ISSUED_AT")).containsOnly(rows.get(0).get("ISSUED_AT"));
+    }
+
+    @Test
+    void 기발급_고객_조회는_IN_목록을_1000명씩_나누고_같은_캠페인만_찾는다() {
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(30);
+        List<Coupon> coupons = new ArrayList<>();
+        for (int i = 0; i < 2500; i += 2) { // 짝수 고객만 SPRING 쿠폰 보유
+            coupons.add(new Coupon("SPRING" + i, "customer-" + i, 1L, "SPRING", expiresAt));
+        }
+        coupons.add(new Coupon("SUMMER1", "customer-1", 1L, "SUMMER", expiresAt)); // 다른 캠페인
+        couponJdbcRepository.bulkInsert(coupons);
+
+        List<String> customerIds = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            customerIds.add("customer-" + i);
+        }
+        customerIds.add("customer-0"); // 중복은 한 번만 조회
+        JdbcTemplate spyTemplate = spy(jdbcTemplate);
+        CouponJdbcRepository repository = new CouponJdbcRepository(spyTemplate, 200);
+
+        Set<String> issued = repository.findIssuedCustomerIds("SPRING", customerIds);
+
+        assertThat(issued).hasSize(1250).contains("customer-0", "customer-998", "customer-1000", "customer-2498")
+                .doesNotContain("customer-1", "customer-999");
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(spyTemplate, times(3)).queryForList(anyString(), eq(String.class), args.capture());
+        assertThat(args.getAllValues()).extracting(values -> values.length - 1) // 첫 인자는 캠페인 코드
+                .containsExactly(CouponJdbcRepository.MAX_IN_LIST_SIZE, CouponJdbcRepository.MAX_IN_LIST_SIZE, 500);
+    }
+
+    @Test
+    void 빈_목록이면_아무것도_하지_않는다() {
+        couponJdbcRepository.bulkInsert(List.of());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM coupon", Long.class)).isZero();
+    }
+}
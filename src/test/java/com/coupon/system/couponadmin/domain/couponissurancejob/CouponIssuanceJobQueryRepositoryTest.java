@@ -0,0 +1,84 @@
+package com.coupon.system.couponadmin.domain.couponissurancejob;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class CouponIssuanceJobQueryRepositoryTest {
+
+    @Autowired
+    private CouponIssuanceJobRepository couponIssuanceJobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> ids = new ArrayList<>(); // 저장 순서 (id 오름차순)
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 7; i++) {
+            CouponIssuanceJob job = new CouponIssuanceJob("users-" + i + ".csv", "saved-" + i, 1L);
+            if (i % 2 == 0) job.updateJobStatus(CouponIssuanceJobStatus.COMPLETED);
+            ids.add(couponIssuanceJobRepository.saveAndFlush(job).getId());
+        }
+    }
+
+    @Test
+    void 커서로_이어_읽으면_id_내림차순으로_빠짐없이_겹치지_않게_나온다() {
+        List<Long> read = new ArrayList<>();
+        Long after = null;
+        List<CouponIssuanceJobSummary> page;
+        do {
+            page = couponIssuanceJobRepository.findSummaries(new CouponIssuanceJobSearchCondition(after, null, null, null, 3));
+            assertThat(page.size()).isLessThanOrEqualTo(3);
+            page.forEach(summary -> read.add(summary.id()));
+            if (!page.isEmpty()) after = page.get(page.size() - 1).id();
+        } while (page.size() == 3);
+
+        assertThat(read).containsExactly(ids.get(6), ids.get(5), ids.get(4), ids.get(3), ids.get(2), ids.get(1), ids.get(0));
+    }
+
+    @Test
+    void 커서_id_자신은_제외하고_가장_오래된_작업_다음은_빈_목록이다() {
+        Long middle = ids.get(3);
+
+        assertThat(couponIssuanceJobRepository.findSummaries(new CouponIssuanceJobSearchCondition(middle, null, null, null, 10)))
+                .extracting(CouponIssuanceJobSummary::id)
+                .containsExactly(ids.get(2), ids.get(1), ids.get(0));
+        assertThat(couponIssuanceJobRepository.findSummaries(new CouponIssuanceJobSearchCondition(ids.get(0), null, null, null, 10)))
+                .isEmpty();
+    }
+
+    @Test
+    void 상태와_요청일_조건을_커서와_함께_적용한다() {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < ids.size(); i++) {
+            jdbcTemplate.update("update coupon_issuance_job set created_at = ? where id = ?",
+                    Timestamp.valueOf(base.plusDays(i)), ids.get(i));
+        }
+
+        // COMPLETED는 0, 2, 4, 6번째 작업, 요청일 [1일, 6일) 이면 2, 4번째만 남는다
+        List<CouponIssuanceJobSummary> first = couponIssuanceJobRepository.findSummaries(new CouponIssuanceJobSearchCondition(
+                null, CouponIssuanceJobStatus.COMPLETED, base.plusDays(1), base.plusDays(6), 1));
+        List<CouponIssuanceJobSummary> second = couponIssuanceJobRepository.findSummaries(new CouponIssuanceJobSearchCondition(
+                first.get(0).id(), CouponIssuanceJobStatus.COMPLETED, base.plusDays(1), base.plusDays(6), 1));
+        List<CouponIssuanceJobSummary> third = couponIssuanceJobRepository.findSummaries(new CouponIssuanceJobSearchCondition(
+                second.get(0).id(), CouponIssuanceJobStatus.COMPLETED, base.plusDays(1), base.plusDays(6), 1));
+
+        assertThat(first).extracting(CouponIssuanceJobSummary::id).containsExactly(ids.get(4));
+        assertThat(second).extracting(CouponIssuanceJobSummary::id).containsExactly(ids.get(2));
+        assertThat(third).isEmpty();
+        assertThat(first.get(0).jobStatus()).isEqualTo(CouponIssuanceJobStatus.COMPLETED);
+        assertThat(first.get(0).originalFileName()).isEqualTo("users-4.csv");
+    }
+}
@@ -0,0 +1,53 @@
+package com.coupon.system.couponadmin.domain.couponissurancejob;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class CouponIssuanceJobRepositoryTest {
+
+    @Autowired
+    private CouponIssuanceJobRepository couponIssuanceJobRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void 실행_중인_작업의_건수만_갱신한다() {
+        Long jobId = saveJob(CouponIssuanceJobStatus.PENDING, 0);
+
+        int updated = couponIssuanceJobRepository.updateProgress(jobId, 100, 90, 4, 6);
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(reload(jobId)).extracting(CouponIssuanceJob::getTotalCount, CouponIssuanceJob::getSuccessCount,
+                CouponIssuanceJob::getFailCount, CouponIssuanceJob::getSkippedCount).containsExactly(100, 90, 4, 6);
+    }
+
+    @Test
+    void 종료된_작업의_최종_건수는_늦게_온_진행_건수로_덮어쓰지_않는다() {
+        Long completed = saveJob(CouponIssuanceJobStatus.COMPLETED, 1000);
+        Long failed = saveJob(CouponIssuanceJobStatus.FAILED, 1000);
+
+        assertThat(couponIssuanceJobRepository.updateProgress(completed, 800, 800, 0, 0)).isZero();
+        assertThat(couponIssuanceJobRepository.updateProgress(failed, 800, 800, 0, 0)).isZero();
+        assertThat(reload(completed).getSuccessCount()).isEqualTo(1000);
+        assertThat(reload(failed).getSuccessCount()).isEqualTo(1000);
+    }
+
+    private Long saveJob(CouponIssuanceJobStatus status, int successCount) {
+        CouponIssuanceJob job = new CouponIssuanceJob("users.csv", "saved-" + status, 1L);
+        job.updateJobStatus(status);
+        job.updateTotalCount(successCount);
+        job.updateSuccessCount(successCount);
+        return couponIssuanceJobRepository.saveAndFlush(job).getId();
+    }
+
+    private CouponIssuanceJob reload(Long jobId) {
+        entityManager.clear();
+        return couponIssuanceJobRepository.findById(jobId).orElseThrow();
+    }
+}
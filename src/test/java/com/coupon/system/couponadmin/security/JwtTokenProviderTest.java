@@ -0,0 +1,40 @@
+package com.coupon.system.couponadmin.security;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-test-secret-key-0123456789";
+
+    private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000, 60_000);
+
+    @Test
+    void 액세스_토큰의_adminId_클레임이_인증_주체로_돌아온다() {
+        String token = provider.generateTokens(42L, "admin", "ROLE_ADMIN").accessToken();
+
+        VerifiedToken verified = provider.verify(token).orElseThrow();
+
+        assertThat(verified.authentication().getPrincipal()).isEqualTo(new AdminPrincipal(42L, "admin"));
+    }
+
+    @Test
+    void int_범위를_넘는_adminId도_그대로_돌아온다() {
+        //JSON 숫자는 크기에 따라 Integer 또는 Long으로 읽힌다
+        String token = provider.generateTokens(5_000_000_000L, "admin", "ROLE_ADMIN").accessToken();
+
+        AdminPrincipal principal = (AdminPrincipal) provider.verify(token).orElseThrow().authentication().getPrincipal();
+
+        assertThat(principal.adminId()).isEqualTo(5_000_000_000L);
+    }
+
+    @Test
+    void adminId_클레임이_없는_토큰은_이름만_담긴_주체가_된다() {
+        String token = provider.generateTokens(null, "legacy", "ROLE_ADMIN").accessToken();
+
+        AdminPrincipal principal = (AdminPrincipal) provider.verify(token).orElseThrow().authentication().getPrincipal();
+
+        assertThat(principal).isEqualTo(new AdminPrincipal(null, "legacy"));
+    }
+}
@@ -0,0 +1,52 @@
+package com.coupon.system.couponadmin.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "test-secret-key-test-secret-key-0123456789";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 같은_토큰은_두_번째부터_캐시에서_인증한다() {
+        VerifiedTokenCache cache = cache(new JwtTokenProvider(SECRET, 60_000, 60_000));
+        String token = new JwtTokenProvider(SECRET, 60_000, 60_000).generateTokens(1L, "admin", "ROLE_ADMIN").accessToken();
+
+        Optional<Authentication> first = cache.authenticate(token);
+        Optional<Authentication> second = cache.authenticate(token);
+
+        assertThat(first).isPresent();
+        assertThat(second).containsSame(first.get());
+        assertThat(second.get().getName()).isEqualTo("admin");
+        assertThat(second.get().getPrincipal()).isEqualTo(new AdminPrincipal(1L, "admin"));
+        assertThat(second.get().getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly("ROLE_ADMIN");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", VerifiedTokenCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 서명이_다르거나_만료됐거나_인증_정보가_없는_토큰은_거부한다() {
+        VerifiedTokenCache cache = cache(new JwtTokenProvider(SECRET, 60_000, 60_000));
+        GeneratedToken otherKey = new JwtTokenProvider(SECRET.replace('0', '9'), 60_000, 60_000)
+                .generateTokens(1L, "admin", "ROLE_ADMIN");
+        GeneratedToken expired = new JwtTokenProvider(SECRET, -1_000, 60_000).generateTokens(1L, "admin", "ROLE_ADMIN");
+        GeneratedToken valid = new JwtTokenProvider(SECRET, 60_000, 60_000).generateTokens(1L, "admin", "ROLE_ADMIN");
+
+        assertThat(cache.authenticate(otherKey.accessToken())).isEmpty();
+        assertThat(cache.authenticate(expired.accessToken())).isEmpty();
+        assertThat(cache.authenticate(valid.refreshToken())).isEmpty();
+        assertThat(cache.authenticate("not-a-jwt")).isEmpty();
+    }
+
+    private VerifiedTokenCache cache(JwtTokenProvider provider) {
+        return new VerifiedTokenCache(provider, meterRegistry, 100, 300);
+    }
+}
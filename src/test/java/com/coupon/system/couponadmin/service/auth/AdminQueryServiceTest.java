@@ -0,0 +1,119 @@
+package com.coupon.system.couponadmin.service.auth;
+
+import com.coupon.system.couponadmin.domain.auth.Admin;
+import com.coupon.system.couponadmin.domain.auth.AdminRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJob;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceOptions;
+import com.coupon.system.couponadmin.security.AdminPrincipal;
+import com.coupon.system.couponadmin.service.coupon.CouponIssuanceService;
+import com.coupon.system.couponadmin.service.coupon.IssuanceJobScheduler;
+import com.coupon.system.couponadmin.service.file.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 작업을 만들 때 관리자 ID를 어디서 얻는지 확인한다
+ * - adminId 클레임이 있는 토큰이면 DB도 캐시도 거치지 않는다
+ * - 클레임이 없는 이전 토큰이면 이름으로 한 번 조회해 캐시하고, AdminChangedEvent가 커밋되면 캐시를 비운다
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:admin-query;MODE=MYSQL;NON_KEYWORDS=USER",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "jwt.secret-key=test-secret-key-test-secret-key-0123456789",
+        "coupon.issuance.code.secret=test-coupon-code-secret-test-coupon-code-secret",
+        "jwt.access-token-validity=3600000",
+        "jwt.refresh-token-validity=3600000",
+        "cloud.aws.credentials.access-key=test",
+        "cloud.aws.credentials.secret-key=test",
+        "cloud.aws.region.static=ap-northeast-2",
+        "aws.s3.bucket=test",
+        "file.upload-dir=build/test-uploads"
+})
+class AdminQueryServiceTest {
+
+    private static final CouponIssuanceOptions OPTIONS = new CouponIssuanceOptions(false, null, false);
+
+    @MockitoBean
+    private S3Service s3Service;
+
+    @MockitoBean
+    private IssuanceJobScheduler issuanceJobScheduler; // 만든 작업을 실행하지 않도록
+
+    @MockitoBean
+    private AdminRepository adminRepository;
+
+    @Autowired
+    private CouponIssuanceService couponIssuanceService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(AdminQueryService.ADMIN_IDS_CACHE).clear();
+    }
+
+    @Test
+    void 토큰에_adminId가_있으면_관리자를_조회하지_않고_작업을_만든다() throws Exception {
+        CouponIssuanceJob job = createJob(new AdminPrincipal(7L, "admin"));
+
+        assertThat(job.getAdminId()).isEqualTo(7L);
+        verifyNoInteractions(adminRepository);
+        assertThat(cacheManager.getCache(AdminQueryService.ADMIN_IDS_CACHE).get("admin")).isNull();
+    }
+
+    @Test
+    void 이전_토큰은_이름으로_한_번_조회해_캐시하고_AdminChangedEvent가_커밋되면_다시_조회한다() throws Exception {
+        Admin before = admin(3L);
+        Admin after = admin(4L);
+        when(adminRepository.findByAdminName("legacy")).thenReturn(Optional.of(before));
+        AdminPrincipal legacy = new AdminPrincipal(null, "legacy");
+
+        assertThat(createJob(legacy).getAdminId()).isEqualTo(3L);
+        assertThat(createJob(legacy).getAdminId()).isEqualTo(3L);
+        verify(adminRepository, times(1)).findByAdminName("legacy");
+
+        //같은 이름의 관리자가 다시 만들어진 경우 : 커밋 전에는 캐시가 그대로이고, 커밋된 뒤에 비워진다
+        when(adminRepository.findByAdminName("legacy")).thenReturn(Optional.of(after));
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new AdminChangedEvent("legacy"));
+            assertThat(cacheManager.getCache(AdminQueryService.ADMIN_IDS_CACHE).get("legacy")).isNotNull();
+        });
+
+        assertThat(createJob(legacy).getAdminId()).isEqualTo(4L);
+        verify(adminRepository, times(2)).findByAdminName("legacy");
+    }
+
+    private CouponIssuanceJob createJob(AdminPrincipal admin) throws Exception {
+        //저장 경로는 작업마다 달라야 한다 (unique)
+        return couponIssuanceService.createCouponIssuanceJob("users.csv", "uploads/" + UUID.randomUUID() + "_users.csv", admin, OPTIONS);
+    }
+
+    private static Admin admin(Long id) {
+        Admin admin = mock(Admin.class);
+        when(admin.getId()).thenReturn(id);
+        return admin;
+    }
+}
@@ -0,0 +1,108 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.domain.coupon.Coupon;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceRejectedRow;
+import com.coupon.system.couponadmin.util.BatchSizePolicy;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class BisectingChunkWriterTest {
+
+    private final List<CouponChunk> committed = new ArrayList<>();
+
+    @Test
+    void 데이터_오류면_반씩_나눠_저장하고_문제_행만_거절한다() {
+        // 행 1~10 중 행 4는 파싱 때 거절, 행 8의 고객 ID는 저장하면 실패
+        CouponChunk chunk = chunk(1, 10, new long[]{1, 2, 3, 5, 6, 7, 8, 9, 10}, new long[]{4}, 8);
+        BisectingChunkWriter writer = writer(failOnBadCustomer(), 3, 10);
+
+        ChunkWriteResult result = writer.apply(chunk);
+
+        assertThat(result).isEqualTo(new ChunkWriteResult(8, 0, 1));
+        //커밋된 청크들의 행 범위는 원래 범위를 빈틈없이 나누고, 건수 합도 원래와 같다
+        assertThat(committed).extracting(CouponChunk::startRow, CouponChunk::endRow)
+                .containsExactly(tuple(1L, 5L), tuple(6L, 7L), tuple(8L, 8L), tuple(9L, 10L));
+        assertThat(committed.stream().mapToInt(CouponChunk::rowCount).sum()).isEqualTo(10);
+        //거절 행과 사유는 자기 범위의 청크에 실려 체크포인트와 함께 저장된다
+        assertThat(committed.get(0).rejectedRows())
+                .extracting(CouponIssuanceRejectedRow::getRowPosition, CouponIssuanceRejectedRow::getCustomerId)
+                .containsExactly(tuple(4L, "INVALID-4"));
+        assertThat(committed.get(2).coupons()).isEmpty();
+        assertThat(committed.get(2).rejectedRows())
+                .extracting(CouponIssuanceRejectedRow::getRowPosition, CouponIssuanceRejectedRow::getCustomerId, CouponIssuanceRejectedRow::getReason)
+                .containsExactly(tuple(8L, "BAD-8", "value too long"));
+    }
+
+    @Test
+    void 일시적_오류는_같은_청크를_다시_저장한다() {
+        int[] calls = {0};
+        BisectingChunkWriter writer = writer(chunk -> {
+            if (++calls[0] < 3) throw new CannotAcquireLockException("Lock wait timeout exceeded");
+            committed.add(chunk);
+            return 0;
+        }, 3, 10);
+
+        ChunkWriteResult result = writer.apply(chunk(1, 3, new long[]{1, 2, 3}, new long[0], -1));
+
+        assertThat(result).isEqualTo(new ChunkWriteResult(3, 0, 0));
+        assertThat(calls[0]).isEqualTo(3);
+        assertThat(committed).hasSize(1);
+    }
+
+    @Test
+    void 재시도_횟수나_거절_상한을_넘으면_예외를_던진다() {
+        BisectingChunkWriter alwaysLocked = writer(chunk -> {
+            throw new CannotAcquireLockException("Lock wait timeout exceeded");
+        }, 2, 10);
+        assertThatThrownBy(() -> alwaysLocked.apply(chunk(1, 2, new long[]{1, 2}, new long[0], -1)))
+                .isInstanceOf(CannotAcquireLockException.class);
+
+        BisectingChunkWriter allBad = writer(chunk -> {
+            if (!chunk.coupons().isEmpty()) throw new DataIntegrityViolationException("value too long");
+            return 0;
+        }, 1, 2);
+        assertThatThrownBy(() -> allBad.apply(chunk(1, 4, new long[]{1, 2, 3, 4}, new long[0], -1)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("2건");
+    }
+
+    private BisectingChunkWriter writer(ToIntFunction<CouponChunk> chunkWriter, int maxAttempts, int maxRejectedRows) {
+        return new BisectingChunkWriter(1L, chunkWriter, BatchSizePolicy.fixed(1000),
+                maxAttempts, Duration.ZERO, maxRejectedRows);
+    }
+
+    private ToIntFunction<CouponChunk> failOnBadCustomer() {
+        return chunk -> {
+            if (chunk.coupons().stream().anyMatch(coupon -> coupon.getCustomerId().startsWith("BAD"))) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            committed.add(chunk);
+            return 0;
+        };
+    }
+
+    /* badRow 행의 쿠폰만 고객 ID가 BAD-로 시작한다 (rejectedRows 행은 파싱 때 거절된 INVALID-행) */
+    private static CouponChunk chunk(long startRow, long endRow, long[] couponRows, long[] rejectedRows, long badRow) {
+        List<Coupon> coupons = new ArrayList<>();
+        for (long row : couponRows) {
+            String customerId = (row == badRow ? "BAD-" : "C") + row;
+            coupons.add(new Coupon("CODE" + row, customerId, 1L, LocalDateTime.now().plusDays(30)));
+        }
+        List<CouponIssuanceRejectedRow> rejected = new ArrayList<>();
+        for (long row : rejectedRows) {
+            rejected.add(new CouponIssuanceRejectedRow(1L, row, "INVALID-" + row, "customer_id 형식 오류"));
+        }
+        return new CouponChunk(1L, startRow, endRow, coupons, couponRows, rejected);
+    }
+}
@@ -0,0 +1,109 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.domain.coupon.Coupon;
+import com.coupon.system.couponadmin.domain.coupon.CouponJdbcRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceChunk;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceChunkRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceRejectedRow;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceRejectedRowJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({CouponBatchService.class, CouponJdbcRepository.class, CouponIssuanceRejectedRowJdbcRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 청크는 각자 새 트랜잭션으로 커밋된다
+class CouponBatchServiceTest {
+
+    @Autowired
+    private CouponBatchService couponBatchService;
+
+    @Autowired
+    private CouponJdbcRepository couponJdbcRepository;
+
+    @Autowired
+    private CouponIssuanceChunkRepository couponIssuanceChunkRepository;
+
+    @Autowired
+    private CouponIssuanceRejectedRowJdbcRepository couponIssuanceRejectedRowJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 이미_발급된_고객은_건너뛰고_건너뛴_수를_체크포인트와_함께_남긴다() {
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(30);
+        couponJdbcRepository.bulkInsert(List.of(
+                new Coupon("OLD-1", "A1", 100L, "SPRING", expiresAt),
+                new Coupon("OLD-3", "A3", 100L, "SPRING", expiresAt),
+                new Coupon("OLD-4", "A4", 100L, "SUMMER", expiresAt))); // 다른 캠페인은 건너뛰지 않음
+
+        //행 1~5는 고객 A1~A5, 행 6은 파싱 때 거절
+        int skipped = couponBatchService.saveCouponsInNewTransaction(chunk(101L, "A", 5, "SPRING"), "SPRING");
+
+        assertThat(skipped).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("select customer_id from coupon where job_id = 101 order by customer_id", String.class))
+                .containsExactly("A2", "A4", "A5");
+        assertThat(couponIssuanceChunkRepository.findAllByJobIdOrderByStartRow(101L)).singleElement()
+                .satisfies(chunk -> {
+                    assertThat(chunk.getRowCount()).isEqualTo(6);
+                    assertThat(chunk.getRejectedCount()).isEqualTo(1);
+                    assertThat(chunk.getSkippedCount()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    void 건너뛰기_옵션이_없으면_이미_발급된_고객에게도_발급한다() {
+        couponJdbcRepository.bulkInsert(List.of(
+                new Coupon("OLD-B1", "B1", 200L, "SPRING", LocalDateTime.now().plusDays(30))));
+
+        int skipped = couponBatchService.saveCouponsInNewTransaction(chunk(201L, "B", 3, "SPRING"), null);
+
+        assertThat(skipped).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from coupon where job_id = 201", Long.class)).isEqualTo(3);
+        assertThat(couponIssuanceChunkRepository.findAllByJobIdOrderByStartRow(201L))
+                .extracting(CouponIssuanceChunk::getSkippedCount).containsExactly(0);
+    }
+
+    @Test
+    void 거절_행은_체크포인트와_같은_트랜잭션으로_저장되고_함께_롤백된다() {
+        couponBatchService.saveCouponsInNewTransaction(chunk(301L, "C", 2, null), null);
+
+        //같은 쿠폰 코드로 다시 저장하면 유니크 키 위반으로 청크 전체가 롤백된다
+        assertThatThrownBy(() -> couponBatchService.saveCouponsInNewTransaction(chunk(301L, "C", 2, null), null))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(couponIssuanceChunkRepository.findAllByJobIdOrderByStartRow(301L)).hasSize(1);
+        List<CouponIssuanceRejectedRow> rejected = new ArrayList<>();
+        couponIssuanceRejectedRowJdbcRepository.forEachRejectedRowOfJob(301L, 100, rejected::add);
+        assertThat(rejected).singleElement().satisfies(row -> {
+            assertThat(row.getRowPosition()).isEqualTo(3);
+            assertThat(row.getCustomerId()).isEqualTo("X".repeat(150));
+            assertThat(row.getReason()).isEqualTo("customer_id 길이 초과");
+        });
+    }
+
+    /* 행 1~customers는 고객 {prefix}1~, 그 다음 행 하나는 거절된 행 */
+    private static CouponChunk chunk(Long jobId, String prefix, int customers, String campaignCode) {
+        List<Coupon> coupons = new ArrayList<>();
+        long[] rows = new long[customers];
+        for (int i = 1; i <= customers; i++) {
+            rows[i - 1] = i;
+            coupons.add(new Coupon("NEW-" + prefix + jobId + "-" + i, prefix + i, jobId, campaignCode, LocalDateTime.now().plusDays(30)));
+        }
+        return new CouponChunk(jobId, 1, customers + 1, coupons, rows,
+                List.of(new CouponIssuanceRejectedRow(jobId, customers + 1, "X".repeat(150), "customer_id 길이 초과")));
+    }
+}
@@ -0,0 +1,52 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.domain.coupon.Coupon;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceRejectedRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class CouponChunkAssemblerTest {
+
+    private final List<CouponChunk> chunks = new ArrayList<>();
+    private final CouponChunkAssembler assembler = new CouponChunkAssembler(1L, 1, chunks::add);
+
+    @Test
+    void 마지막_쿠폰_뒤의_거절_행은_쿠폰_없는_청크로_넘긴다() {
+        assembler.onRow(1);
+        assembler.onRejected(2, "BAD-2", "too long");
+        assembler.accept(List.of(coupon(1)));
+        assembler.onRejected(3, "BAD-3", "too long");
+        assembler.onRejected(4, "BAD-4", "too long");
+
+        assembler.flushPending();
+        assembler.flushPending(); // 남은 거절 행이 없으면 아무것도 넘기지 않는다
+
+        assertThat(chunks).extracting(CouponChunk::startRow, CouponChunk::endRow, chunk -> chunk.coupons().size())
+                .containsExactly(tuple(1L, 2L, 1), tuple(3L, 4L, 0));
+        assertThat(chunks.get(1).rejectedRows()).extracting(CouponIssuanceRejectedRow::getRowPosition)
+                .containsExactly(3L, 4L);
+    }
+
+    @Test
+    void 쌓인_쿠폰이_없으면_거절_행이_상한에_닿을_때마다_청크로_넘긴다() {
+        int rows = CouponChunkAssembler.MAX_PENDING_REJECTED_ROWS * 2 + 1;
+        for (int row = 1; row <= rows; row++) {
+            assembler.onRejected(row, "BAD-" + row, "too long");
+        }
+        assembler.flushPending();
+
+        assertThat(chunks).extracting(CouponChunk::rejectedCount)
+                .containsExactly(CouponChunkAssembler.MAX_PENDING_REJECTED_ROWS, CouponChunkAssembler.MAX_PENDING_REJECTED_ROWS, 1);
+        assertThat(chunks.get(2).startRow()).isEqualTo(rows);
+    }
+
+    private static Coupon coupon(long row) {
+        return new Coupon("CODE" + row, "C" + row, 1L, LocalDateTime.now().plusDays(30));
+    }
+}
@@ -0,0 +1,77 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.domain.coupon.CouponJdbcRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJob;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobStatus;
+import com.coupon.system.couponadmin.exception.coupon.JobNotCompletedException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CouponExportServiceTest {
+
+    private final CouponIssuanceJobRepository jobRepository = mock(CouponIssuanceJobRepository.class);
+    private final CouponJdbcRepository couponJdbcRepository = mock(CouponJdbcRepository.class);
+    private final CouponExportService service = new CouponExportService(jobRepository, couponJdbcRepository, 500);
+
+    CouponExportServiceTest() {
+        doAnswer(invocation -> {
+            BiConsumer<String, String> consumer = invocation.getArgument(2);
+            consumer.accept("A1B2C3", "1001");
+            consumer.accept("D4E5F6", "10,02");
+            consumer.accept("G7H8I9", "say \"hi\"");
+            return null;
+        }).when(couponJdbcRepository).forEachCouponOfJob(eq(1L), eq(500), any());
+    }
+
+    @Test
+    void 커서에서_읽은_쿠폰을_CSV로_이스케이프해서_쓴다() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = service.export(1L, out, false);
+
+        assertThat(count).isEqualTo(3);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "coupon_code,customer_id\n"
+                        + "A1B2C3,1001\n"
+                        + "D4E5F6,\"10,02\"\n"
+                        + "G7H8I9,\"say \"\"hi\"\"\"\n");
+    }
+
+    @Test
+    void gzip이면_압축해서_쓴다() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.export(1L, out, true);
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8))
+                    .startsWith("coupon_code,customer_id\nA1B2C3,1001\n");
+        }
+    }
+
+    @Test
+    void 완료되지_않은_작업은_내보낼_수_없다() {
+        CouponIssuanceJob job = mock(CouponIssuanceJob.class);
+        when(job.getJobStatus()).thenReturn(CouponIssuanceJobStatus.PENDING);
+        when(jobRepository.findById(2L)).thenReturn(Optional.of(job));
+
+        assertThatThrownBy(() -> service.prepareExport(2L, false))
+                .isInstanceOf(JobNotCompletedException.class);
+    }
+}
@@ -0,0 +1,159 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobSearchCondition;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobStatus;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+class CouponIssuanceJobQueryServiceTest {
+
+    private static final CouponIssuanceJobSearchCondition FIRST_PAGE =
+            new CouponIssuanceJobSearchCondition(null, null, null, null, 20);
+
+    @Autowired
+    private CouponIssuanceJobQueryService queryService;
+
+    @Autowired
+    private CouponIssuanceJobRepository couponIssuanceJobRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        reset(couponIssuanceJobRepository);
+        when(couponIssuanceJobRepository.findSummaries(any())).thenReturn(List.of(summary(1L), summary(2L)));
+        when(couponIssuanceJobRepository.findSummaryById(any())).thenAnswer(invocation ->
+                Optional.of(summary(invocation.getArgument(0))));
+    }
+
+    @Test
+    void 같은_조건은_두_번째부터_캐시에서_읽는다() {
+        queryService.findSummaries(FIRST_PAGE);
+        queryService.findSummaries(new CouponIssuanceJobSearchCondition(null, null, null, null, 20));
+        queryService.getSummary(1L);
+        queryService.getSummary(1L);
+
+        verify(couponIssuanceJobRepository, times(1)).findSummaries(any());
+        verify(couponIssuanceJobRepository, times(1)).findSummaryById(1L);
+    }
+
+    @Test
+    void 작업_변경_이벤트는_그_작업과_목록_캐시만_비운다() {
+        queryService.findSummaries(FIRST_PAGE);
+        queryService.getSummary(1L);
+        queryService.getSummary(2L);
+        clearInvocations(couponIssuanceJobRepository);
+
+        eventPublisher.publishEvent(new CouponIssuanceJobChangedEvent(1L)); // 트랜잭션 밖 : 바로 비움
+
+        queryService.findSummaries(FIRST_PAGE);
+        queryService.getSummary(1L);
+        queryService.getSummary(2L);
+        verify(couponIssuanceJobRepository, times(1)).findSummaries(any());
+        verify(couponIssuanceJobRepository, times(1)).findSummaryById(1L);
+        verify(couponIssuanceJobRepository, times(0)).findSummaryById(2L);
+    }
+
+    @Test
+    void 트랜잭션_안에서_발행한_이벤트는_커밋된_뒤에_비운다() {
+        queryService.getSummary(1L);
+        clearInvocations(couponIssuanceJobRepository);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new CouponIssuanceJobChangedEvent(1L));
+            queryService.getSummary(1L); // 아직 커밋 전 : 캐시 유지
+            verify(couponIssuanceJobRepository, times(0)).findSummaryById(1L);
+        });
+
+        queryService.getSummary(1L);
+        verify(couponIssuanceJobRepository, times(1)).findSummaryById(1L);
+    }
+
+    private static CouponIssuanceJobSummary summary(Long id) {
+        return new CouponIssuanceJobSummary(id, "users-" + id + ".csv", CouponIssuanceJobStatus.PENDING,
+                10, 5, 0, 0, LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+
+    @Configuration
+    @EnableCaching
+    @EnableTransactionManagement
+    static class Config {
+
+        @Bean
+        CouponIssuanceJobRepository couponIssuanceJobRepository() {
+            return Mockito.mock(CouponIssuanceJobRepository.class);
+        }
+
+        @Bean
+        CouponIssuanceJobQueryService couponIssuanceJobQueryService(CouponIssuanceJobRepository couponIssuanceJobRepository) {
+            return new CouponIssuanceJobQueryService(couponIssuanceJobRepository);
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(CouponIssuanceJobQueryService.JOB_PAGES_CACHE,
+                    CouponIssuanceJobQueryService.JOB_SUMMARY_CACHE);
+        }
+
+        /* DB 없이 트랜잭션 동기화(커밋 후 콜백)만 동작하는 트랜잭션 매니저 */
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new AbstractPlatformTransactionManager() {
+                @Override
+                protected Object doGetTransaction() {
+                    return new Object();
+                }
+
+                @Override
+                protected void doBegin(Object transaction, TransactionDefinition definition) {
+                }
+
+                @Override
+                protected void doCommit(DefaultTransactionStatus status) {
+                }
+
+                @Override
+                protected void doRollback(DefaultTransactionStatus status) {
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.domain.coupon.Coupon;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CouponIssuancePipelineTest {
+
+    private final IssuanceProgress progress = new IssuanceProgress(1L, -1);
+
+    @Test
+    void 대기열이_가득_차면_리더가_기다리고_종료_신호_후_남은_청크를_모두_저장한다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Set<Long> written = ConcurrentHashMap.newKeySet();
+        CouponIssuancePipeline pipeline = new CouponIssuancePipeline(1L, 2, 1, chunk -> {
+            await(release);
+            written.add(chunk.startRow());
+            return new ChunkWriteResult(chunk.coupons().size(), 0, 0);
+        }, progress);
+
+        //writer 2개가 하나씩 잡고, 대기열(1칸)에 하나 -> 네 번째는 자리가 날 때까지 막힌다
+        for (int i = 0; i < 3; i++) {
+            pipeline.accept(chunk(i * 10L, 2));
+        }
+        CompletableFuture<Void> fourth = CompletableFuture.runAsync(() -> pipeline.accept(chunk(30, 2)));
+        Thread.sleep(300);
+        assertThat(fourth).isNotDone();
+
+        release.countDown();
+        fourth.get(5, TimeUnit.SECONDS);
+        pipeline.awaitCompletion();
+
+        assertThat(written).containsExactlyInAnyOrder(0L, 10L, 20L, 30L);
+        assertThat(progress.getSuccessCount()).isEqualTo(8);
+    }
+
+    @Test
+    void 저장에_실패하면_남은_청크는_버리고_리더와_완료_대기에서_예외를_던진다() {
+        CouponIssuancePipeline pipeline = new CouponIssuancePipeline(1L, 1, 8, chunk -> {
+            if (chunk.startRow() == 10) throw new IllegalArgumentException("boom");
+            return new ChunkWriteResult(chunk.coupons().size(), 0, 0);
+        }, progress);
+
+        pipeline.accept(chunk(0, 3));
+        pipeline.accept(chunk(10, 3));
+
+        assertThatThrownBy(pipeline::awaitCompletion)
+                .isInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("boom");
+        assertThatThrownBy(() -> pipeline.accept(chunk(20, 3)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(progress.getSuccessCount()).isEqualTo(3);
+        assertThat(progress.getFailCount()).isEqualTo(3);
+    }
+
+    @Test
+    void writer가_0개면_리더_스레드에서_바로_저장하고_건너뜀과_거절을_집계한다() {
+        List<String> threads = new ArrayList<>();
+        CouponIssuancePipeline pipeline = new CouponIssuancePipeline(1L, 0, 8, chunk -> {
+            threads.add(Thread.currentThread().getName());
+            return new ChunkWriteResult(2, 1, 1);
+        }, progress);
+
+        pipeline.accept(chunk(0, 4));
+        pipeline.awaitCompletion();
+
+        assertThat(threads).containsExactly(Thread.currentThread().getName());
+        assertThat(progress.getSuccessCount()).isEqualTo(2);
+        assertThat(progress.getSkippedCount()).isEqualTo(1);
+        assertThat(progress.getFailCount()).isEqualTo(1);
+    }
+
+    private static CouponChunk chunk(long startRow, int size) {
+        List<Coupon> coupons = new ArrayList<>();
+        long[] rows = new long[size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = startRow + i;
+            coupons.add(new Coupon("CODE" + rows[i], "C" + rows[i], 1L, LocalDateTime.now().plusDays(30)));
+        }
+        return new CouponChunk(1L, startRow, startRow + size - 1, coupons, rows, List.of());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceChunkRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJob;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobStatus;
+import com.coupon.system.couponadmin.service.file.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+/**
+ * 발급 도중 중단된 작업을 다시 실행해도 이미 커밋된 청크의 쿠폰을 다시 발급하지 않는지 H2에서 확인한다
+ * 거절 행 보고서에는 중단 전에 커밋된 범위의 거절 행도 빠짐없이, 한 번씩만 들어가야 한다
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:resume;MODE=MYSQL;NON_KEYWORDS=USER",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "jwt.secret-key=test-secret-key-test-secret-key-0123456789",
+        "coupon.issuance.code.secret=test-coupon-code-secret-test-coupon-code-secret",
+        "jwt.access-token-validity=3600000",
+        "jwt.refresh-token-validity=3600000",
+        "cloud.aws.credentials.access-key=test",
+        "cloud.aws.credentials.secret-key=test",
+        "cloud.aws.region.static=ap-northeast-2",
+        "aws.s3.bucket=test",
+        "file.upload-dir=build/test-uploads",
+        "coupon.issuance.pipeline.writer-threads=0",
+        "coupon.issuance.batch.size=100"
+})
+class CouponIssuanceResumeIntegrationTest {
+
+    private static final int ROWS = 1000;
+    private static final int REJECTED_ROWS = ROWS / 97; // 97의 배수 행은 길이 초과 customer_id
+    private static final String TOO_LONG_ID = "x".repeat(150);
+
+    @MockitoBean
+    private S3Service s3Service;
+
+    @MockitoSpyBean
+    private CouponBatchService couponBatchService;
+
+    @Autowired
+    private CouponIssuanceService couponIssuanceService;
+
+    @Autowired
+    private CouponIssuanceJobRepository couponIssuanceJobRepository;
+
+    @Autowired
+    private CouponIssuanceChunkRepository couponIssuanceChunkRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final AtomicReference<RuntimeException> crash = new AtomicReference<>();
+    private List<String> customerIds = customerIds(0); // 업로드된 파일의 데이터 행 (테스트마다 바꿀 수 있음)
+    private final AtomicReference<List<String>> storedReport = new AtomicReference<>(); // 마지막으로 저장소에 올린 거절 행 보고서
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(s3Service.loadAsInputStream(anyString())).thenAnswer(invocation -> new ByteArrayInputStream(csv()));
+        when(s3Service.getFileSize(anyString())).thenAnswer(invocation -> (long) csv().length);
+        when(s3Service.save(anyString(), any(Path.class))).thenAnswer(invocation -> {
+            storedReport.set(Files.readAllLines(invocation.getArgument(1, Path.class), StandardCharsets.UTF_8));
+            return "reports/rejected.csv";
+        });
+
+        //crash가 설정되어 있으면 C500 고객이 든 청크를 처음 저장할 때 그 예외로 실패시킨다 (그 앞 청크들은 커밋됨)
+        doAnswer(invocation -> {
+            CouponChunk chunk = invocation.getArgument(0);
+            boolean hasCrashRow = chunk.coupons().stream().anyMatch(coupon -> coupon.getCustomerId().equals("C500"));
+            RuntimeException failure = hasCrashRow ? crash.getAndSet(null) : null;
+            if (failure != null) {
+                if (failure.getCause() instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                throw failure;
+            }
+            return invocation.callRealMethod();
+        }).when(couponBatchService).saveCouponsInNewTransaction(any(), any());
+    }
+
+    @Test
+    void 중단된_작업을_다시_실행하면_커밋된_청크는_건너뛰고_정확한_건수로_끝난다() {
+        Long jobId = couponIssuanceJobRepository.save(new CouponIssuanceJob("users.csv", "uploads/users.csv", 1L)).getId();
+        crash.set(new IllegalStateException("simulated crash"));
+
+        couponIssuanceService.issueCoupons(jobId);
+
+        long issuedBeforeRestart = countCoupons(jobId);
+        assertThat(issuedBeforeRestart).isBetween(1L, (long) ROWS - REJECTED_ROWS - 1);
+        assertThat(couponIssuanceChunkRepository.findAllByJobIdOrderByStartRow(jobId)).isNotEmpty();
+        //실패한 작업의 보고서에는 커밋된 범위의 거절 행만 들어간다
+        assertThat(storedReport.get()).hasSizeBetween(2, REJECTED_ROWS);
+
+        //재시작 : 중단된 작업을 IssuanceJobRecovery처럼 다시 실행
+        couponIssuanceJobRepository.updateJobStatus(jobId, CouponIssuanceJobStatus.FAILED, CouponIssuanceJobStatus.PENDING);
+        couponIssuanceService.issueCoupons(jobId);
+
+        assertCompletedWithoutDuplicates(jobId);
+    }
+
+    @Test
+    void 서버_종료로_인터럽트된_작업은_PENDING으로_남고_다시_실행하면_이어서_끝난다() {
+        Long jobId = couponIssuanceJobRepository.save(new CouponIssuanceJob("users.csv", "uploads/users-2.csv", 1L)).getId();
+        //IssuanceJobScheduler.shutdown()의 shutdownNow()가 작업 스레드를 인터럽트한 상황
+        crash.set(new IllegalStateException("쿠폰 청크 재시도 대기 중 인터럽트 발생", new InterruptedException()));
+
+        couponIssuanceService.issueCoupons(jobId);
+
+        assertThat(Thread.interrupted()).isTrue(); // 인터럽트 상태는 호출한 쪽(실행기)에 그대로 돌려준다
+        CouponIssuanceJob interrupted = couponIssuanceJobRepository.findById(jobId).orElseThrow();
+        assertThat(interrupted.getJobStatus()).isEqualTo(CouponIssuanceJobStatus.PENDING); // IssuanceJobRecovery가 다시 실행하는 상태
+        assertThat(interrupted.getSuccessCount()).isEqualTo(countCoupons(jobId)).isPositive();
+
+        couponIssuanceService.issueCoupons(jobId);
+
+        assertCompletedWithoutDuplicates(jobId);
+    }
+
+    @Test
+    void 마지막_쿠폰_뒤에_거절된_행도_체크포인트와_보고서에_한_번씩_남는다() {
+        //쿠폰 수가 배치 크기의 배수라 마지막 배치는 마지막 쿠폰에서 저장되고, 파일 끝의 3행은 쿠폰 없이 거절된 행만 남는다
+        customerIds = customerIds(3);
+        Long jobId = couponIssuanceJobRepository.save(new CouponIssuanceJob("users.csv", "uploads/users-3.csv", 1L)).getId();
+        crash.set(new IllegalStateException("simulated crash"));
+
+        couponIssuanceService.issueCoupons(jobId);
+        couponIssuanceJobRepository.updateJobStatus(jobId, CouponIssuanceJobStatus.FAILED, CouponIssuanceJobStatus.PENDING);
+        couponIssuanceService.issueCoupons(jobId);
+
+        assertCompletedWithoutDuplicates(jobId);
+    }
+
+    @Test
+    void 모든_행이_거절된_파일도_보고서를_남긴다() {
+        customerIds = List.of(TOO_LONG_ID, TOO_LONG_ID + "y", TOO_LONG_ID + "z");
+        Long jobId = couponIssuanceJobRepository.save(new CouponIssuanceJob("users.csv", "uploads/users-4.csv", 1L)).getId();
+
+        couponIssuanceService.issueCoupons(jobId);
+
+        assertCompletedWithoutDuplicates(jobId);
+    }
+
+    private void assertCompletedWithoutDuplicates(Long jobId) {
+        int rows = customerIds.size();
+        long rejectedRows = customerIds.stream().filter(id -> id.length() > 100).count();
+        long issuedRows = rows - rejectedRows;
+
+        CouponIssuanceJob job = couponIssuanceJobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getJobStatus()).isEqualTo(CouponIssuanceJobStatus.COMPLETED);
+        assertThat(job.getTotalCount()).isEqualTo(rows);
+        assertThat(job.getSuccessCount()).isEqualTo(issuedRows);
+        assertThat(job.getFailCount()).isEqualTo(rejectedRows);
+        assertThat(countCoupons(jobId)).isEqualTo(issuedRows);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(distinct customer_id) from coupon where job_id = ?", Long.class, jobId))
+                .isEqualTo(issuedRows);
+        assertThat(couponIssuanceChunkRepository.findAllByJobIdOrderByStartRow(jobId)).isEmpty();
+
+        //보고서는 중단 전후의 거절 행을 행 위치 순서로 모두 담고, 보고서로 옮긴 거절 행은 체크포인트와 함께 지운다
+        assertThat(job.getRejectedFilePath()).isEqualTo("reports/rejected.csv");
+        assertThat(storedReport.get()).containsExactlyElementsOf(expectedReport());
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from coupon_issuance_rejected_row where job_id = ?", Long.class, jobId)).isZero();
+    }
+
+    /* CSV 행 위치는 레코드가 시작하는 바이트 오프셋 */
+    private List<String> expectedReport() {
+        List<String> lines = new ArrayList<>();
+        lines.add(RejectedRowReport.HEADER);
+        long offset = "customer_id\n".length();
+        for (String customerId : customerIds) {
+            if (customerId.length() > 100) {
+                lines.add(offset + "," + customerId + ",customer_id 길이가 100자를 초과합니다.");
+            }
+            offset += customerId.length() + 1;
+        }
+        return lines;
+    }
+
+    private long countCoupons(Long jobId) {
+        return jdbcTemplate.queryForObject("select count(*) from coupon where job_id = ?", Long.class, jobId);
+    }
+
+    private byte[] csv() {
+        StringBuilder csv = new StringBuilder("customer_id\n");
+        for (String customerId : customerIds) {
+            csv.append(customerId).append('\n');
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * C1~C1000 중 97의 배수 행은 길이 초과 customer_id
+     * trailingRejected가 0보다 크면 쿠폰이 1000개(배치 크기의 배수)가 되도록 고객을 더 넣고, 그 뒤로 trailingRejected행의 길이 초과 customer_id
+     */
+    private static List<String> customerIds(int trailingRejected) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 1; i <= ROWS; i++) {
+            ids.add(i % 97 == 0 ? TOO_LONG_ID : "C" + i);
+        }
+        if (trailingRejected > 0) {
+            for (int i = ROWS + 1; i <= ROWS + REJECTED_ROWS; i++) {
+                ids.add("C" + i);
+            }
+        }
+        for (int i = 0; i < trailingRejected; i++) {
+            ids.add(TOO_LONG_ID + i);
+        }
+        return ids;
+    }
+}
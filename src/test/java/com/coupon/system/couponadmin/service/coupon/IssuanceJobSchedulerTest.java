@@ -0,0 +1,73 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class IssuanceJobSchedulerTest {
+
+    private final CouponIssuanceService couponIssuanceService = mock(CouponIssuanceService.class);
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    @Test
+    void 종료_시_실행_중인_작업은_끝날_때까지_기다리고_대기열의_작업은_실행하지_않는다() throws Exception {
+        runJobs(300);
+        IssuanceJobScheduler scheduler = scheduler(5000);
+        scheduler.submit(1L, CouponIssuanceJobStatus.UPLOADED);
+        scheduler.submit(2L, CouponIssuanceJobStatus.UPLOADED);
+        started.await(5, TimeUnit.SECONDS);
+
+        scheduler.shutdown();
+
+        assertThat(events).containsExactly("start 1", "done 1");
+    }
+
+    @Test
+    void 제한_시간_안에_끝나지_않은_작업은_인터럽트한다() throws Exception {
+        runJobs(60_000);
+        IssuanceJobScheduler scheduler = scheduler(200);
+        scheduler.submit(1L, CouponIssuanceJobStatus.PENDING);
+        started.await(5, TimeUnit.SECONDS);
+
+        long startedAt = System.nanoTime();
+        scheduler.shutdown();
+
+        assertThat(events).containsExactly("start 1", "interrupted 1");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(5000);
+    }
+
+    /* 작업마다 workMillis 동안 일하는 척 한다 (인터럽트되면 바로 멈춤) */
+    private void runJobs(long workMillis) {
+        doAnswer(invocation -> {
+            Long jobId = invocation.getArgument(0);
+            events.add("start " + jobId);
+            started.countDown();
+            try {
+                Thread.sleep(workMillis);
+                events.add("done " + jobId);
+            } catch (InterruptedException e) {
+                events.add("interrupted " + jobId);
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }).when(couponIssuanceService).issueCoupons(anyLong());
+    }
+
+    private IssuanceJobScheduler scheduler(long shutdownTimeoutMillis) {
+        return new IssuanceJobScheduler(couponIssuanceService, mock(CouponIssuanceJobRepository.class),
+                mock(ApplicationEventPublisher.class), new SimpleMeterRegistry(), 1, 5, shutdownTimeoutMillis);
+    }
+}
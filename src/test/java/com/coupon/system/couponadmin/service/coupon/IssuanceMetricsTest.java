@@ -0,0 +1,66 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import io.micrometer.core.instrument.search.RequiredSearch;
+import io.micrometer.core.instrument.search.Search;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IssuanceMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IssuanceMetrics issuanceMetrics = new IssuanceMetrics(meterRegistry, Duration.ZERO);
+
+    @AfterEach
+    void tearDown() {
+        issuanceMetrics.shutdown();
+    }
+
+    @Test
+    void 단계와_행_수를_작업_파일형식_태그로_기록한다() {
+        IssuanceProgress progress = new IssuanceProgress(7L, 100);
+        IssuanceMetrics.JobMetrics metrics = issuanceMetrics.start(7L, "audience.CSV.GZ", progress, System.nanoTime());
+
+        metrics.endStage("prepare");
+        metrics.onFirstRow();
+        metrics.onFirstRow(); // 구간마다 불려도 한 번만 기록
+        progress.recordParsedRow();
+        progress.recordRejectedRow();
+        progress.addBytesRead(40);
+        metrics.endParse();
+        metrics.chunkCommit().record(5, TimeUnit.MILLISECONDS);
+
+        assertThat(stage("prepare").timer().count()).isEqualTo(1);
+        assertThat(stage("validate").timer().count()).isEqualTo(1);
+        assertThat(stage("parse").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("coupon.issuance.rows").tags("job", "7", "file.type", "csv.gz", "result", "parsed")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("coupon.issuance.rows").tag("result", "failed").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("coupon.issuance.storage.read.bytes").functionCounter().count()).isEqualTo(40);
+        assertThat(meterRegistry.get("coupon.issuance.chunk.commit").tag("job", "7").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 작업이_끝나고_보존_시간이_지나면_작업_지표를_지운다() throws InterruptedException {
+        IssuanceMetrics.JobMetrics metrics = issuanceMetrics.start(8L, "a.xlsx", new IssuanceProgress(8L, -1), System.nanoTime());
+        metrics.endStage("prepare");
+        assertThat(Search.in(meterRegistry).tag("job", "8").meters()).isNotEmpty();
+
+        metrics.close();
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!Search.in(meterRegistry).tag("job", "8").meters().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(Search.in(meterRegistry).tag("job", "8").meters()).isEmpty();
+    }
+
+    private RequiredSearch stage(String stage) {
+        return meterRegistry.get("coupon.issuance.stage").tag("stage", stage);
+    }
+}
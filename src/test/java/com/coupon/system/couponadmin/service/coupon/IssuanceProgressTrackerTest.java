@@ -0,0 +1,150 @@
+package com.coupon.system.couponadmin.service.coupon;
+
+import com.coupon.system.couponadmin.controller.coupon.CouponIssuanceController;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJob;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobRepository;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobStatus;
+import com.coupon.system.couponadmin.domain.couponissurancejob.CouponIssuanceJobSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class IssuanceProgressTrackerTest {
+
+    private final CouponIssuanceJobRepository couponIssuanceJobRepository = mock(CouponIssuanceJobRepository.class);
+    private final CouponIssuanceJobQueryService couponIssuanceJobQueryService = mock(CouponIssuanceJobQueryService.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final IssuanceProgressTracker tracker = new IssuanceProgressTracker(
+            couponIssuanceJobRepository, couponIssuanceJobQueryService, eventPublisher, 60_000);
+
+    private final CouponIssuanceService couponIssuanceService = mock(CouponIssuanceService.class);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(
+            new CouponIssuanceController(couponIssuanceService, mock(CouponExportService.class))).build();
+
+    @BeforeEach
+    void setUp() {
+        when(couponIssuanceService.subscribeProgress(anyLong()))
+                .thenAnswer(invocation -> tracker.subscribe(invocation.getArgument(0)));
+    }
+
+    @Test
+    void 실행_중인_작업은_건수가_바뀐_주기에만_DB에_반영하고_종료_이벤트로_스트림을_닫는다() throws Exception {
+        IssuanceProgress progress = tracker.start(1L, 1000);
+        recordSucceededRows(progress, 3);
+
+        MvcResult result = mockMvc.perform(get("/coupons/jobs/1/progress"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        tracker.flush();
+        tracker.flush(); // 건수가 그대로면 DB는 건드리지 않고 구독자에게만 보낸다
+        verify(couponIssuanceJobRepository, times(1)).updateProgress(1L, 3, 3, 0, 0);
+        verify(eventPublisher, times(1)).publishEvent(any(CouponIssuanceJobChangedEvent.class));
+
+        progress.recordRejectedRow();
+        tracker.flush();
+        verify(couponIssuanceJobRepository).updateProgress(1L, 4, 3, 1, 0);
+
+        tracker.finish(job(1L, CouponIssuanceJobStatus.COMPLETED));
+        result.getAsyncResult(1000); // 종료 이벤트 뒤에 스트림이 닫혀야 돌아온다
+
+        List<String> statuses = eventStatuses(result);
+        assertThat(statuses).containsExactly("PENDING", "PENDING", "PENDING", "PENDING", "COMPLETED");
+
+        tracker.flush(); // 끝난 작업은 더 이상 반영하지 않는다
+        verify(couponIssuanceJobRepository, times(2)).updateProgress(anyLong(), anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    void 상태를_읽은_직후_작업이_끝나도_구독자는_종료_상태를_받고_닫힌다() throws Exception {
+        //구독이 DB에서 대기 상태를 읽은 직후, 등록하기 전에 작업이 시작되고 끝난 경우
+        when(couponIssuanceJobQueryService.getSummary(2L))
+                .thenAnswer(invocation -> {
+                    tracker.start(2L, -1);
+                    tracker.finish(job(2L, CouponIssuanceJobStatus.COMPLETED));
+                    return summary(2L, CouponIssuanceJobStatus.QUEUED);
+                })
+                .thenReturn(summary(2L, CouponIssuanceJobStatus.COMPLETED));
+
+        MvcResult result = mockMvc.perform(get("/coupons/jobs/2/progress"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        result.getAsyncResult(1000);
+        assertThat(eventStatuses(result)).containsExactly("COMPLETED");
+    }
+
+    @Test
+    void 대기_중인_작업의_구독은_작업이_끝날_때까지_유지된다() throws Exception {
+        when(couponIssuanceJobQueryService.getSummary(3L)).thenReturn(summary(3L, CouponIssuanceJobStatus.QUEUED));
+
+        MvcResult result = mockMvc.perform(get("/coupons/jobs/3/progress"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(result.getRequest().isAsyncStarted()).isTrue();
+
+        tracker.start(3L, -1);
+        tracker.flush();
+        tracker.finish(job(3L, CouponIssuanceJobStatus.FAILED));
+
+        result.getAsyncResult(1000);
+        assertThat(eventStatuses(result)).containsExactly("QUEUED", "PENDING", "FAILED");
+    }
+
+    @Test
+    void 재개한_작업의_처리_속도는_복원한_건수를_빼고_계산한다() throws Exception {
+        IssuanceProgress progress = new IssuanceProgress(4L, -1);
+        progress.restore(100_000, 90_000, 5_000, 5_000);
+        assertThat(progress.getRowsPerSecond()).isZero();
+
+        Thread.sleep(50);
+        progress.recordChunkSucceeded(10, 0);
+
+        assertThat(progress.getSuccessCount()).isEqualTo(90_010);
+        assertThat(progress.getRowsPerSecond()).isPositive().isLessThanOrEqualTo(10 / 0.05);
+    }
+
+    private static void recordSucceededRows(IssuanceProgress progress, int rows) {
+        for (int i = 0; i < rows; i++) {
+            progress.recordParsedRow();
+        }
+        progress.recordChunkSucceeded(rows, 0);
+    }
+
+    private static List<String> eventStatuses(MvcResult result) throws Exception {
+        String body = result.getResponse().getContentAsString();
+        return Arrays.stream(body.split("\n"))
+                .filter(line -> line.startsWith("data:"))
+                .map(line -> line.replaceAll(".*\"jobStatus\":\"([A-Z]+)\".*", "$1"))
+                .toList();
+    }
+
+    private static CouponIssuanceJob job(Long jobId, CouponIssuanceJobStatus status) {
+        CouponIssuanceJob job = mock(CouponIssuanceJob.class);
+        when(job.getId()).thenReturn(jobId);
+        when(job.getJobStatus()).thenReturn(status);
+        return job;
+    }
+
+    private static CouponIssuanceJobSummary summary(Long jobId, CouponIssuanceJobStatus status) {
+        return new CouponIssuanceJobSummary(jobId, "users.csv", status, 0, 0, 0, 0, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,61 @@
+package com.coupon.system.couponadmin.service.coupon.code;
+
+import com.coupon.system.couponadmin.domain.coupon.CouponCodeSequenceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(CouponCodeBlockAllocator.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 예약은 각자 새 트랜잭션으로 커밋된다
+class CouponCodeBlockAllocatorTest {
+
+    @Autowired
+    private CouponCodeBlockAllocator allocator;
+
+    @Autowired
+    private CouponCodeSequenceRepository couponCodeSequenceRepository;
+
+    @Test
+    void 빈_DB에서_동시에_처음_예약해도_모두_성공하고_구간이_겹치지_않는다() throws Exception {
+        couponCodeSequenceRepository.deleteAll();
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                Callable<Long> reserve = () -> {
+                    start.await();
+                    return allocator.reserve(100, 0);
+                };
+                futures.add(executor.submit(reserve));
+            }
+            start.countDown();
+
+            List<Long> starts = new ArrayList<>();
+            for (Future<Long> future : futures) {
+                starts.add(future.get());
+            }
+            assertThat(starts).doesNotHaveDuplicates()
+                    .allSatisfy(value -> assertThat(value % 100).isZero());
+            assertThat(couponCodeSequenceRepository.findAll()).singleElement()
+                    .satisfies(sequence -> assertThat(sequence.getNextValue()).isEqualTo(threads * 100L));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
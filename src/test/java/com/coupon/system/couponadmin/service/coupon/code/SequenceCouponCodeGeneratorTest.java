@@ -0,0 +1,96 @@
+package com.coupon.system.couponadmin.service.coupon.code;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SequenceCouponCodeGeneratorTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret";
+
+    @Test
+    void 시퀀스가_다르면_랜덤_값이_같아도_코드가_중복되지_않는다() {
+        SequenceCouponCodeGenerator generator = generator(mock(CouponCodeBlockAllocator.class), 1);
+
+        //윈도우(2^20) 경계를 걸치는 구간
+        Set<String> codes = new HashSet<>();
+        for (long sequence = (1L << 20) - 100_000; sequence < (1L << 20) + 100_000; sequence++) {
+            codes.add(generator.encode(sequence, 0));
+        }
+
+        assertThat(codes).hasSize(200_000);
+    }
+
+    @Test
+    void 생성된_코드는_체크_문자_검증을_통과하고_한_글자만_바뀌어도_실패한다() {
+        CouponCodeBlockAllocator allocator = mock(CouponCodeBlockAllocator.class);
+        when(allocator.reserve(anyInt(), anyLong())).thenReturn(0L, 100L);
+        SequenceCouponCodeGenerator generator = generator(allocator, 100);
+
+        for (int i = 0; i < 150; i++) {
+            String code = generator.nextCode();
+            assertThat(code).hasSize(SequenceCouponCodeGenerator.CODE_LENGTH);
+            assertThat(SequenceCouponCodeGenerator.isValid(code)).isTrue();
+
+            char replaced = code.charAt(3) == '0' ? '1' : '0';
+            String typo = code.substring(0, 3) + replaced + code.substring(4);
+            assertThat(SequenceCouponCodeGenerator.isValid(typo)).isFalse();
+        }
+    }
+
+    @Test
+    void 같은_윈도우의_코드는_접두어를_공유하고_윈도우_순서대로_정렬되며_나머지는_섞인다() {
+        SequenceCouponCodeGenerator generator = generator(mock(CouponCodeBlockAllocator.class), 1);
+        long window = 5;
+
+        //삽입 지역성 : 윈도우 안의 코드는 앞 4자가 같고, 다음 윈도우의 코드는 항상 뒤에 정렬된다
+        Set<String> prefixes = new HashSet<>();
+        Set<String> shuffledParts = new HashSet<>();
+        for (long sequence = window << 20; sequence < (window << 20) + 1000; sequence++) {
+            String code = generator.encode(sequence, 7);
+            prefixes.add(code.substring(0, 4));
+            shuffledParts.add(code.substring(4, 8));
+            assertThat(code).isLessThan(generator.encode((window + 1) << 20, 0));
+        }
+        assertThat(prefixes).containsExactly("0005");
+        //추측 불가 : 연속된 시퀀스라도 접두어 뒤의 4자가 거의 겹치지 않는다
+        assertThat(shuffledParts.size()).isGreaterThan(990);
+
+        //같은 시퀀스도 랜덤 값마다, 같은 윈도우 안 위치도 윈도우마다 다른 코드가 된다
+        assertThat(generator.encode(42, 1)).isNotEqualTo(generator.encode(42, 2));
+        assertThat(generator.encode(42, 1).substring(4)).isNotEqualTo(generator.encode((1L << 20) + 42, 1).substring(4));
+    }
+
+    @Test
+    void 비밀키가_다르면_같은_값도_다른_코드가_된다() {
+        SequenceCouponCodeGenerator generator = generator(mock(CouponCodeBlockAllocator.class), 1);
+        SequenceCouponCodeGenerator other = new SequenceCouponCodeGenerator(mock(CouponCodeBlockAllocator.class), 1,
+                "other-secret-other-secret-other-secret");
+
+        assertThat(generator.encode(1, 1)).isEqualTo(generator.encode(1, 1));
+        assertThat(other.encode(1, 1)).isNotEqualTo(generator.encode(1, 1));
+    }
+
+    @Test
+    void 비밀키가_없거나_짧으면_생성할_수_없다() {
+        CouponCodeBlockAllocator allocator = mock(CouponCodeBlockAllocator.class);
+
+        assertThatThrownBy(() -> new SequenceCouponCodeGenerator(allocator, 1, ""))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SequenceCouponCodeGenerator(allocator, 1, "short-secret"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("coupon.issuance.code.secret");
+    }
+
+    private static SequenceCouponCodeGenerator generator(CouponCodeBlockAllocator allocator, int blockSize) {
+        return new SequenceCouponCodeGenerator(allocator, blockSize, SECRET);
+    }
+}
@@ -0,0 +1,67 @@
+package com.coupon.system.couponadmin.service.coupon.dedupe;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedCustomerIdDeduplicatorTest {
+
+    @Test
+    void 같은_customer_id는_두_번째부터_중복으로_판정한다() {
+        BoundedCustomerIdDeduplicator deduplicator = new BoundedCustomerIdDeduplicator(1L, 64L * 1024 * 1024);
+
+        for (int i = 0; i < 200_000; i++) {
+            assertThat(deduplicator.add(String.valueOf(i))).isTrue();
+            assertThat(deduplicator.add("user-" + i)).isTrue();
+        }
+        for (int i = 0; i < 200_000; i += 1000) {
+            assertThat(deduplicator.add(String.valueOf(i))).isFalse();
+            assertThat(deduplicator.add("user-" + i)).isFalse();
+        }
+
+        assertThat(deduplicator.getDuplicateCount()).isEqualTo(400);
+    }
+
+    @Test
+    void 앞자리_0이_있는_숫자는_다른_고객으로_본다() {
+        BoundedCustomerIdDeduplicator deduplicator = new BoundedCustomerIdDeduplicator(1L, 1024 * 1024);
+
+        assertThat(deduplicator.add("7")).isTrue();
+        assertThat(deduplicator.add("007")).isTrue();
+        assertThat(deduplicator.add("0")).isTrue();
+        assertThat(deduplicator.add("0")).isFalse();
+    }
+
+    @Test
+    void 메모리_상한을_넘어_블룸_필터로_전환해도_처음_나온_고객을_중복으로_판정하지_않는다() throws IOException {
+        // 상한 2MB : 키 집합은 1MB(131072 슬롯, 98304건)까지만 커지고, 그 뒤로는 파일로 내린다
+        Long jobId = 987_654L;
+        try (BoundedCustomerIdDeduplicator deduplicator = new BoundedCustomerIdDeduplicator(jobId, 2L * 1024 * 1024)) {
+            for (int i = 0; i < 300_000; i++) {
+                assertThat(deduplicator.add(String.valueOf(i))).isTrue();
+            }
+            assertThat(spilledFiles(jobId)).isGreaterThanOrEqualTo(3);
+
+            //이미 나온 고객과 처음 나온 고객이 섞여 들어와도 모두 정확히 판정한다
+            for (int i = 0; i < 300_000; i++) {
+                assertThat(deduplicator.add(String.valueOf(i))).isFalse();
+                assertThat(deduplicator.add("user-" + i)).isTrue();
+            }
+            assertThat(deduplicator.add("user-0")).isFalse();
+            assertThat(deduplicator.getDuplicateCount()).isEqualTo(300_001);
+        }
+
+        assertThat(spilledFiles(jobId)).isZero();
+    }
+
+    private static long spilledFiles(Long jobId) throws IOException {
+        try (Stream<Path> files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(file -> file.getFileName().toString().startsWith("dedupe-keys-" + jobId + "-")).count();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.coupon.system.couponadmin.service.coupon.parser;
+
+import com.coupon.system.couponadmin.exception.coupon.InvalidFileException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvCustomerIdParserTest {
+
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    @Test
+    void 따옴표_필드와_다른_컬럼_CRLF를_처리하고_첫_컬럼만_읽는다() throws IOException {
+        String csv = "customer_id,name\r\n"
+                + "  1001  ,kim\r\n"
+                + "\"10,02\",\"lee\"\r\n"
+                + "\"say \"\"hi\"\"\",\"multi\nline\"\r\n"
+                + "\r\n"
+                + "1004";
+
+        Recorder recorder = parse(new CsvCustomerIdParser(StandardCharsets.UTF_8, 16), csv.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(recorder.ids).containsExactly("1001", "10,02", "say \"hi\"", "1004");
+        // 행 위치 = 레코드 시작 바이트 오프셋 (CRLF, 따옴표 안 줄바꿈, 빈 행 포함)
+        assertThat(recorder.rows).containsExactly(18L, 32L, 47L, 76L);
+    }
+
+    @Test
+    void UTF8_BOM이_있으면_설정과_무관하게_UTF8로_읽는다() throws IOException {
+        byte[] body = "customer_id\n고객A\n".getBytes(StandardCharsets.UTF_8);
+        byte[] withBom = new byte[body.length + 3];
+        withBom[0] = (byte) 0xEF;
+        withBom[1] = (byte) 0xBB;
+        withBom[2] = (byte) 0xBF;
+        System.arraycopy(body, 0, withBom, 3, body.length);
+
+        Recorder recorder = parse(new CsvCustomerIdParser(EUC_KR), withBom);
+
+        assertThat(recorder.ids).containsExactly("고객A");
+    }
+
+    @Test
+    void EUC_KR로_설정하면_한글_ID를_그대로_읽는다() throws IOException {
+        byte[] csv = "customer_id\n홍길동\n김철수,x\n".getBytes(EUC_KR);
+
+        Recorder recorder = parse(new CsvCustomerIdParser(EUC_KR, 16), csv);
+
+        assertThat(recorder.ids).containsExactly("홍길동", "김철수");
+    }
+
+    @Test
+    void 길이를_넘는_값은_거절하고_다음_행을_계속_읽는다() throws IOException {
+        String csv = "customer_id\n" + "x".repeat(101) + "\n" + "y".repeat(5000) + "\n1\n";
+
+        Recorder recorder = parse(new CsvCustomerIdParser(StandardCharsets.UTF_8, 64), csv.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(recorder.ids).containsExactly("1");
+        assertThat(recorder.rejectedRows).containsExactly(12L, 114L);
+    }
+
+    @Test
+    void 헤더가_다르거나_데이터가_없으면_예외() {
+        CsvCustomerIdParser parser = new CsvCustomerIdParser(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> parse(parser, "id\n1\n".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(InvalidFileException.class);
+        assertThatThrownBy(() -> parse(parser, "customer_id\n\n  \n".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(InvalidFileException.class);
+        assertThatThrownBy(() -> parse(parser, utf16("customer_id\n1\n")))
+                .isInstanceOf(InvalidFileException.class);
+    }
+
+    private static byte[] utf16(String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0xFF);
+        out.write(0xFE);
+        out.write(text.getBytes(StandardCharsets.UTF_16LE));
+        return out.toByteArray();
+    }
+
+    private static Recorder parse(CsvCustomerIdParser parser, byte[] bytes) throws IOException {
+        Recorder recorder = new Recorder();
+        parser.parse(new ByteArrayInputStream(bytes), recorder);
+        return recorder;
+    }
+
+    private static class Recorder implements CustomerIdHandler {
+        final List<String> ids = new ArrayList<>();
+        final List<Long> rows = new ArrayList<>();
+        final List<Long> rejectedRows = new ArrayList<>();
+
+        @Override
+        public void onCustomerId(long rowNum, String customerId) {
+            ids.add(customerId);
+            rows.add(rowNum);
+        }
+
+        @Override
+        public void onRejected(long rowNum, String rawValue, String reason) {
+            rejectedRows.add(rowNum);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.coupon.system.couponadmin.service.coupon.parser;
+
+import com.coupon.system.couponadmin.exception.coupon.InvalidFileException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CustomerIdParserFactoryTest {
+
+    private static final byte[] CSV = "customer_id\n1001\n1002\n".getBytes(StandardCharsets.UTF_8);
+
+    private final CustomerIdParserFactory factory = new CustomerIdParserFactory("UTF-8", 1, 64);
+
+    @AfterEach
+    void tearDown() {
+        factory.shutdown();
+    }
+
+    @Test
+    void gzip_CSV는_읽으면서_압축을_푼다() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(CSV);
+        }
+
+        assertThat(parse("audience.CSV.GZ", compressed.toByteArray())).containsExactly("1001", "1002");
+    }
+
+    @Test
+    void zip은_메타데이터를_건너뛰고_첫_CSV_항목을_읽는다() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(compressed)) {
+            zip.putNextEntry(new ZipEntry("__MACOSX/._audience.csv"));
+            zip.write(new byte[]{0, 1, 2});
+            zip.putNextEntry(new ZipEntry("readme.txt"));
+            zip.write("hello".getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry("data/audience.csv"));
+            zip.write(CSV);
+        }
+
+        assertThat(parse("audience.zip", compressed.toByteArray())).containsExactly("1001", "1002");
+    }
+
+    @Test
+    void 압축_형식이_맞지_않거나_CSV가_없으면_예외() {
+        assertThatThrownBy(() -> parse("audience.csv.gz", CSV))
+                .isInstanceOf(InvalidFileException.class);
+        assertThatThrownBy(() -> parse("audience.zip", CSV))
+                .isInstanceOf(InvalidFileException.class);
+    }
+
+    @Test
+    void 확장자_검증은_두_단계_확장자를_포함한다() {
+        assertThat(CustomerIdParserFactory.isSupported("a.csv.gz")).isTrue();
+        assertThat(CustomerIdParserFactory.isSupported("a.ZIP")).isTrue();
+        assertThat(CustomerIdParserFactory.isSupported("a.gz")).isFalse();
+        assertThat(CustomerIdParserFactory.isSupported("a.txt")).isFalse();
+    }
+
+    private List<String> parse(String fileName, byte[] content) throws IOException {
+        List<String> ids = new ArrayList<>();
+        factory.resolve(fileName).parse(new ByteArrayInputStream(content), (rowNum, customerId) -> ids.add(customerId));
+        return ids;
+    }
+}
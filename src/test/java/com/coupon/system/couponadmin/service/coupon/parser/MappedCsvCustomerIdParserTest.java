@@ -0,0 +1,148 @@
+package com.coupon.system.couponadmin.service.coupon.parser;
+
+import com.coupon.system.couponadmin.exception.coupon.InvalidFileException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedCsvCustomerIdParserTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final CsvCustomerIdParser csvParser = new CsvCustomerIdParser(StandardCharsets.UTF_8, 16);
+    // 구간을 아주 작게 잡아 따옴표 필드 안 줄바꿈이 경계에 걸리도록 한다
+    private final MappedCsvCustomerIdParser parser = new MappedCsvCustomerIdParser(csvParser, pool, 32);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void 구간으로_나눠_읽어도_순차_파싱과_같은_행_위치와_값을_얻는다() throws IOException {
+        StringBuilder csv = new StringBuilder("customer_id,memo\r\n");
+        for (int i = 0; i < 200; i++) {
+            switch (i % 4) {
+                case 0 -> csv.append(i).append(",plain\r\n");
+                case 1 -> csv.append('"').append(i).append("\",\"multi\nline\nmemo\"\n");
+                case 2 -> csv.append("\"").append(i).append("\r\n").append(i).append("\"\n"); // 첫 필드 안 줄바꿈
+                default -> csv.append("\n").append(i).append('\n'); // 빈 행
+            }
+        }
+        Path file = write(csv.toString());
+
+        Map<Long, String> expected = new ConcurrentSkipListMap<>();
+        Map<Long, String> expectedRejected = new ConcurrentSkipListMap<>();
+        csvParser.parse(new ByteArrayInputStream(Files.readAllBytes(file)), new CustomerIdHandler() {
+            @Override
+            public void onCustomerId(long rowNum, String customerId) {
+                expected.put(rowNum, customerId);
+            }
+
+            @Override
+            public void onRejected(long rowNum, String rawValue, String reason) {
+                expectedRejected.put(rowNum, rawValue);
+            }
+        });
+
+        Map<Long, String> actual = new ConcurrentSkipListMap<>();
+        Map<Long, String> actualRejected = new ConcurrentSkipListMap<>();
+        Map<Long, Long> lastRowByRange = new ConcurrentHashMap<>();
+        AtomicInteger finishedRanges = new AtomicInteger();
+        AtomicLong bytesRead = new AtomicLong();
+        boolean parsed = parser.parse(file, rangeStart -> new CustomerIdRangeHandler() {
+            @Override
+            public void onCustomerId(long rowNum, String customerId) {
+                assertThat(rowNum).isGreaterThanOrEqualTo(lastRowByRange.getOrDefault(rangeStart, rangeStart));
+                lastRowByRange.put(rangeStart, rowNum);
+                actual.put(rowNum, customerId);
+            }
+
+            @Override
+            public void onRejected(long rowNum, String rawValue, String reason) {
+                actualRejected.put(rowNum, rawValue);
+            }
+
+            @Override
+            public void onRangeEnd() {
+                finishedRanges.incrementAndGet();
+            }
+        }, bytesRead::addAndGet);
+
+        assertThat(parsed).isTrue();
+        assertThat(actual).isEqualTo(expected).hasSize(200);
+        assertThat(actualRejected).isEqualTo(expectedRejected);
+        assertThat(finishedRanges.get()).isGreaterThan(1);
+        assertThat(bytesRead.get()).isEqualTo(Files.size(file));
+    }
+
+    @Test
+    void 경계가_따옴표_필드_안이면_필드가_닫힌_뒤로_옮긴다() throws IOException {
+        String csv = "customer_id\n\"1\",\"" + "x\n".repeat(100) + "\"\n2\n3\n";
+        Path file = write(csv);
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            long[] boundaries = parser.split(channel, channel.size());
+
+            int afterQuotedField = csv.indexOf("\"\n2\n") + 2;
+            assertThat(boundaries).startsWith(0).endsWith(csv.length());
+            for (long boundary : boundaries) {
+                assertThat(boundary == 0 || boundary >= afterQuotedField).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void 따옴표_짝이_맞지_않으면_나누지_않고_아무것도_읽지_않은_채_false를_돌려준다() throws IOException {
+        Path file = write("customer_id\n" + "1\n".repeat(100) + "\"unclosed\n" + "2\n".repeat(100));
+        AtomicInteger handlers = new AtomicInteger();
+        AtomicLong bytesRead = new AtomicLong();
+
+        boolean parsed = parser.parse(file, rangeStart -> {
+            handlers.incrementAndGet();
+            return null;
+        }, bytesRead::addAndGet);
+
+        assertThat(parsed).isFalse(); // 호출한 쪽이 순차 파서로 다시 읽는다
+        assertThat(handlers.get()).isZero();
+        assertThat(bytesRead.get()).isZero();
+        try (FileChannel channel = FileChannel.open(file)) {
+            assertThat(parser.split(channel, channel.size())).isNull();
+        }
+    }
+
+    @Test
+    void 헤더가_잘못되면_어떤_구간도_읽기_전에_거절한다() throws IOException {
+        Path file = write("id\n" + "1\n".repeat(100));
+        AtomicInteger handlers = new AtomicInteger();
+
+        assertThatThrownBy(() -> parser.parse(file, rangeStart -> {
+            handlers.incrementAndGet();
+            return null;
+        }, bytes -> { }))
+                .isInstanceOf(InvalidFileException.class);
+        assertThat(handlers.get()).isZero();
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(tempDir.resolve("customers.csv"), content, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,92 @@
+package com.coupon.system.couponadmin.service.coupon.parser;
+
+import com.coupon.system.couponadmin.exception.coupon.InvalidFileException;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * excel-streaming-reader(StreamingReader)로 읽는 .xlsx 파서
+ * XSSFWorkbook이 쓰는 공유 문자열 테이블, 숫자 셀, 빈 행, 행 캐시보다 긴 시트를 실제 파일로 확인한다
+ */
+class XlsxCustomerIdParserTest {
+
+    @Test
+    void 스트리밍으로_첫_시트의_첫_컬럼을_읽는다() throws IOException {
+        byte[] xlsx = xlsx(sheet -> {
+            sheet.createRow(0).createCell(0).setCellValue("customer_id");
+            sheet.createRow(1).createCell(0).setCellValue("1001");
+            Row numeric = sheet.createRow(2);
+            numeric.createCell(0).setCellValue(1002); // 숫자 셀도 문자열로 읽음
+            numeric.createCell(1).setCellValue("ignored");
+        });
+
+        List<String> ids = new ArrayList<>();
+        new XlsxCustomerIdParser().parse(new ByteArrayInputStream(xlsx), (rowNum, customerId) -> ids.add(customerId));
+
+        assertThat(ids).containsExactly("1001", "1002");
+    }
+
+    @Test
+    void 행_캐시보다_긴_시트도_행_번호와_함께_순서대로_모두_읽는다() throws IOException {
+        int rows = 5_000; // 행 캐시(100행)의 50배
+        byte[] xlsx = xlsx(sheet -> {
+            sheet.createRow(0).createCell(0).setCellValue("customer_id");
+            for (int i = 1; i <= rows; i++) {
+                if (i % 1000 == 0) continue; // 빈 행 (POI는 행 자체를 쓰지 않음)
+                if (i % 2 == 0) {
+                    sheet.createRow(i).createCell(0).setCellValue(10_000_000_000L + i); // 지수 표기가 되면 안 되는 큰 숫자
+                } else {
+                    sheet.createRow(i).createCell(0).setCellValue("user-" + i); // 공유 문자열 테이블
+                }
+            }
+        });
+
+        List<Long> rowNums = new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+        new XlsxCustomerIdParser().parse(new ByteArrayInputStream(xlsx), (rowNum, customerId) -> {
+            rowNums.add(rowNum);
+            ids.add(customerId);
+        });
+
+        assertThat(ids).hasSize(rows - rows / 1000);
+        assertThat(ids).startsWith("user-1", "10000000002", "user-3").endsWith("user-4999");
+        assertThat(rowNums).startsWith(1L, 2L, 3L).doesNotContain(1000L, 2000L).isSorted();
+    }
+
+    @Test
+    void 헤더가_다르거나_데이터_행이_없으면_거부한다() throws IOException {
+        byte[] wrongHeader = xlsx(sheet -> {
+            sheet.createRow(0).createCell(0).setCellValue("name");
+            sheet.createRow(1).createCell(0).setCellValue("1001");
+        });
+        byte[] headerOnly = xlsx(sheet -> sheet.createRow(0).createCell(0).setCellValue("customer_id"));
+
+        assertThatThrownBy(() -> new XlsxCustomerIdParser().parse(new ByteArrayInputStream(wrongHeader), (rowNum, customerId) -> {}))
+                .isInstanceOf(InvalidFileException.class)
+                .hasMessageContaining("헤더");
+        assertThatThrownBy(() -> new XlsxCustomerIdParser().parse(new ByteArrayInputStream(headerOnly), (rowNum, customerId) -> {}))
+                .isInstanceOf(InvalidFileException.class)
+                .hasMessage("헤더 외에 회원 목록이 비어있습니다.");
+    }
+
+    private static byte[] xlsx(Consumer<Sheet> writer) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            writer.accept(workbook.createSheet());
+            workbook.write(out);
+        }
+        return out.toByteArray();
+    }
+}
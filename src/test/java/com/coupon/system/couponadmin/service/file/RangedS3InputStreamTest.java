@@ -0,0 +1,87 @@
+package com.coupon.system.couponadmin.service.file;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RangedS3InputStreamTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final S3Client s3Client = mock(S3Client.class);
+    private final byte[] object = new byte[1000];
+
+    RangedS3InputStreamTest() {
+        new Random(42).nextBytes(object);
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            String[] range = request.range().substring("bytes=".length()).split("-");
+            int start = Integer.parseInt(range[0]);
+            int end = Integer.parseInt(range[1]);
+            return ResponseBytes.fromByteArray(GetObjectResponse.builder().build(),
+                    Arrays.copyOfRange(object, start, end + 1));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 범위별로_받은_파트를_원래_순서대로_이어서_읽는다() throws IOException {
+        try (InputStream in = new RangedS3InputStream(s3Client, "bucket", "key", object.length, "\"etag\"", 64, 3, executor)) {
+            // 읽기 전에는 prefetch 파트 수만큼만 요청해 둔다
+            verify(s3Client, timeout(1000).times(3)).getObjectAsBytes(any(GetObjectRequest.class));
+
+            byte[] first = new byte[10];
+            assertThat(in.read(first)).isEqualTo(10);
+            assertThat(in.read()).isEqualTo(object[10] & 0xFF);
+            byte[] rest = in.readAllBytes();
+
+            byte[] all = new byte[object.length];
+            System.arraycopy(first, 0, all, 0, 10);
+            all[10] = object[10];
+            System.arraycopy(rest, 0, all, 11, rest.length);
+            assertThat(all).isEqualTo(object);
+            assertThat(in.read()).isEqualTo(-1);
+        }
+
+        verify(s3Client, times(16)).getObjectAsBytes(any(GetObjectRequest.class)); // ceil(1000 / 64)
+        verify(s3Client).getObjectAsBytes(argThat((GetObjectRequest r) ->
+                "bytes=960-999".equals(r.range()) && "\"etag\"".equals(r.ifMatch())));
+    }
+
+    @Test
+    void 범위_GET이_실패하면_읽을_때_IOException을_던진다() {
+        when(s3Client.getObjectAsBytes(argThat((GetObjectRequest r) -> "bytes=64-127".equals(r.range()))))
+                .thenThrow(S3Exception.builder().statusCode(412).message("Precondition Failed").build());
+
+        assertThatThrownBy(() -> {
+            try (InputStream in = new RangedS3InputStream(s3Client, "bucket", "key", object.length, "\"etag\"", 64, 2, executor)) {
+                in.readAllBytes();
+            }
+        }).isInstanceOf(IOException.class)
+                .hasCauseInstanceOf(S3Exception.class);
+    }
+}
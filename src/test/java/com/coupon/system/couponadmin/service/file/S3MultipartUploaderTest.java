@@ -0,0 +1,100 @@
+package com.coupon.system.couponadmin.service.file;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3MultipartUploaderTest {
+
+    private static final int PART_SIZE = S3MultipartUploader.MIN_PART_SIZE;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+    private final S3Client s3Client = mock(S3Client.class);
+    private final S3MultipartUploader uploader = new S3MultipartUploader(s3Client, "bucket", PART_SIZE, 2, executor);
+    private final Map<Integer, byte[]> uploadedParts = new TreeMap<>();
+
+    S3MultipartUploaderTest() {
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            RequestBody body = invocation.getArgument(1);
+            byte[] bytes = body.contentStreamProvider().newStream().readAllBytes();
+            synchronized (uploadedParts) {
+                uploadedParts.put(request.partNumber(), bytes);
+            }
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 파트로_나눠_올린_뒤_파트_번호_순서대로_완료한다() throws IOException {
+        byte[] file = new byte[PART_SIZE * 2 + 1234];
+        new Random(7).nextBytes(file);
+
+        uploader.upload("uploads/a.csv", "text/csv", new ByteArrayInputStream(file), file.length);
+
+        ByteArrayOutputStream joined = new ByteArrayOutputStream();
+        for (byte[] part : uploadedParts.values()) {
+            joined.write(part);
+        }
+        assertThat(uploadedParts).containsOnlyKeys(1, 2, 3);
+        assertThat(joined.toByteArray()).isEqualTo(file);
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(complete.capture());
+        assertThat(complete.getValue().multipartUpload().parts())
+                .extracting(CompletedPart::partNumber, CompletedPart::eTag)
+                .containsExactly(
+                        tuple(1, "etag-1"),
+                        tuple(2, "etag-2"),
+                        tuple(3, "etag-3"));
+    }
+
+    @Test
+    void 파트_업로드가_실패하면_멀티파트_업로드를_중단한다() {
+        when(s3Client.uploadPart(argThat((UploadPartRequest r) -> r != null && r.partNumber() == 2), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().statusCode(500).message("InternalError").build());
+        byte[] file = new byte[PART_SIZE * 3];
+
+        assertThatThrownBy(() -> uploader.upload("uploads/a.csv", "text/csv", new ByteArrayInputStream(file), file.length))
+                .isInstanceOf(IOException.class);
+
+        verify(s3Client).abortMultipartUpload(argThat((AbortMultipartUploadRequest r) -> "upload-1".equals(r.uploadId())));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+}
@@ -0,0 +1,71 @@
+package com.coupon.system.couponadmin.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveBatchSizePolicyTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    private final AdaptiveBatchSizePolicy policy = new AdaptiveBatchSizePolicy(100, 10_000, 1000, Duration.ofMillis(100));
+
+    @Test
+    void 커밋이_목표보다_빠르면_한_번에_25퍼센트씩_최대_크기까지_늘린다() {
+        policy.onSuccess(1000, 5 * MILLIS); // 목표의 1/20
+
+        assertThat(policy.currentSize()).isEqualTo(1250);
+
+        for (int i = 0; i < 30; i++) {
+            policy.onSuccess(policy.currentSize(), 5 * MILLIS * policy.currentSize() / 1000);
+        }
+        assertThat(policy.currentSize()).isEqualTo(10_000);
+    }
+
+    @Test
+    void 커밋이_목표보다_느리면_목표에_맞는_크기로_줄이되_한_번에_절반까지만() {
+        policy.onSuccess(1000, 125 * MILLIS); // 아이템당 0.125ms -> 목표 100ms면 800개
+
+        assertThat(policy.currentSize()).isEqualTo(800);
+
+        policy.onSuccess(800, 800 * MILLIS); // 갑자기 아주 느려져도 절반까지만
+        assertThat(policy.currentSize()).isEqualTo(400);
+    }
+
+    @Test
+    void 목표_근처면_크기를_유지하고_마지막의_작은_배치는_추정에서_뺀다() {
+        policy.onSuccess(1000, 110 * MILLIS);
+        policy.onSuccess(30, 100 * MILLIS); // 남은 30개를 넘긴 마지막 배치
+
+        assertThat(policy.currentSize()).isEqualTo(1000);
+    }
+
+    @Test
+    void 실패하면_절반으로_줄이고_실패율이_내려갈_때까지_늘리지_않는다() {
+        policy.onFailure(1000);
+        policy.onFailure(1000); // 줄이기 전 크기로 함께 실패한 배치는 또 줄이지 않음
+        assertThat(policy.currentSize()).isEqualTo(500);
+
+        List<Integer> sizes = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            policy.onSuccess(policy.currentSize(), MILLIS); // 목표보다 훨씬 빠름
+            sizes.add(policy.currentSize());
+        }
+        assertThat(sizes.get(0)).isEqualTo(500);
+        assertThat(sizes.get(sizes.size() - 1)).isGreaterThan(500);
+    }
+
+    @Test
+    void 범위가_잘못되면_예외() {
+        assertThatThrownBy(() -> new AdaptiveBatchSizePolicy(0, 10, 5, Duration.ofMillis(100)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveBatchSizePolicy(10, 5, 5, Duration.ofMillis(100)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new AdaptiveBatchSizePolicy(10, 50, 1000, Duration.ofMillis(100)).currentSize()).isEqualTo(50);
+    }
+}
@@ -0,0 +1,70 @@
+package com.coupon.system.couponadmin.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalFileResponderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 구간_요청이면_206과_해당_바이트만_보낸다() throws IOException {
+        Path file = write("customer_id\n1001\n1002\n");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/coupons/jobs/1/file");
+        request.addHeader(HttpHeaders.RANGE, "bytes=12-16");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        LocalFileResponder.send(file, "회원목록.csv", request, response);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 12-16/22");
+        assertThat(response.getContentAsString()).isEqualTo("1001\n");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("filename*=UTF-8''");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotBlank();
+    }
+
+    @Test
+    void ETag가_같으면_본문_없이_304() throws IOException {
+        Path file = write("customer_id\n1001\n");
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        LocalFileResponder.send(file, "a.csv", new MockHttpServletRequest("GET", "/"), first);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, first.getHeader(HttpHeaders.ETAG));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        LocalFileResponder.send(file, "a.csv", request, response);
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getContentAsString()).isEqualTo("customer_id\n1001\n");
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void 파일_범위를_벗어난_구간은_416() throws IOException {
+        Path file = write("customer_id\n");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        LocalFileResponder.send(file, "a.csv", request, response);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */12");
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(tempDir.resolve("upload.csv"), content, StandardCharsets.UTF_8);
+    }
+}